@@ -0,0 +1,31 @@
+// 가상 스레드 모드와 플랫폼 스레드 모드의 동시 처리량 비교용 k6 스크립트
+// 같은 힙(-Xmx)으로 서버를 두 번 띄워 각각 실행하고 http_req_duration, http_reqs, 서버의 jvm.threads.live 를 비교
+//   java -Xmx512m -jar app.jar                                        (플랫폼 스레드, 톰캣 기본 최대 200개)
+//   java -Xmx512m -jar app.jar --spring.threads.virtual.enabled=true  (JDK 21 이상)
+//   k6 run -e BASE_URL=http://localhost -e VUS=2000 load-test/virtual-threads.js
+// 요청은 DB 를 조회하는 인증 없는 API 를 사용하므로, DB 커넥션 풀 크기도 두 실행에서 같게 유지해야 함
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost';
+const VUS = Number(__ENV.VUS || 1000);
+
+export const options = {
+    scenarios: {
+        ramp: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: '1m', target: VUS },
+                { duration: '10s', target: 0 },
+            ],
+        },
+    },
+};
+
+export default function () {
+    const res = http.get(`${BASE_URL}/members/check-id?userId=loadtest${__VU}`);
+
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
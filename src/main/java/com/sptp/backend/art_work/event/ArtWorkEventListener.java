@@ -2,30 +2,28 @@ package com.sptp.backend.art_work.event;
 
 import com.sptp.backend.art_work.repository.ArtWork;
 import com.sptp.backend.bidding.repository.Bidding;
-import com.sptp.backend.bidding.repository.BiddingRepository;
 import com.sptp.backend.common.NotificationCode;
 import com.sptp.backend.member.repository.Member;
 import com.sptp.backend.notification.repository.Notification;
 import com.sptp.backend.notification.repository.NotificationRepository;
+import com.sptp.backend.notification.service.NotificationService;
+import com.sptp.backend.notification.service.StillBidNotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
-@Async
 @Transactional
 @Component
 @RequiredArgsConstructor
 public class ArtWorkEventListener {
 
     private final NotificationRepository notificationRepository;
-    private final BiddingRepository biddingRepository;
+    private final NotificationService notificationService;
+    private final StillBidNotificationService stillBidNotificationService;
 
     // 작품 등록 완료(판매자), 입찰 알림(구매자), 입찰 경쟁 알림(구매실패자)
-    @EventListener
     public void handleArtWorkEvent(ArtWorkEvent artWorkEvent){
 
         NotificationCode notificationCode = artWorkEvent.getNotificationCode();
@@ -37,19 +35,14 @@ public class ArtWorkEventListener {
             saveNotification(member, artWork, bidding, notificationCode);
         }
         if(notificationCode.equals(NotificationCode.STILL_BID)) {
-            sendToFailure(member, artWork, notificationCode);
+            sendToFailure(artWork);
         }
     }
 
-    public void sendToFailure(Member member, ArtWork artWork, NotificationCode notificationCode) {
+    // 응찰마다 응찰자 전원에게 저장하지 않고 작품별로 한 번에 갱신
+    public void sendToFailure(ArtWork artWork) {
 
-        Iterable<Bidding> biddings = biddingRepository.findAllByArtWorkOrderByPriceDesc(artWork);
-
-        for(Bidding bidding : biddings) {
-            if(!member.getId().equals(bidding.getMember().getId())) {
-                saveNotification(bidding.getMember(), artWork, bidding, notificationCode);
-            }
-        }
+        stillBidNotificationService.notify(artWork.getId(), artWork.getTitle());
     }
 
     public void saveNotification(Member member, ArtWork artWork, Bidding bidding, NotificationCode notificationCode){
@@ -65,6 +58,7 @@ public class ArtWorkEventListener {
                     .build();
 
             notificationRepository.save(notification);
+            notificationService.notifyAfterCommit(notification);
             return;
         }
 
@@ -78,6 +72,6 @@ public class ArtWorkEventListener {
                 .build();
 
         notificationRepository.save(notification);
-
+        notificationService.notifyAfterCommit(notification);
     }
 }
@@ -14,6 +14,7 @@ import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -74,6 +75,26 @@ public class ArtWork extends BaseEntity {
     @Builder.Default
     private int likeCount = 0;
 
+    // 응찰 시 조건부 update 로 함께 갱신되는 최고 응찰 정보
+    private Long topPrice;
+
+    private Long topBidderId;
+
+    @Builder.Default
+    private int bidCount = 0;
+
+    // 마감 직전 응찰로 연장된 작품별 마감 시각. 연장되지 않았으면 경매 회차 종료일을 따름
+    private LocalDateTime endDate;
+
+    // 응찰이 없으면 시작가
+    public Long getCurrentPrice() {
+        return (topPrice == null) ? price : topPrice;
+    }
+
+    public LocalDateTime getClosingDate() {
+        return (endDate == null) ? auction.getEndDate() : endDate;
+    }
+
     public void statusToProcessing() {
         this.saleStatus = ArtWorkStatus.PROCESSING.getType();
     }
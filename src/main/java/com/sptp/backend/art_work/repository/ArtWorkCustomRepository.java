@@ -1,13 +1,29 @@
 package com.sptp.backend.art_work.repository;
 
+import com.querydsl.core.Tuple;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ArtWorkCustomRepository {
 
     void updateStatusToProcessing(Long auctionId);
 
+    void updateStatusToTerminated(List<Long> artWorkIds);
+
+    List<Tuple> findAuctionResults(Long auctionId, LocalDateTime now);
+
+    List<Tuple> findArtWorkResults(Long artWorkId, LocalDateTime now);
+
+    long extendEndDate(Long artWorkId, LocalDateTime expectedEndDate, LocalDateTime endDate);
+
+    List<Tuple> findExtendedArtWorks();
+
+    long updateTopBidding(Long artWorkId, Long memberId, Long price, boolean newBidder, LocalDateTime now);
+
+    List<ArtWork> findOpenArtWorks(Long auctionId, LocalDateTime now);
+
     List<ArtWork> findTerminatedAuctionArtWorkList(Long auctionId, Long artWorkId, Pageable pageable);
 
     List<ArtWork> findBySearchWord(String word);
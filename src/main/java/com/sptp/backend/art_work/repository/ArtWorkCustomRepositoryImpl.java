@@ -1,15 +1,21 @@
 package com.sptp.backend.art_work.repository;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sptp.backend.bidding.repository.Bidding;
 import com.sptp.backend.common.KeywordMap;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.sptp.backend.art_work.repository.QArtWork.*;
 import static com.sptp.backend.art_work_keyword.repository.QArtWorkKeyword.*;
+import static com.sptp.backend.auction.repository.QAuction.*;
 
 @RequiredArgsConstructor
 public class ArtWorkCustomRepositoryImpl implements ArtWorkCustomRepository {
@@ -26,6 +32,129 @@ public class ArtWorkCustomRepositoryImpl implements ArtWorkCustomRepository {
                 .execute();
     }
 
+    // 응찰자가 있는 작품은 낙찰, 없는 작품은 유찰로 일괄 변경
+    @Override
+    public void updateStatusToTerminated(List<Long> artWorkIds) {
+
+        if (artWorkIds.isEmpty()) {
+            return;
+        }
+
+        queryFactory
+                .update(artWork)
+                .set(artWork.saleStatus, ArtWorkStatus.SALES_SUCCESS.getType())
+                .where(artWork.id.in(artWorkIds),
+                        artWork.topBidderId.isNotNull())
+                .execute();
+
+        queryFactory
+                .update(artWork)
+                .set(artWork.saleStatus, ArtWorkStatus.SALES_FAILED.getType())
+                .where(artWork.id.in(artWorkIds),
+                        artWork.topBidderId.isNull())
+                .execute();
+    }
+
+    // 마감된 작품별 판매자와 낙찰자(최고 응찰자)를 한 번에 조회
+    // 회차 종료와 연장 작품 마감이 겹쳐도 한 쪽에서만 처리되도록 행 잠금
+    @Override
+    public List<Tuple> findAuctionResults(Long auctionId, LocalDateTime now) {
+
+        return queryFactory
+                .select(artWork.id, artWork.title, artWork.member.id, artWork.topBidderId)
+                .from(artWork)
+                .where(artWork.auction.id.eq(auctionId),
+                        artWork.saleStatus.eq(ArtWorkStatus.PROCESSING.getType()),
+                        artWork.endDate.isNull().or(artWork.endDate.loe(now)))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    @Override
+    public List<Tuple> findArtWorkResults(Long artWorkId, LocalDateTime now) {
+
+        return queryFactory
+                .select(artWork.id, artWork.title, artWork.member.id, artWork.topBidderId)
+                .from(artWork)
+                .where(artWork.id.eq(artWorkId),
+                        artWork.saleStatus.eq(ArtWorkStatus.PROCESSING.getType()),
+                        artWork.endDate.loe(now))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    // 읽은 마감 시각이 그대로일 때만 연장되므로, 동시에 들어온 마감 직전 응찰은 한 번만 연장
+    @Override
+    public long extendEndDate(Long artWorkId, LocalDateTime expectedEndDate, LocalDateTime endDate) {
+
+        return queryFactory
+                .update(artWork)
+                .set(artWork.endDate, endDate)
+                .where(artWork.id.eq(artWorkId),
+                        (expectedEndDate == null) ? artWork.endDate.isNull() : artWork.endDate.eq(expectedEndDate))
+                .execute();
+    }
+
+    @Override
+    public List<Tuple> findExtendedArtWorks() {
+
+        return queryFactory
+                .select(artWork.id, artWork.endDate)
+                .from(artWork)
+                .where(artWork.saleStatus.eq(ArtWorkStatus.PROCESSING.getType()),
+                        artWork.endDate.isNotNull())
+                .fetch();
+    }
+
+    // 진행 중이고 마감 전인 작품에 현재 최고가 기준 최소 호가 단위를 만족하는 응찰일 때만 갱신
+    // 갱신된 행이 없으면 더 높은 응찰이 먼저 반영되었거나, 응찰 검증 이후 행 잠금을 기다리는 사이 마감된 것
+    @Override
+    public long updateTopBidding(Long artWorkId, Long memberId, Long price, boolean newBidder, LocalDateTime now) {
+
+        return queryFactory
+                .update(artWork)
+                .set(artWork.topPrice, price)
+                .set(artWork.topBidderId, memberId)
+                .set(artWork.bidCount, artWork.bidCount.add(newBidder ? 1 : 0))
+                .where(artWork.id.eq(artWorkId),
+                        artWork.saleStatus.eq(ArtWorkStatus.PROCESSING.getType()),
+                        beforeClosingDate(now),
+                        validBidPrice(price))
+                .execute();
+    }
+
+    // 첫 응찰은 시작가 또는 시작가 + 최소 호가 단위 이상, 이후 응찰은 최고가 + 최소 호가 단위 이상
+    private BooleanExpression validBidPrice(Long price) {
+
+        long maximumTopPrice = Bidding.getMaximumTopPrice(price);
+
+        return artWork.topPrice.isNull().and(artWork.price.eq(price).or(artWork.price.loe(maximumTopPrice)))
+                .or(artWork.topPrice.loe(maximumTopPrice));
+    }
+
+    // 회차가 종료된 뒤에도 연장된 마감 시각 전이면 응찰 가능한 작품으로 조회
+    @Override
+    public List<ArtWork> findOpenArtWorks(Long auctionId, LocalDateTime now) {
+
+        return queryFactory
+                .selectFrom(artWork)
+                .where(artWork.auction.id.eq(auctionId),
+                        artWork.saleStatus.eq(ArtWorkStatus.PROCESSING.getType()),
+                        beforeClosingDate(now))
+                .fetch();
+    }
+
+    // 연장된 작품은 작품 마감 시각, 아니면 경매 회차 종료일 기준
+    private BooleanExpression beforeClosingDate(LocalDateTime now) {
+
+        return artWork.endDate.gt(now)
+                .or(artWork.endDate.isNull().and(artWork.auction.id.in(
+                        JPAExpressions
+                                .select(auction.id)
+                                .from(auction)
+                                .where(auction.endDate.goe(now)))));
+    }
+
     @Override
     public List<ArtWork> findTerminatedAuctionArtWorkList(Long auctionId, Long artWorkId, Pageable pageable) {
         List<ArtWork> results = queryFactory
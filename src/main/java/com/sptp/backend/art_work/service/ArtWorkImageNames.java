@@ -0,0 +1,16 @@
+package com.sptp.backend.art_work.service;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 업로드를 마친 작품 이미지의 저장 파일 이름
+@Getter
+@Builder
+public class ArtWorkImageNames {
+
+    private final String guaranteeImage;
+    private final String mainImage;
+    private final List<String> images;
+}
@@ -0,0 +1,90 @@
+package com.sptp.backend.art_work.service;
+
+import com.sptp.backend.art_work.web.dto.request.ArtWorkEditRequestDto;
+import com.sptp.backend.art_work.web.dto.request.ArtWorkSaveRequestDto;
+import com.sptp.backend.aws.service.AwsService;
+import com.sptp.backend.aws.service.FileManager;
+import com.sptp.backend.aws.service.ImageDerivativeService;
+import com.sptp.backend.aws.service.UploadSessionService;
+import com.sptp.backend.member.repository.Member;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+// 작품 등록, 수정 시 클라이언트가 S3에 직접 업로드한 이미지를 DB 트랜잭션 밖에서 확정한 뒤 ArtWorkService 트랜잭션으로 저장
+// 확정하는 동안 DB 커넥션을 잡고 있지 않고, 저장(커밋)에 실패하면 확정한 이미지를 삭제
+@Service
+@RequiredArgsConstructor
+public class ArtWorkRegistrationService {
+
+    private final ArtWorkService artWorkService;
+    private final AwsService awsService;
+    private final UploadSessionService uploadSessionService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final FileManager fileManager;
+
+    public Long saveArtWork(Long loginMemberId, ArtWorkSaveRequestDto dto) {
+
+        artWorkService.checkExistsImage(dto);
+
+        List<String> keys = new ArrayList<>();
+        keys.add(dto.getGuaranteeImage());
+        keys.addAll(Arrays.asList(dto.getImage()));
+
+        List<String> fileNames = uploadSessionService.commit(loginMemberId, keys);
+        ArtWorkImageNames imageNames = ArtWorkImageNames.builder()
+                .guaranteeImage(fileNames.get(0))
+                .mainImage(fileNames.get(1))
+                .images(fileNames.subList(1, fileNames.size()))
+                .build();
+
+        return save(fileNames, () -> artWorkService.saveArtWork(loginMemberId, dto, imageNames));
+    }
+
+    public void editArtWork(Member member, Long artWorkId, ArtWorkEditRequestDto dto) {
+
+        artWorkService.checkExistsImage(dto);
+
+        List<String> keys = new ArrayList<>();
+        keys.add(dto.getGuaranteeImage());
+
+        if (!dto.getImage()[0].isEmpty()) {
+            keys.addAll(Arrays.asList(dto.getImage()));
+        }
+
+        // 새 대표 이미지가 없으면 기존 이미지 중 첫 번째를 대표 이미지로 사용
+        List<String> fileNames = uploadSessionService.commit(member.getId(), keys);
+        List<String> images = fileNames.subList(1, fileNames.size());
+        ArtWorkImageNames imageNames = ArtWorkImageNames.builder()
+                .guaranteeImage(fileNames.get(0))
+                .mainImage(images.isEmpty() ? fileManager.extractImageDB(dto.getPrevImage().get(0)) : images.get(0))
+                .images(images)
+                .build();
+
+        save(fileNames, () -> {
+            artWorkService.editArtWork(member, artWorkId, dto, imageNames);
+            return null;
+        });
+    }
+
+    private <T> T save(List<String> fileNames, Supplier<T> save) {
+
+        T result;
+
+        try {
+            result = save.get();
+        } catch (RuntimeException e) {
+            awsService.deleteImages(fileNames);
+            throw e;
+        }
+
+        // 저장에 성공한 이미지만 목록용 축소 이미지 생성을 요청
+        imageDerivativeService.generateAsync(fileNames);
+
+        return result;
+    }
+}
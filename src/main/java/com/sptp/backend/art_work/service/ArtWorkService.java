@@ -13,12 +13,16 @@ import com.sptp.backend.art_work_keyword.repository.ArtWorkKeywordRepository;
 import com.sptp.backend.auction.repository.Auction;
 import com.sptp.backend.auction.repository.AuctionRepository;
 import com.sptp.backend.auction.repository.AuctionStatus;
+import com.sptp.backend.auction.schedule.ArtWorkClosingScheduler;
 import com.sptp.backend.auction.web.dto.response.AuctionArtWorkListResponseDto;
-import com.sptp.backend.aws.service.AwsService;
 import com.sptp.backend.aws.service.FileManager;
 import com.sptp.backend.bidding.repository.Bidding;
 import com.sptp.backend.bidding.repository.BiddingRepository;
-import com.sptp.backend.bidding.repository.QBidding;
+import com.sptp.backend.bidding.repository.ProxyBidding;
+import com.sptp.backend.bidding.repository.ProxyBiddingRepository;
+import com.sptp.backend.bidding.service.ArtWorkOrderBook;
+import com.sptp.backend.bidding.service.BiddingBroadcaster;
+import com.sptp.backend.bidding.service.BiddingOrderBook;
 import com.sptp.backend.common.KeywordMap;
 import com.sptp.backend.common.NotificationCode;
 import com.sptp.backend.common.entity.BaseEntity;
@@ -33,9 +37,8 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -48,10 +51,13 @@ public class ArtWorkService extends BaseEntity {
     private final ArtWorkKeywordRepository artWorkKeywordRepository;
     private final ArtWorkImageRepository artWorkImageRepository;
     private final MemberRepository memberRepository;
-    private final AwsService awsService;
     private final FileManager fileManager;
 
     private final BiddingRepository biddingRepository;
+    private final ProxyBiddingRepository proxyBiddingRepository;
+    private final BiddingOrderBook biddingOrderBook;
+    private final BiddingBroadcaster biddingBroadcaster;
+    private final ArtWorkClosingScheduler artWorkClosingScheduler;
     private final ApplicationEventPublisher eventPublisher;
 
     private final AuctionRepository auctionRepository;
@@ -60,8 +66,18 @@ public class ArtWorkService extends BaseEntity {
     @Value("${aws.storage.url}")
     private String storageUrl;
 
+    @Value("${auction.soft-close.enabled:false}")
+    private boolean softCloseEnabled;
+
+    @Value("${auction.soft-close.window-minutes:5}")
+    private long softCloseWindowMinutes;
+
+    @Value("${auction.soft-close.extension-minutes:5}")
+    private long softCloseExtensionMinutes;
+
+    // 이미지는 ArtWorkRegistrationService 에서 트랜잭션 밖에서 업로드하고, 여기서는 업로드된 파일 이름만 저장
     @Transactional
-    public Long saveArtWork(Long loginMemberId, ArtWorkSaveRequestDto dto) throws IOException {
+    public Long saveArtWork(Long loginMemberId, ArtWorkSaveRequestDto dto, ArtWorkImageNames imageNames) {
 
         List<Auction> latestScheduledAuction = auctionRepository.findLatestScheduledAuction();
         if (latestScheduledAuction.size() == 0) {
@@ -70,14 +86,6 @@ public class ArtWorkService extends BaseEntity {
 
         Member findMember = getMemberOrThrow(loginMemberId);
 
-        checkExistsImage(dto);
-
-        String guaranteeImageUUID = UUID.randomUUID().toString();
-        String guaranteeImageEXT = fileManager.extractExtension(dto.getGuaranteeImage().getOriginalFilename());
-
-        String mainImageUUID = UUID.randomUUID().toString();
-        String mainImageEXT = fileManager.extractExtension(dto.getImage()[0].getOriginalFilename());
-
         ArtWork artWork = ArtWork.builder()
                 .member(findMember)
                 .title(dto.getTitle())
@@ -85,8 +93,8 @@ public class ArtWorkService extends BaseEntity {
                 .price(dto.getPrice())
                 .status(dto.getStatus())
                 .statusDescription(dto.getStatusDescription())
-                .guaranteeImage(guaranteeImageUUID + "." + guaranteeImageEXT)
-                .mainImage(mainImageUUID + "." + mainImageEXT)
+                .guaranteeImage(imageNames.getGuaranteeImage())
+                .mainImage(imageNames.getMainImage())
                 .genre(dto.getGenre())
                 .artWorkSize(ArtWorkSize.builder().size(dto.getSize()).length(dto.getLength()).width(dto.getWidth()).height(dto.getHeight()).build())
                 .frame(dto.isFrame())
@@ -98,9 +106,7 @@ public class ArtWorkService extends BaseEntity {
                 .build();
 
         ArtWork savedArtWork = artWorkRepository.save(artWork);
-        awsService.uploadImage(dto.getGuaranteeImage(), guaranteeImageUUID);
-        awsService.uploadImage(dto.getImage()[0], mainImageUUID);
-        saveArtImages(dto.getImage(), artWork);
+        saveArtImages(imageNames.getImages(), artWork);
         saveArtKeywords(dto.getKeywords(), artWork);
 
         eventPublisher.publishEvent(new ArtWorkEvent(findMember, artWork, null, NotificationCode.SAVE_ARTWORK));
@@ -108,24 +114,16 @@ public class ArtWorkService extends BaseEntity {
         return savedArtWork.getId();
     }
 
-    public void saveArtImages(MultipartFile[] files, ArtWork artWork) throws IOException {
-
-        if (files[0].isEmpty()) {
-            return;
-        }
+    public void saveArtImages(List<String> images, ArtWork artWork) {
 
-        for (MultipartFile file : files) {
-
-            String imageUUID = UUID.randomUUID().toString();
-            String imageEXT = fileManager.extractExtension(file.getOriginalFilename());
+        for (String image : images) {
 
             ArtWorkImage artWorkImage = ArtWorkImage.builder()
                     .artWork(artWork)
-                    .image(imageUUID + "." + imageEXT)
+                    .image(image)
                     .build();
 
             artWorkImageRepository.save(artWorkImage);
-            awsService.uploadImage(file, imageUUID);
         }
     }
 
@@ -150,87 +148,158 @@ public class ArtWorkService extends BaseEntity {
         }
     }
 
+    public void checkExistsImage(ArtWorkEditRequestDto dto) {
+        if (dto.getImage()[0].isEmpty() && dto.getPrevImage().isEmpty()) {
+            throw new CustomException(ErrorCode.SHOULD_EXIST_IMAGE);
+        }
+    }
+
     public void bid(Long loginMemberId, Long artWorkId, Long price) {
 
         ArtWork artWork = getArtWorkOrThrow(artWorkId);
         Member member = getMemberOrThrow(loginMemberId);
 
-        if (artWork.getMember().getId().equals(loginMemberId)) {
-            throw new CustomException(ErrorCode.NOT_VALID_REQUEST);
+        validateBidder(artWork, loginMemberId);
+        validateBiddingPeriod(artWork);
+
+        // 호가 단위 검증은 메모리 호가창에서 처리하고, 통과한 응찰만 DB에 반영
+        ArtWorkOrderBook orderBook = getOrderBook(artWork);
+
+        ArtWorkOrderBook.Acceptance acceptance = orderBook.accept(loginMemberId, price);
+        biddingOrderBook.evictOnRollback(artWorkId);
+
+        Bidding bidding = saveBidding(artWork, member, price, acceptance);
+        eventPublisher.publishEvent(new ArtWorkEvent(member, artWork, bidding, NotificationCode.SUGGEST_BID));
+
+        // 더 높은 자동 응찰 한도가 있으면 경합 결과를 바로 반영
+        Bidding proxyBidding = applyProxyBidding(orderBook, artWork);
+
+        if (proxyBidding == null) {
+            completeBidding(artWork, orderBook, member, price, !acceptance.isFirstBid());
+            return;
         }
 
-        // 작품에 대한 최초 응찰일 경우
-        if (!biddingRepository.existsByArtWorkId(artWork.getId())) {
+        completeBidding(artWork, orderBook, proxyBidding.getMember(), proxyBidding.getPrice(), true);
+    }
 
-            // 시작가에 맞춰 응찰할 경우
-            if(price.equals(artWork.getPrice())) {
+    // 자동 응찰 한도 등록. 다른 자동 응찰과의 경합은 응찰을 주고받지 않고 최종 결과만 한 번에 반영
+    public void registerProxyBidding(Long loginMemberId, Long artWorkId, Long maxPrice) {
 
-                Bidding firstBidding = Bidding.builder().member(member).artWork(artWork).price(price).build();
-                biddingRepository.save(firstBidding);
-                validateAuctionPeriod(artWork.getAuction());
-                eventPublisher.publishEvent(new ArtWorkEvent(member, artWork, firstBidding, NotificationCode.SUGGEST_BID));
-                return;
+        ArtWork artWork = getArtWorkOrThrow(artWorkId);
+        Member member = getMemberOrThrow(loginMemberId);
 
-            } // 시작가보다 높은 가격에 응찰할 경우
-            else if (price > artWork.getPrice()) {
+        validateBidder(artWork, loginMemberId);
+        validateBiddingPeriod(artWork);
 
-                if (!isValidPrice(artWork.getPrice(), price)) {
-                    throw new CustomException(ErrorCode.NOT_VALID_BID);
-                }
+        ArtWorkOrderBook orderBook = getOrderBook(artWork);
 
-                Bidding firstBidding = Bidding.builder().member(member).artWork(artWork).price(price).build();
-                biddingRepository.save(firstBidding);
-                validateAuctionPeriod(artWork.getAuction());
-                eventPublisher.publishEvent(new ArtWorkEvent(member, artWork, firstBidding, NotificationCode.SUGGEST_BID));
-                return;
-            }
+        orderBook.registerProxy(loginMemberId, maxPrice);
+        biddingOrderBook.evictOnRollback(artWorkId);
 
-            throw new CustomException(ErrorCode.NOT_VALID_BID);
+        ProxyBidding proxyBidding = proxyBiddingRepository.findByArtWorkAndMember(artWork, member)
+                .orElseGet(() -> ProxyBidding.builder().artWork(artWork).member(member).build());
+        proxyBidding.updateMaxPrice(maxPrice);
+        proxyBiddingRepository.save(proxyBidding);
 
-        }else{
+        Bidding bidding = applyProxyBidding(orderBook, artWork);
 
-            Long topPrice = getTopPrice(artWork);
-            Bidding bidding = biddingRepository.findByArtWorkAndMember(artWork, member)
-                    .orElseGet(() -> saveBidding(artWork, member));
+        if (bidding != null) {
+            completeBidding(artWork, orderBook, bidding.getMember(), bidding.getPrice(), orderBook.getBidderCount() > 1);
+        }
+    }
 
-            validateAuctionPeriod(artWork.getAuction());
+    private void validateBidder(ArtWork artWork, Long loginMemberId) {
 
-            bidding.raisePrice(topPrice, price);
-            eventPublisher.publishEvent(new ArtWorkEvent(member, artWork, bidding, NotificationCode.SUGGEST_BID));
-            eventPublisher.publishEvent(new ArtWorkEvent(member, artWork, null, NotificationCode.STILL_BID));
+        if (artWork.getMember().getId().equals(loginMemberId)) {
+            throw new CustomException(ErrorCode.NOT_VALID_REQUEST);
         }
     }
 
-    private ArtWork getArtWorkOrThrow(Long artWorkId) {
-        return artWorkRepository.findById(artWorkId)
-                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_ARTWORK));
+    private ArtWorkOrderBook getOrderBook(ArtWork artWork) {
+
+        return biddingOrderBook.find(artWork.getId())
+                .orElseGet(() -> biddingOrderBook.open(artWork,
+                        biddingRepository.findAllByArtWorkOrderByPriceDesc(artWork),
+                        proxyBiddingRepository.findAllByArtWorkOrderByIdAsc(artWork)));
     }
 
-    private Member getMemberOrThrow(Long loginMemberId) {
-        return memberRepository.findById(loginMemberId)
-                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_MEMBER));
+    // 자동 응찰 경합 결과를 응찰 하나로 반영. 반영할 응찰이 없으면 null
+    private Bidding applyProxyBidding(ArtWorkOrderBook orderBook, ArtWork artWork) {
+
+        ArtWorkOrderBook.ProxyBid proxyBid = orderBook.resolveProxies();
+
+        if (proxyBid == null) {
+            return null;
+        }
+
+        Member proxyBidder = memberRepository.getReferenceById(proxyBid.getMemberId());
+        Bidding bidding = saveBidding(artWork, proxyBidder, proxyBid.getPrice(), proxyBid.getAcceptance());
+        eventPublisher.publishEvent(new ArtWorkEvent(proxyBidder, artWork, bidding, NotificationCode.SUGGEST_BID));
+
+        return bidding;
+    }
+
+    private Bidding saveBidding(ArtWork artWork, Member member, Long price, ArtWorkOrderBook.Acceptance acceptance) {
+
+        // 다른 서버 등에서 더 높은 응찰이 먼저 반영되었거나, 검증 이후 마감된 경우 롤백
+        if (artWorkRepository.updateTopBidding(artWork.getId(), member.getId(), price, acceptance.isNewBidder(), LocalDateTime.now()) == 0) {
+            throw new CustomException(ErrorCode.STALE_BID);
+        }
+
+        return flushBidding(artWork, member, price, acceptance.isNewBidder());
+    }
+
+    // 마감 연장, 응찰 현황 전송, 입찰 경쟁 알림은 요청당 최종 최고 응찰 기준으로 한 번만 처리
+    private void completeBidding(ArtWork artWork, ArtWorkOrderBook orderBook, Member topBidder, Long topPrice, boolean competing) {
+
+        LocalDateTime closingDate = extendClosingDateIfNeeded(artWork);
+        biddingBroadcaster.publishAfterCommit(artWork.getId(), topPrice, orderBook.getBidderCount(), closingDate);
+
+        // 작품에 대한 최초 응찰이 아닐 경우 기존 응찰자들에게 입찰 경쟁 알림
+        if (competing) {
+            eventPublisher.publishEvent(new ArtWorkEvent(topBidder, artWork, null, NotificationCode.STILL_BID));
+        }
     }
 
-    private Long getTopPrice(ArtWork artWork) {
+    // 마감 직전 응찰이면 해당 작품의 마감 시각만 연장
+    private LocalDateTime extendClosingDateIfNeeded(ArtWork artWork) {
 
-        Optional<Bidding> topPriceBiddingOptional = biddingRepository.getFirstByArtWorkOrderByPriceDesc(artWork);
+        LocalDateTime closingDate = artWork.getClosingDate();
 
-        if (topPriceBiddingOptional.isEmpty()) {
-            return Long.valueOf(artWork.getPrice());
+        if (!softCloseEnabled || LocalDateTime.now().isBefore(closingDate.minusMinutes(softCloseWindowMinutes))) {
+            return closingDate;
         }
 
-        return topPriceBiddingOptional.get().getPrice();
+        LocalDateTime extendedDate = closingDate.plusMinutes(softCloseExtensionMinutes);
+
+        // 동시에 들어온 마감 직전 응찰이 먼저 연장했다면 그 연장을 그대로 따름
+        if (artWorkRepository.extendEndDate(artWork.getId(), artWork.getEndDate(), extendedDate) == 0) {
+            return closingDate;
+        }
+
+        artWorkClosingScheduler.scheduleAfterCommit(artWork.getId(), extendedDate);
+
+        return extendedDate;
     }
 
-    private Bidding saveBidding(ArtWork artWork, Member member) {
-        Bidding bidding = biddingRepository.save(Bidding.builder()
-                .artWork(artWork)
-                .member(member)
-                .build());
+    private Bidding flushBidding(ArtWork artWork, Member member, Long price, boolean newBidder) {
+
+        // 기존 응찰자는 조회 없이 응찰가만 갱신
+        if (!newBidder && biddingRepository.updatePrice(artWork.getId(), member.getId(), price, LocalDateTime.now()) > 0) {
+            return Bidding.builder().member(member).artWork(artWork).price(price).build();
+        }
 
-        bidding.setArtWork(artWork);
+        return biddingRepository.save(Bidding.builder().member(member).artWork(artWork).price(price).build());
+    }
 
-        return bidding;
+    private ArtWork getArtWorkOrThrow(Long artWorkId) {
+        return artWorkRepository.findById(artWorkId)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_ARTWORK));
+    }
+
+    private Member getMemberOrThrow(Long loginMemberId) {
+        return memberRepository.findById(loginMemberId)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_MEMBER));
     }
 
     @Transactional(readOnly = true)
@@ -256,7 +325,7 @@ public class ArtWorkService extends BaseEntity {
                 .artWork(ArtWorkInfoResponseDto.ArtWorkDto.from(findArtWork, artWorkImages, artWorkKeywords, storageUrl))
                 .isPreferred(isPreferred)
                 .turn(findArtWork.getAuction().getTurn())
-                .endDate(findArtWork.getAuction().getEndDate())
+                .endDate(findArtWork.getClosingDate())
                 .build();
     }
 
@@ -283,10 +352,7 @@ public class ArtWorkService extends BaseEntity {
         Long topPrice = null;
 
         if (!artWork.getSaleStatus().equals(ArtWorkStatus.REGISTERED.getType())) {
-
-            if (biddingRepository.existsByArtWorkId(artWork.getId())) {
-                topPrice = getTopPrice(artWork);
-            }
+            topPrice = artWork.getTopPrice();
         }
 
         return ArtWorkMyListResponseDto.builder()
@@ -317,7 +383,7 @@ public class ArtWorkService extends BaseEntity {
         }
 
         return BiddingListResponse.builder()
-                .artWork(BiddingListResponse.ArtWorkDto.of(artWork, getTopPrice(artWork), fileManager.getFullPath(artWork.getMainImage())))
+                .artWork(BiddingListResponse.ArtWorkDto.of(artWork, artWork.getCurrentPrice(), fileManager.getFullPath(artWork.getMainImage())))
                 .auction(BiddingListResponse.AuctionDto.from(artWork.getAuction()))
                 .biddingList(biddingList.stream().map(BiddingListResponse.BiddingDto::from)
                         .collect(Collectors.toList()))
@@ -327,19 +393,27 @@ public class ArtWorkService extends BaseEntity {
 
     public AuctionArtWorkListResponseDto getProcessingArtWorkList() {
 
-        Auction auction = auctionRepository.findCurrentlyProcessingAuction();
+        // 회차 종료 후에도 마감이 연장된 작품은 진행 중 목록에 남김
+        LocalDateTime now = LocalDateTime.now();
+        Auction auction = auctionRepository.findLiveAuction(now);
 
         if (Objects.isNull(auction)) {
             throw new CustomException(ErrorCode.NOT_FOUND_AUCTION_PROCESSING);
         }
 
-        List<ArtWork> artWorkList = artWorkRepository.findByAuctionIdAndSaleStatus(auction.getId(), ArtWorkStatus.PROCESSING.getType());
+        List<ArtWork> artWorkList = artWorkRepository.findOpenArtWorks(auction.getId(), now);
 
         List<AuctionArtWorkListResponseDto.ArtWorkDto> artWorkDtoList = transferToArtWorkDto(artWorkList);
 
+        // 연장된 작품이 있으면 가장 늦은 작품 마감 시각까지 진행
+        LocalDateTime endDate = artWorkList.stream()
+                .map(ArtWork::getClosingDate)
+                .max(Comparator.naturalOrder())
+                .orElse(auction.getEndDate());
+
         AuctionArtWorkListResponseDto auctionArtWorkListResponseDto = AuctionArtWorkListResponseDto.builder()
                 .turn(auction.getTurn())
-                .endDate(auction.getEndDate())
+                .endDate(endDate)
                 .artWorkList(artWorkDtoList)
                 .build();
 
@@ -352,13 +426,7 @@ public class ArtWorkService extends BaseEntity {
 
         for (ArtWork artWork : artWorkList) {
 
-            List<Long> priceList = artWork.getBiddingList().stream().map(m -> m.getPrice()).collect(Collectors.toList());
-            Long topPrice = artWork.getPrice();
-            if (!priceList.isEmpty()) {
-                topPrice = Collections.max(priceList);
-            }
-
-            AuctionArtWorkListResponseDto.ArtWorkDto artWorkDto = AuctionArtWorkListResponseDto.ArtWorkDto.from(artWork, topPrice, storageUrl);
+            AuctionArtWorkListResponseDto.ArtWorkDto artWorkDto = AuctionArtWorkListResponseDto.ArtWorkDto.from(artWork, artWork.getCurrentPrice(), storageUrl);
             artWorkDtoList.add(artWorkDto);
         }
 
@@ -377,14 +445,19 @@ public class ArtWorkService extends BaseEntity {
         List<ArtWorkDeliveryResponse> artWorkDeliveryResponseList = new ArrayList<>();
         List<ArtWork> artWorkList = artWorkRepository.findByAuctionIdAndSaleStatus(auctionId, ArtWorkStatus.SALES_SUCCESS.getType());
 
-        for (ArtWork artWork : artWorkList) {
+        // 낙찰가와 낙찰자는 응찰 시 갱신된 최고 응찰 정보를 사용하고, 낙찰자는 한 번에 조회
+        Map<Long, Member> buyers = memberRepository.findAllById(artWorkList.stream()
+                        .map(ArtWork::getTopBidderId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Member::getId, member -> member));
 
-            Optional<Bidding> bidding = biddingRepository.getFirstByArtWorkOrderByPriceDesc(artWork);
+        for (ArtWork artWork : artWorkList) {
 
             artWorkDeliveryResponseList.add(ArtWorkDeliveryResponse.builder()
-                    .artWork(ArtWorkDeliveryResponse.ArtWorkDto.from(artWork, bidding.get().getPrice()))
+                    .artWork(ArtWorkDeliveryResponse.ArtWorkDto.from(artWork, artWork.getTopPrice()))
                     .artist(ArtWorkDeliveryResponse.MemberDto.from(artWork.getMember()))
-                    .member(ArtWorkDeliveryResponse.MemberDto.from(bidding.get().getMember()))
+                    .member(ArtWorkDeliveryResponse.MemberDto.from(buyers.get(artWork.getTopBidderId())))
                     .build());
         }
 
@@ -425,13 +498,7 @@ public class ArtWorkService extends BaseEntity {
 
         for (ArtWork artWork : artWorkList) {
 
-            List<Long> priceList = artWork.getBiddingList().stream().map(m -> m.getPrice()).collect(Collectors.toList());
-            Long topPrice = artWork.getPrice();
-            if (!priceList.isEmpty()) {
-                topPrice = Collections.max(priceList);
-            }
-
-            ArtWorkTerminatedListResponseDto.ArtWorkDto artWorkDto = ArtWorkTerminatedListResponseDto.ArtWorkDto.from(artWork, topPrice, artWork.getBiddingList().size(), storageUrl);
+            ArtWorkTerminatedListResponseDto.ArtWorkDto artWorkDto = ArtWorkTerminatedListResponseDto.ArtWorkDto.from(artWork, artWork.getCurrentPrice(), artWork.getBidCount(), storageUrl);
             artWorkDtoList.add(artWorkDto);
         }
 
@@ -447,10 +514,9 @@ public class ArtWorkService extends BaseEntity {
 
         for (Tuple tuple : list) {
 
-            ArtWork findArtWork = tuple.get(QBidding.bidding.artWork);
-            Long myMaxBiddingPrice = tuple.get(QBidding.bidding.price.max());
-
-            Long topPrice = biddingRepository.getFirstByArtWorkOrderByPriceDesc(findArtWork).get().getPrice();
+            ArtWork findArtWork = tuple.get(0, ArtWork.class);
+            Long myMaxBiddingPrice = tuple.get(1, Long.class);
+            Long topPrice = findArtWork.getTopPrice();
 
             // 해당 작품이 판매 완료 상태인 경우
             if (myMaxBiddingPrice.equals(topPrice) && findArtWork.getSaleStatus().equals(ArtWorkStatus.SALES_SUCCESS.getType())) {
@@ -466,33 +532,17 @@ public class ArtWorkService extends BaseEntity {
                 .build();
     }
 
-    private boolean isValidPrice(Long topPrice, Long price) {
-
-        long priceDifference = price - topPrice;
+    // 마감이 연장된 작품은 경매 회차가 종료되어도 연장된 마감 시각까지 응찰 가능
+    private void validateBiddingPeriod(ArtWork artWork) {
 
-        if (topPrice < 300_000) {
-            if (priceDifference >= 20_000) {
-                return true;
-            }
-        } else if (topPrice < 1_000_000) {
-            if (priceDifference >= 50_000) {
-                return true;
-            }
-        } else if (topPrice < 3_000_000) {
-            if (priceDifference >= 100_000) {
-                return true;
-            }
-        } else if (topPrice < 5_000_000) {
-            if (priceDifference >= 200_000) {
-                return true;
-            }
-        } else {
-            if (priceDifference >= 500_000) {
-                return true;
-            }
+        if (artWork.getEndDate() == null) {
+            validateAuctionPeriod(artWork.getAuction());
+            return;
         }
 
-        return false;
+        if (!artWork.getSaleStatus().equals(ArtWorkStatus.PROCESSING.getType()) || !LocalDateTime.now().isBefore(artWork.getEndDate())) {
+            throw new CustomException(ErrorCode.NOT_VALID_AUCTION_PERIOD);
+        }
     }
 
     public void validateAuctionPeriod(Auction auction) {
@@ -516,7 +566,8 @@ public class ArtWorkService extends BaseEntity {
 
     }
 
-    public void editArtWork(Member member, Long artworkId, ArtWorkEditRequestDto dto) throws IOException {
+    // 이미지는 ArtWorkRegistrationService 에서 트랜잭션 밖에서 업로드하고, 여기서는 업로드된 파일 이름만 저장
+    public void editArtWork(Member member, Long artworkId, ArtWorkEditRequestDto dto, ArtWorkImageNames imageNames) {
 
         ArtWork findArtWork = artWorkRepository.findById(artworkId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_ARTWORK));
@@ -526,45 +577,17 @@ public class ArtWorkService extends BaseEntity {
         artWorkImageRepository.deleteByArtWorkId(findArtWork.getId());
         artWorkKeywordRepository.deleteByArtWorkId(findArtWork.getId());
 
-        String mainImageUrl = "";
-        String guaranteeImageUrl = UUID.randomUUID().toString() + "." + fileManager.extractExtension(dto.getGuaranteeImage().getOriginalFilename());
-
-        if (dto.getImage()[0].isEmpty() && dto.getPrevImage().isEmpty()) {
-            throw new CustomException(ErrorCode.SHOULD_EXIST_IMAGE);
-        }
-
-        mainImageUrl = setMainImageUrl(dto);
-
         findArtWork.updateArtWork(dto, ArtWorkSize.builder()
                         .size(dto.getSize()).width(dto.getWidth())
                         .height(dto.getHeight()).length(dto.getLength())
                         .build()
-                , mainImageUrl, guaranteeImageUrl);
+                , imageNames.getMainImage(), imageNames.getGuaranteeImage());
 
-        awsService.uploadImage(dto.getGuaranteeImage(), guaranteeImageUrl.substring(0,guaranteeImageUrl.lastIndexOf(".")));
-        awsService.uploadImage(dto.getImage()[0], mainImageUrl.substring(0,mainImageUrl.lastIndexOf(".")));
         savePrevImage(dto, findArtWork);
-        saveArtImages(dto.getImage(), findArtWork);
+        saveArtImages(imageNames.getImages(), findArtWork);
         saveArtKeywords(dto.getKeywords(), findArtWork);
     }
 
-    public String setMainImageUrl(ArtWorkEditRequestDto dto) {
-
-        if (dto.getImage()[0].isEmpty() && !dto.getPrevImage().isEmpty()) {
-            return fileManager.extractImageDB(dto.getPrevImage().get(0));
-        }
-
-        if (!dto.getImage()[0].isEmpty() && dto.getPrevImage().isEmpty()) {
-            return UUID.randomUUID().toString() + "." + fileManager.extractExtension(dto.getImage()[0].getOriginalFilename());
-        }
-
-        if (!dto.getImage()[0].isEmpty() && !dto.getPrevImage().isEmpty()) {
-            return UUID.randomUUID().toString() + "." + fileManager.extractExtension(dto.getImage()[0].getOriginalFilename());
-        }
-
-        return "";
-    }
-
     public void savePrevImage(ArtWorkEditRequestDto dto, ArtWork artWork) {
 
         for (String image : dto.getPrevImage()) {
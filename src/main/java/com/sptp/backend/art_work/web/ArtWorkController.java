@@ -1,8 +1,10 @@
 package com.sptp.backend.art_work.web;
 
+import com.sptp.backend.art_work.service.ArtWorkRegistrationService;
 import com.sptp.backend.art_work.service.ArtWorkService;
 import com.sptp.backend.art_work.web.dto.request.ArtWorkBidRequest;
 import com.sptp.backend.art_work.web.dto.request.ArtWorkEditRequestDto;
+import com.sptp.backend.art_work.web.dto.request.ArtWorkProxyBidRequest;
 import com.sptp.backend.art_work.web.dto.request.ArtWorkSaveRequestDto;
 import com.sptp.backend.art_work.web.dto.response.*;
 import com.sptp.backend.jwt.service.dto.CustomUserDetails;
@@ -17,7 +19,6 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
-import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -26,13 +27,14 @@ import java.util.List;
 public class ArtWorkController {
 
     private final ArtWorkService artWorkService;
+    private final ArtWorkRegistrationService artWorkRegistrationService;
 
     // 작품 등록
     @PostMapping
     public ResponseEntity<ArtWorkInfoResponseDto> saveArtWork(@AuthenticationPrincipal CustomUserDetails userDetails,
-                                             ArtWorkSaveRequestDto artWorkSaveRequestDto) throws IOException {
+                                             ArtWorkSaveRequestDto artWorkSaveRequestDto) {
 
-        Long savedArtWorkId = artWorkService.saveArtWork(userDetails.getMember().getId(), artWorkSaveRequestDto);
+        Long savedArtWorkId = artWorkRegistrationService.saveArtWork(userDetails.getMember().getId(), artWorkSaveRequestDto);
 
         ArtWorkInfoResponseDto artWorkInfoResponseDto = artWorkService.getArtWork(savedArtWorkId, userDetails.getMember());
 
@@ -68,6 +70,16 @@ public class ArtWorkController {
         return ResponseEntity.ok().build();
     }
 
+    // 자동 응찰 등록
+    @PutMapping("/{artWorkId}/proxy-bidding")
+    public ResponseEntity<Void> registerProxyBidding(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                     @PathVariable Long artWorkId, @Valid @RequestBody ArtWorkProxyBidRequest artWorkProxyBidRequest) {
+
+        artWorkService.registerProxyBidding(userDetails.getMember().getId(), artWorkId, artWorkProxyBidRequest.getMaxPrice());
+
+        return ResponseEntity.ok().build();
+    }
+
     // 응찰 내역 조회
     @GetMapping("/{artWorkId}/bidding")
     public ResponseEntity<BiddingListResponse> getBiddingList(@PathVariable Long artWorkId) {
@@ -98,9 +110,9 @@ public class ArtWorkController {
     @PatchMapping("/edit/{artWorkId}")
     public ResponseEntity<Void> editArtWork(@AuthenticationPrincipal CustomUserDetails userDetails,
                                             @PathVariable("artWorkId") Long artWorkId,
-                                            ArtWorkEditRequestDto artWorkEditRequestDto) throws IOException {
+                                            ArtWorkEditRequestDto artWorkEditRequestDto) {
 
-        artWorkService.editArtWork(userDetails.getMember(), artWorkId, artWorkEditRequestDto);
+        artWorkRegistrationService.editArtWork(userDetails.getMember(), artWorkId, artWorkEditRequestDto);
 
         return ResponseEntity.ok().build();
     }
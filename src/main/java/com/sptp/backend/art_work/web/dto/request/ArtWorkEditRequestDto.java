@@ -1,7 +1,6 @@
 package com.sptp.backend.art_work.web.dto.request;
 
 import lombok.*;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -13,8 +12,9 @@ import java.util.List;
 public class ArtWorkEditRequestDto {
 
     private List<String> prevImage;
-    private MultipartFile[] image;
-    private MultipartFile guaranteeImage;
+    // pre-signed URL 로 업로드한 이미지의 키
+    private String[] image;
+    private String guaranteeImage;
     private String title;
     private String[] keywords;
     private Integer productionYear;
@@ -0,0 +1,16 @@
+package com.sptp.backend.art_work.web.dto.request;
+
+import lombok.*;
+
+import javax.validation.constraints.NotNull;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArtWorkProxyBidRequest {
+
+    @NotNull(message = "자동 응찰 최고 한도를 입력해주세요.")
+    private Long maxPrice;
+}
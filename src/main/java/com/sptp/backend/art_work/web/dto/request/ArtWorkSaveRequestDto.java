@@ -2,7 +2,6 @@ package com.sptp.backend.art_work.web.dto.request;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.*;
-import org.springframework.web.multipart.MultipartFile;
 
 @Getter
 @Setter
@@ -11,8 +10,9 @@ import org.springframework.web.multipart.MultipartFile;
 @Builder
 public class ArtWorkSaveRequestDto {
 
-    private MultipartFile[] image;
-    private MultipartFile guaranteeImage;
+    // pre-signed URL 로 업로드한 이미지의 키
+    private String[] image;
+    private String guaranteeImage;
     private String title;
     private String[] keywords;
     private Integer productionYear;
@@ -0,0 +1,31 @@
+package com.sptp.backend.art_work.web.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class BiddingStreamResponse {
+
+    private Long artWorkId;
+    private Long topPrice;
+    private Integer totalBiddingCount;
+    private Long remainingSeconds;
+
+    @JsonFormat(pattern = "yyyy-MM-dd-HH-mm-ss")
+    private LocalDateTime endDate;
+
+    public static BiddingStreamResponse of(Long artWorkId, Long topPrice, Integer totalBiddingCount, LocalDateTime endDate) {
+        return BiddingStreamResponse.builder()
+                .artWorkId(artWorkId)
+                .topPrice(topPrice)
+                .totalBiddingCount(totalBiddingCount)
+                .remainingSeconds(Math.max(0, Duration.between(LocalDateTime.now(), endDate).getSeconds()))
+                .endDate(endDate)
+                .build();
+    }
+}
@@ -3,33 +3,28 @@ package com.sptp.backend.auction.event;
 import com.sptp.backend.art_work.repository.ArtWork;
 import com.sptp.backend.art_work.repository.ArtWorkRepository;
 import com.sptp.backend.auction.repository.Auction;
-import com.sptp.backend.bidding.repository.Bidding;
-import com.sptp.backend.bidding.repository.BiddingRepository;
 import com.sptp.backend.common.NotificationCode;
 import com.sptp.backend.member.repository.Member;
+import com.sptp.backend.member.repository.MemberRepository;
 import com.sptp.backend.notification.repository.Notification;
 import com.sptp.backend.notification.repository.NotificationRepository;
+import com.sptp.backend.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
-
 @Slf4j
-@Async
 @Transactional
 @Component
 @RequiredArgsConstructor
 public class    AuctionEventListener {
 
     private final NotificationRepository notificationRepository;
-    private final BiddingRepository biddingRepository;
+    private final NotificationService notificationService;
+    private final MemberRepository memberRepository;
 
     // 경매 등록 알림(판매자), 전시회 등록 알림(판매자), 작품 낙찰 성공(판매자,구매자), 작품 유찰 알림(판매자)
-    @EventListener
     public void handleAuctionEvent(AuctionEvent auctionEvent) {
 
         NotificationCode notificationCode = auctionEvent.getNotificationCode();
@@ -51,9 +46,9 @@ public class    AuctionEventListener {
     // 구매자
     public void noticeToBuyer(ArtWork artWork, NotificationCode notificationCode) {
 
-        Optional<Bidding> bidding = biddingRepository.getFirstByArtWorkOrderByPriceDesc(artWork);
-        if(bidding.isPresent()) {
-            saveNotification(bidding.get().getMember(), artWork, notificationCode);
+        // 낙찰자는 응찰 시 갱신된 최고 응찰자
+        if(artWork.getTopBidderId() != null) {
+            saveNotification(memberRepository.getReferenceById(artWork.getTopBidderId()), artWork, notificationCode);
         }
     }
 
@@ -69,5 +64,6 @@ public class    AuctionEventListener {
                 .build();
 
         notificationRepository.save(notification);
+        notificationService.notifyAfterCommit(notification);
     }
 }
@@ -1,5 +1,6 @@
 package com.sptp.backend.auction.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface AuctionCustomRepository {
@@ -8,7 +9,17 @@ public interface AuctionCustomRepository {
 
     Auction findCurrentlyProcessingAuction();
 
+    Auction findLiveAuction(LocalDateTime now);
+
     List<Auction> findScheduledAuction();
 
     List<Auction> findTerminatedAuction();
+
+    List<Auction> findAuctionsToStart(LocalDateTime now);
+
+    List<Auction> findAuctionsToTerminate(LocalDateTime now);
+
+    LocalDateTime findNextDueDate();
+
+    long updateStatus(Long auctionId, AuctionStatus from, AuctionStatus to);
 }
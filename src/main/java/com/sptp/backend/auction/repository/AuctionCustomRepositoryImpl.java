@@ -1,11 +1,14 @@
 package com.sptp.backend.auction.repository;
 
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sptp.backend.art_work.repository.ArtWorkStatus;
 import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static com.sptp.backend.art_work.repository.QArtWork.*;
 import static com.sptp.backend.auction.repository.QAuction.*;
 
 @RequiredArgsConstructor
@@ -35,6 +38,24 @@ public class AuctionCustomRepositoryImpl implements AuctionCustomRepository{
                 .fetchOne();
     }
 
+    // 진행 중인 회차, 또는 회차는 끝났지만 마감이 연장되어 아직 진행 중인 작품이 있는 가장 최근 회차
+    @Override
+    public Auction findLiveAuction(LocalDateTime now) {
+        return queryFactory
+                .select(auction)
+                .from(auction)
+                .where(auction.status.eq(AuctionStatus.PROCESSING.getType())
+                        .and(auction.startDate.loe(now))
+                        .and(auction.endDate.goe(now))
+                        .or(auction.id.in(JPAExpressions
+                                .select(artWork.auction.id)
+                                .from(artWork)
+                                .where(artWork.saleStatus.eq(ArtWorkStatus.PROCESSING.getType()),
+                                        artWork.endDate.gt(now)))))
+                .orderBy(auction.startDate.desc())
+                .fetchFirst();
+    }
+
     @Override
     public List<Auction> findScheduledAuction() {
         return queryFactory
@@ -54,5 +75,60 @@ public class AuctionCustomRepositoryImpl implements AuctionCustomRepository{
                 .fetch();
     }
 
+    @Override
+    public List<Auction> findAuctionsToStart(LocalDateTime now) {
+        return queryFactory
+                .select(auction)
+                .from(auction)
+                .where(auction.status.eq(AuctionStatus.SCHEDULED.getType())
+                        .and(auction.startDate.loe(now)))
+                .orderBy(auction.startDate.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<Auction> findAuctionsToTerminate(LocalDateTime now) {
+        return queryFactory
+                .select(auction)
+                .from(auction)
+                .where(auction.status.eq(AuctionStatus.PROCESSING.getType())
+                        .and(auction.endDate.loe(now)))
+                .orderBy(auction.endDate.asc())
+                .fetch();
+    }
+
+    // 예정 경매의 가장 빠른 시작 시각과 진행중 경매의 가장 빠른 종료 시각 중 먼저 오는 시각
+    @Override
+    public LocalDateTime findNextDueDate() {
 
+        LocalDateTime nextStartDate = queryFactory
+                .select(auction.startDate.min())
+                .from(auction)
+                .where(auction.status.eq(AuctionStatus.SCHEDULED.getType()))
+                .fetchOne();
+
+        LocalDateTime nextEndDate = queryFactory
+                .select(auction.endDate.min())
+                .from(auction)
+                .where(auction.status.eq(AuctionStatus.PROCESSING.getType()))
+                .fetchOne();
+
+        if (nextStartDate == null || (nextEndDate != null && nextEndDate.isBefore(nextStartDate))) {
+            return nextEndDate;
+        }
+
+        return nextStartDate;
+    }
+
+    // 현재 상태가 from 일 때만 변경되므로, 여러 서버가 동시에 실행해도 한 곳만 성공
+    @Override
+    public long updateStatus(Long auctionId, AuctionStatus from, AuctionStatus to) {
+
+        return queryFactory
+                .update(auction)
+                .set(auction.status, to.getType())
+                .where(auction.id.eq(auctionId),
+                        auction.status.eq(from.getType()))
+                .execute();
+    }
 }
@@ -0,0 +1,183 @@
+package com.sptp.backend.auction.schedule;
+
+import com.querydsl.core.Tuple;
+import com.sptp.backend.art_work.repository.ArtWorkRepository;
+import com.sptp.backend.auction.service.AuctionService;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.sptp.backend.art_work.repository.QArtWork.*;
+
+// 마감이 연장된 작품을 작품별 마감 시각에 종료하는 스케줄러
+// 마감 시각은 우선순위 큐로 관리하고, 재연장 시에는 새 항목만 추가한 뒤 이전 항목은 꺼낼 때 버림
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArtWorkClosingScheduler {
+
+    private final ArtWorkRepository artWorkRepository;
+    private final AuctionService auctionService;
+
+    private final PriorityQueue<Deadline> deadlines = new PriorityQueue<>();
+    private final Map<Long, LocalDateTime> latestDeadlines = new HashMap<>();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ArtWorkClosingScheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ScheduledFuture<?> nextTick;
+
+    // 종료 처리에 실패한 작품이 남아있어도 DB를 계속 조회하지 않도록 최소 간격 유지
+    private static final long MIN_DELAY_MILLIS = 100;
+
+    @Value("${auction.soft-close.enabled:false}")
+    private boolean softCloseEnabled;
+
+    // 다른 서버에서 연장된 마감 시각도 이 주기 안에 반영됨
+    @Value("${auction.scheduler.max-idle-seconds:30}")
+    private long maxIdleSeconds;
+
+    @PostConstruct
+    public void init() {
+
+        if (softCloseEnabled) {
+            reschedule(0);
+        }
+    }
+
+    // 롤백된 연장이 반영되지 않도록 커밋 이후에 등록
+    public void scheduleAfterCommit(Long artWorkId, LocalDateTime endDate) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            schedule(artWorkId, endDate);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCommit() {
+                schedule(artWorkId, endDate);
+            }
+        });
+    }
+
+    public synchronized void schedule(Long artWorkId, LocalDateTime endDate) {
+
+        LocalDateTime previous = latestDeadlines.get(artWorkId);
+        if (previous != null && !endDate.isAfter(previous)) {
+            return;
+        }
+
+        Deadline deadline = new Deadline(artWorkId, endDate);
+        latestDeadlines.put(artWorkId, endDate);
+        deadlines.add(deadline);
+
+        // 가장 빠른 마감 시각이 바뀐 경우에만 다시 예약
+        if (deadlines.peek() == deadline) {
+            reschedule(Duration.between(LocalDateTime.now(), endDate).toMillis());
+        }
+    }
+
+    private void tick() {
+
+        try {
+            syncExtendedArtWorks();
+
+            Long artWorkId;
+            while ((artWorkId = pollDue(LocalDateTime.now())) != null) {
+                if (auctionService.closeArtWork(artWorkId)) {
+                    log.info("[log] 연장된 작품 {} 마감", artWorkId);
+                }
+            }
+        } catch (Exception e) {
+            log.error("art work closing tick failed", e);
+        } finally {
+            scheduleNext();
+        }
+    }
+
+    // 다른 서버에서 연장된 마감 시각 반영
+    private void syncExtendedArtWorks() {
+
+        for (Tuple extended : artWorkRepository.findExtendedArtWorks()) {
+            schedule(extended.get(artWork.id), extended.get(artWork.endDate));
+        }
+    }
+
+    private synchronized Long pollDue(LocalDateTime now) {
+
+        while (!deadlines.isEmpty() && !deadlines.peek().getEndDate().isAfter(now)) {
+            Deadline deadline = deadlines.poll();
+
+            // 재연장되기 전의 항목은 버림
+            if (deadline.getEndDate().equals(latestDeadlines.get(deadline.getArtWorkId()))) {
+                latestDeadlines.remove(deadline.getArtWorkId());
+                return deadline.getArtWorkId();
+            }
+        }
+
+        return null;
+    }
+
+    private synchronized void scheduleNext() {
+
+        long delayMillis = maxIdleSeconds * 1_000;
+
+        if (!deadlines.isEmpty()) {
+            delayMillis = Math.max(MIN_DELAY_MILLIS, Math.min(delayMillis, Duration.between(LocalDateTime.now(), deadlines.peek().getEndDate()).toMillis()));
+        }
+
+        reschedule(delayMillis);
+    }
+
+    private synchronized void reschedule(long delayMillis) {
+
+        if (scheduler.isShutdown()) {
+            return;
+        }
+
+        if (nextTick != null) {
+            nextTick.cancel(false);
+        }
+
+        nextTick = scheduler.schedule(this::tick, Math.max(0, delayMillis), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Deadline implements Comparable<Deadline> {
+
+        private final Long artWorkId;
+        private final LocalDateTime endDate;
+
+        @Override
+        public int compareTo(Deadline other) {
+            return endDate.compareTo(other.endDate);
+        }
+    }
+}
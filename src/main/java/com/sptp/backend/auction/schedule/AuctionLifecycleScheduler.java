@@ -0,0 +1,110 @@
+package com.sptp.backend.auction.schedule;
+
+import com.sptp.backend.auction.repository.Auction;
+import com.sptp.backend.auction.repository.AuctionRepository;
+import com.sptp.backend.auction.service.AuctionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// 경매 시작/종료 스케줄러. 실행 시각은 DB의 경매 시작일, 종료일을 그대로 사용하고
+// 상태 변경은 조건부 update 로 처리되므로 여러 서버에서 동시에 실행되어도 한 곳에서만 처리됨
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionLifecycleScheduler {
+
+    private final AuctionRepository auctionRepository;
+    private final AuctionService auctionService;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "AuctionLifecycleScheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ScheduledFuture<?> nextTick;
+
+    // 처리에 실패한 경매가 남아있어도 DB를 계속 조회하지 않도록 최소 간격 유지
+    private static final long MIN_DELAY_MILLIS = 1_000;
+
+    // 다른 서버에서 생성된 경매도 이 주기 안에 반영됨
+    @Value("${auction.scheduler.max-idle-seconds:30}")
+    private long maxIdleSeconds;
+
+    @PostConstruct
+    public void init() {
+        wakeUp();
+    }
+
+    // 경매가 생성되는 등 다음 실행 시각이 바뀌었을 때 즉시 다시 계산
+    public synchronized void wakeUp() {
+        reschedule(0);
+    }
+
+    private void tick() {
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+
+            for (Auction auction : auctionRepository.findAuctionsToStart(now)) {
+                log.info("[log] 경매 {}회차 시작", auction.getTurn());
+                auctionService.startAuction(auction.getTurn());
+            }
+
+            for (Auction auction : auctionRepository.findAuctionsToTerminate(now)) {
+                log.info("[log] 경매 {}회차 종료", auction.getTurn());
+                auctionService.terminateAuction(auction.getTurn());
+            }
+        } catch (Exception e) {
+            log.error("auction lifecycle tick failed", e);
+        } finally {
+            scheduleNext();
+        }
+    }
+
+    private synchronized void scheduleNext() {
+
+        long delayMillis = maxIdleSeconds * 1_000;
+
+        try {
+            LocalDateTime nextDueDate = auctionRepository.findNextDueDate();
+
+            if (nextDueDate != null) {
+                delayMillis = Math.max(MIN_DELAY_MILLIS, Math.min(delayMillis, Duration.between(LocalDateTime.now(), nextDueDate).toMillis()));
+            }
+        } catch (Exception e) {
+            log.error("auction next due date lookup failed", e);
+        }
+
+        reschedule(delayMillis);
+    }
+
+    private void reschedule(long delayMillis) {
+
+        if (scheduler.isShutdown()) {
+            return;
+        }
+
+        if (nextTick != null) {
+            nextTick.cancel(false);
+        }
+
+        nextTick = scheduler.schedule(this::tick, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
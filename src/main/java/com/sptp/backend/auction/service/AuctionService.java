@@ -1,5 +1,6 @@
 package com.sptp.backend.auction.service;
 
+import com.querydsl.core.Tuple;
 import com.sptp.backend.art_work.repository.ArtWork;
 import com.sptp.backend.art_work.repository.ArtWorkRepository;
 import com.sptp.backend.auction.event.AuctionEvent;
@@ -10,9 +11,13 @@ import com.sptp.backend.auction.web.dto.request.AuctionSaveRequestDto;
 import com.sptp.backend.auction.web.dto.request.AuctionStartRequestDto;
 import com.sptp.backend.auction.web.dto.response.AuctionListResponseDto;
 import com.sptp.backend.common.NotificationCode;
-import com.sptp.backend.bidding.repository.BiddingRepository;
+import com.sptp.backend.bidding.service.BiddingOrderBook;
 import com.sptp.backend.common.exception.CustomException;
 import com.sptp.backend.common.exception.ErrorCode;
+import com.sptp.backend.member.repository.Member;
+import com.sptp.backend.notification.repository.Notification;
+import com.sptp.backend.notification.repository.NotificationRepository;
+import com.sptp.backend.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
@@ -21,18 +26,23 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
 import java.util.stream.Collectors;
 
+import static com.sptp.backend.art_work.repository.QArtWork.*;
+
 @Service
 @RequiredArgsConstructor
 public class AuctionService {
 
     private final AuctionRepository auctionRepository;
     private final ArtWorkRepository artWorkRepository;
-    private final BiddingRepository biddingRepository;
+    private final NotificationRepository notificationRepository;
+    private final NotificationService notificationService;
+    private final BiddingOrderBook biddingOrderBook;
     private final ApplicationEventPublisher eventPublisher;
 
     @Value("${aws.storage.url}")
@@ -66,12 +76,16 @@ public class AuctionService {
             throw new CustomException(ErrorCode.NOT_FOUND_AUCTION_TURN);
         });
 
-        auction.statusToProcessing();
+        // 여러 서버에서 동시에 실행되어도 상태 변경에 성공한 한 곳에서만 시작 처리
+        if (auctionRepository.updateStatus(auction.getId(), AuctionStatus.SCHEDULED, AuctionStatus.PROCESSING) == 0) {
+            return;
+        }
 
         artWorkRepository.updateStatusToProcessing(auction.getId());
 
         List<ArtWork> artWorks = artWorkRepository.findByAuctionId(auction.getId());
         for(ArtWork artWork : artWorks) {
+            biddingOrderBook.open(artWork, Collections.emptyList()); // 경매 시작 시점에는 응찰 내역이 없음
             eventPublisher.publishEvent(new AuctionEvent(artWork, NotificationCode.SAVE_AUCTION));
             eventPublisher.publishEvent(new AuctionEvent(artWork, NotificationCode.SAVE_DISPLAY));
         }
@@ -84,24 +98,71 @@ public class AuctionService {
             throw new CustomException(ErrorCode.NOT_FOUND_AUCTION_TURN);
         });
 
-        List<ArtWork> artWorks = artWorkRepository.findByAuctionId(auction.getId());
+        if (auctionRepository.updateStatus(auction.getId(), AuctionStatus.PROCESSING, AuctionStatus.TERMINATED) == 0) {
+            return;
+        }
+
+        // 마감이 연장된 작품은 제외하고 종료. 연장된 작품은 작품별 마감 시각에 따로 종료됨
+        closeArtWorks(artWorkRepository.findAuctionResults(auction.getId(), LocalDateTime.now()));
+    }
 
-        auction.statusToTerminate();
+    // 연장된 마감 시각이 지난 작품 종료. 다른 서버에서 이미 종료했거나 마감이 다시 연장됐으면 false
+    @Transactional
+    public boolean closeArtWork(Long artWorkId) {
+
+        List<Tuple> results = artWorkRepository.findArtWorkResults(artWorkId, LocalDateTime.now());
+
+        closeArtWorks(results);
 
-        updateStatusToTerminated(artWorks);
+        return !results.isEmpty();
     }
 
-    private void updateStatusToTerminated(List<ArtWork> artWorks) {
+    private void closeArtWorks(List<Tuple> results) {
+
+        artWorkRepository.updateStatusToTerminated(results.stream()
+                .map(result -> result.get(artWork.id))
+                .collect(Collectors.toList()));
+
+        saveAuctionResultNotifications(results);
+    }
 
-        for (ArtWork artWork : artWorks) {
-            if (biddingRepository.existsByArtWorkId(artWork.getId())) {
-                artWork.statusToSalesSuccess();
-                eventPublisher.publishEvent(new AuctionEvent(artWork, NotificationCode.SUCCESSFUL_BID));
-            }else {
-                artWork.statusToSalesFailed();
-                eventPublisher.publishEvent(new AuctionEvent(artWork, NotificationCode.FAILED_BID));
+    // 낙찰 알림(판매자, 구매자), 유찰 알림(판매자)을 작품별 이벤트 대신 한 번에 저장
+    private void saveAuctionResultNotifications(List<Tuple> results) {
+
+        List<Notification> notifications = new ArrayList<>();
+
+        for (Tuple result : results) {
+
+            Long artWorkId = result.get(artWork.id);
+            String title = result.get(artWork.title);
+            Long sellerId = result.get(artWork.member.id);
+            Long topBidderId = result.get(artWork.topBidderId);
+
+            biddingOrderBook.close(artWorkId);
+
+            if (topBidderId != null) {
+                notifications.add(createNotification(sellerId, artWorkId, title, NotificationCode.SUCCESSFUL_BID));
+                notifications.add(createNotification(topBidderId, artWorkId, title, NotificationCode.SUCCESSFUL_BID));
+            } else {
+                notifications.add(createNotification(sellerId, artWorkId, title, NotificationCode.FAILED_BID));
             }
         }
+
+        if (!notifications.isEmpty()) {
+            notificationService.notifyAfterCommit(notificationRepository.saveAllInBatch(notifications));
+        }
+    }
+
+    private Notification createNotification(Long memberId, Long artWorkId, String title, NotificationCode notificationCode) {
+
+        return Notification.builder()
+                .member(Member.builder().id(memberId).build())
+                .title(notificationCode.getTitle())
+                .message(title + notificationCode.getMessage())
+                .details(notificationCode.getDetails())
+                .data(artWorkId)
+                .checked(false)
+                .build();
     }
 
     public List<AuctionListResponseDto> getAuctionList() {
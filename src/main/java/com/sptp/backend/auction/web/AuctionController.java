@@ -3,8 +3,7 @@ package com.sptp.backend.auction.web;
 import com.sptp.backend.art_work.service.ArtWorkService;
 import com.sptp.backend.art_work.web.dto.response.ArtWorkDeliveryResponse;
 import com.sptp.backend.art_work.web.dto.response.ArtWorkTerminatedListResponseDto;
-import com.sptp.backend.auction.schedule.AuctionStartScheduler;
-import com.sptp.backend.auction.schedule.AuctionTerminateScheduler;
+import com.sptp.backend.auction.schedule.AuctionLifecycleScheduler;
 import com.sptp.backend.auction.service.AuctionService;
 import com.sptp.backend.auction.web.dto.request.AuctionSaveRequestDto;
 import com.sptp.backend.auction.web.dto.response.AuctionArtWorkListResponseDto;
@@ -23,6 +22,7 @@ public class AuctionController {
 
     private final AuctionService auctionService;
     private final ArtWorkService artWorkService;
+    private final AuctionLifecycleScheduler auctionLifecycleScheduler;
 
     // 경매 생성
     @PostMapping("/admin/auction")
@@ -30,11 +30,7 @@ public class AuctionController {
 
         auctionService.saveAuction(auctionSaveRequestDto);
 
-        AuctionStartScheduler auctionStartScheduler = new AuctionStartScheduler(auctionService);
-        auctionStartScheduler.executeScheduler(auctionSaveRequestDto.getStartDate(), auctionSaveRequestDto.getEndDate(), auctionSaveRequestDto.getTurn());
-
-        AuctionTerminateScheduler auctionTerminateScheduler = new AuctionTerminateScheduler(auctionService);
-        auctionTerminateScheduler.executeScheduler(auctionSaveRequestDto.getStartDate(), auctionSaveRequestDto.getEndDate(), auctionSaveRequestDto.getTurn());
+        auctionLifecycleScheduler.wakeUp();
 
         return new ResponseEntity(HttpStatus.OK);
     }
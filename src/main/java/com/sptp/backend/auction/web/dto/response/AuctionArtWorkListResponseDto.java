@@ -3,6 +3,7 @@ package com.sptp.backend.auction.web.dto.response;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.sptp.backend.art_work.repository.ArtWork;
 import com.sptp.backend.art_work.repository.ArtWorkSize;
+import com.sptp.backend.aws.service.ImageVariant;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -24,21 +25,27 @@ public class AuctionArtWorkListResponseDto {
     public static class ArtWorkDto {
         private Long id;
         private String mainImage;
+        private String thumbnailImage;
         private String title;
         private ArtWorkSize artWorkSize;
         private Integer productionYear;
         private Long topPrice;
         private String material;
 
+        @JsonFormat(pattern = "yyyy-MM-dd-HH-mm-ss")
+        private LocalDateTime endDate;
+
         public static ArtWorkDto from(ArtWork artWork, Long topPrice, String storageUrl) {
             return ArtWorkDto.builder()
                     .id(artWork.getId())
                     .title(artWork.getTitle())
                     .mainImage(storageUrl + artWork.getMainImage())
+                    .thumbnailImage(ImageVariant.SMALL.getUrl(storageUrl, artWork.getMainImage()))
                     .artWorkSize(artWork.getArtWorkSize())
                     .productionYear(artWork.getProductionYear())
                     .topPrice(topPrice)
                     .material(artWork.getMaterial())
+                    .endDate(artWork.getClosingDate())
                     .build();
         }
     }
@@ -2,49 +2,58 @@ package com.sptp.backend.aws.service;
 
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
-import com.amazonaws.services.s3.model.S3Object;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.util.Collection;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AwsService {
 
     private final AmazonS3Client amazonS3Client;
+    private final ImageDerivativeService imageDerivativeService;
 
-    private final String S3Bucket = "atties-bucket";
+    static final String S3Bucket = "atties-bucket";
 
-    public void uploadImage(MultipartFile image, String uuid) throws IOException {
+    // 요청 본문을 메모리에 올리지 않고 그대로 S3로 전송. Content-Type 은 클라이언트가 보낸 값 대신 검증한 값으로 저장
+    public void uploadImage(String fileName, MultipartFile image, String contentType) throws IOException {
+        amazonS3Client.putObject(createPutObjectRequest(fileName, image, contentType));
+    }
 
-        String originalFilename = image.getOriginalFilename();
-        String ext = originalFilename.substring(originalFilename.lastIndexOf(".") + 1);
-        long size = image.getSize();
+    // 확정한 이미지를 쓰지 못하게 된 경우의 보상 처리. 실패해도 원래 예외가 가려지지 않도록 로그만 남김
+    public void deleteImages(Collection<String> fileNames) {
 
-        ObjectMetadata objectMetadata = new ObjectMetadata();
-        objectMetadata.setContentType(image.getContentType());
-        objectMetadata.setContentLength(size);
-
-        // S3 업로드
-        amazonS3Client.putObject(
-                new PutObjectRequest(S3Bucket, uuid + "." + ext, image.getInputStream(), objectMetadata)
-                        .withCannedAcl(CannedAccessControlList.PublicRead)
-        );
+        if (fileNames.isEmpty()) {
+            return;
+        }
+
+        try {
+            amazonS3Client.deleteObjects(new DeleteObjectsRequest(S3Bucket)
+                    .withKeys(fileNames.toArray(new String[0]))
+                    .withQuiet(true));
+        } catch (Exception e) {
+            log.error("s3 image delete failed. fileNames = {}", fileNames, e);
+        }
+
+        fileNames.forEach(imageDerivativeService::deleteVariants);
     }
 
-    public void uploadImage(String fileName, byte[] imageBytes) throws IOException {
-        InputStream inputStream = new ByteArrayInputStream(imageBytes);
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(imageBytes.length);
+    // 멀티파트 임시 파일을 메모리에 올리지 않고 스트림으로 전송
+    private PutObjectRequest createPutObjectRequest(String fileName, MultipartFile image, String contentType) throws IOException {
+
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+        objectMetadata.setContentLength(image.getSize());
 
-        amazonS3Client.putObject(new PutObjectRequest(S3Bucket, fileName, inputStream, metadata)
-                .withCannedAcl(CannedAccessControlList.PublicRead)
-        );
+        return new PutObjectRequest(S3Bucket, fileName, image.getInputStream(), objectMetadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead);
     }
-}
\ No newline at end of file
+}
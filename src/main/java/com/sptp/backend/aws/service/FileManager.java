@@ -7,25 +7,33 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.FileOutputStream;
-import java.io.IOException;
-import java.util.Base64;
-import java.util.UUID;
+import java.util.Map;
 
 @Component
 public class FileManager {
 
+    private static final Map<String, String> IMAGE_CONTENT_TYPES = Map.of(
+            "jpg", "image/jpeg",
+            "jpeg", "image/jpeg",
+            "png", "image/png",
+            "gif", "image/gif",
+            "webp", "image/webp");
+
     private final String storageUrl;
-    private final AwsService awsService;
 
-    public FileManager(@Value("${aws.storage.url}") String storageUrl, AwsService awsService) {
+    public FileManager(@Value("${aws.storage.url}") String storageUrl) {
         this.storageUrl = storageUrl;
-        this.awsService = awsService;
     }
 
     public String extractExtension(String originalFileName) {
         return originalFileName.substring(originalFileName.lastIndexOf(".") + 1);
     }
 
+    // 허용하는 이미지 확장자면 확장자로 정한 Content-Type, 아니면 null
+    public String getImageContentType(String extension) {
+        return IMAGE_CONTENT_TYPES.get(extension.toLowerCase());
+    }
+
     public String extractImageDB(String imageUrl) {
         return imageUrl.substring(imageUrl.lastIndexOf("/") + 1);
     }
@@ -38,16 +46,11 @@ public class FileManager {
         return storageUrl + url;
     }
 
-    public String storeImageFile(String base64EncodedImage) {
-        byte[] decodedImage = Base64.getDecoder().decode(base64EncodedImage);
-        String storeFileName = UUID.randomUUID() + ".png";
-
-        try {
-            awsService.uploadImage(storeFileName, decodedImage);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+    public String getVariantPath(String url, ImageVariant variant) {
+        if (Strings.isBlank(url)) {
+            return null;
         }
 
-        return storeFileName;
+        return variant.getUrl(storageUrl, url);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,208 @@
+package com.sptp.backend.aws.service;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 업로드된 원본 이미지를 S3에서 읽어 ImageVariant 크기별 JPEG 축소 이미지를 만들어 저장
+// 요청 처리와 분리된 스레드에서 실행하고, 대기열이 가득 차면 건너뜀 (축소 이미지가 없으면 클라이언트는 원본 사용)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageDerivativeService {
+
+    private final AmazonS3Client amazonS3Client;
+
+    private ExecutorService executor;
+
+    @Value("${aws.s3.derivative.threads:2}")
+    private int threads;
+
+    @Value("${aws.s3.derivative.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${aws.s3.derivative.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    // 디코딩하면 픽셀당 4바이트를 차지하므로 작은 파일로도 힙을 소진시키는 이미지(압축 폭탄)는 크기만 읽고 건너뜀
+    @Value("${aws.s3.derivative.max-pixels:40000000}")
+    private long maxPixels;
+
+    @PostConstruct
+    public void init() {
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ImageDerivative-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> log.warn("image derivative queue is full. skip generating"));
+    }
+
+    public void generateAsync(Collection<String> fileNames) {
+
+        for (String fileName : fileNames) {
+            executor.execute(() -> generate(fileName));
+        }
+    }
+
+    public void generate(String fileName) {
+
+        try (S3Object original = amazonS3Client.getObject(AwsService.S3Bucket, fileName)) {
+            BufferedImage image = read(original.getObjectContent(), fileName);
+
+            if (image == null) {
+                return;
+            }
+
+            for (ImageVariant variant : ImageVariant.values()) {
+                upload(variant.getKey(fileName), encodeJpeg(resize(image, variant.getWidth())));
+            }
+        } catch (Exception e) {
+            log.error("image derivative generation failed. fileName = {}", fileName, e);
+            return;
+        }
+
+        // 생성하는 동안 원본이 삭제(업로드 보상 처리)됐다면 만든 축소 이미지도 삭제
+        if (!amazonS3Client.doesObjectExist(AwsService.S3Bucket, fileName)) {
+            deleteVariants(fileName);
+        }
+    }
+
+    public void deleteVariants(String fileName) {
+
+        try {
+            amazonS3Client.deleteObjects(new DeleteObjectsRequest(AwsService.S3Bucket)
+                    .withKeys(Arrays.stream(ImageVariant.values()).map(variant -> variant.getKey(fileName)).toArray(String[]::new))
+                    .withQuiet(true));
+        } catch (Exception e) {
+            log.error("image derivative delete failed. fileName = {}", fileName, e);
+        }
+    }
+
+    // 헤더의 가로, 세로 크기를 먼저 확인하고, 가장 큰 축소 이미지 너비에 가깝게 픽셀을 건너뛰며 디코딩해서 원본 크기의 이미지를 메모리에 올리지 않음
+    private BufferedImage read(InputStream inputStream, String fileName) throws IOException {
+
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = (imageInputStream == null) ? Collections.emptyIterator() : ImageIO.getImageReaders(imageInputStream);
+
+            if (!readers.hasNext()) {
+                log.warn("unsupported image format. skip generating. fileName = {}", fileName);
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+
+            try {
+                reader.setInput(imageInputStream, true, true);
+
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                if ((long) width * height > maxPixels) {
+                    log.warn("image is too large. skip generating. fileName = {}, width = {}, height = {}", fileName, width, height);
+                    return null;
+                }
+
+                int subsampling = Math.max(1, width / ImageVariant.getMaxWidth());
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 원본보다 크게 늘리지 않고 비율을 유지해 축소. 투명 배경은 흰색으로 채움
+    private BufferedImage resize(BufferedImage image, int maxWidth) {
+
+        int width = Math.min(maxWidth, image.getWidth());
+        int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return resized;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    private void upload(String key, byte[] bytes) {
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType("image/jpeg");
+        metadata.setContentLength(bytes.length);
+
+        amazonS3Client.putObject(new PutObjectRequest(AwsService.S3Bucket, key, new ByteArrayInputStream(bytes), metadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,33 @@
+package com.sptp.backend.aws.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+// 목록 화면용 축소 이미지 크기. 원본 파일 이름으로부터 키가 정해지므로 DB에 따로 저장하지 않음
+// ex) 원본 abc.png -> variants/320/abc.jpg
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+    SMALL(320),
+    MEDIUM(640);
+
+    private final int width;
+
+    public String getKey(String fileName) {
+
+        String baseName = fileName.contains(".") ? fileName.substring(0, fileName.lastIndexOf(".")) : fileName;
+        return "variants/" + width + "/" + baseName + ".jpg";
+    }
+
+    public String getUrl(String storageUrl, String fileName) {
+        return storageUrl + getKey(fileName);
+    }
+
+    public static int getMaxWidth() {
+
+        return Arrays.stream(values()).mapToInt(ImageVariant::getWidth).max().orElseThrow();
+    }
+}
@@ -0,0 +1,197 @@
+package com.sptp.backend.aws.service;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.sptp.backend.aws.web.dto.UploadSessionRequest;
+import com.sptp.backend.aws.web.dto.UploadSessionResponse;
+import com.sptp.backend.common.exception.CustomException;
+import com.sptp.backend.common.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+// 클라이언트가 서버를 거치지 않고 S3에 바로 업로드하도록 pre-signed PUT URL 발급
+// 확장자로 정한 Content-Type 과 요청한 파일 크기를 Content-Length 로 함께 서명하므로, 다른 형식이나 다른 크기의 파일은 S3가 거부함
+// 업로드된 파일은 'uploads/{회원 id}/' 아래에 임시로 두고, 등록 요청에서 검증한 뒤 공개 경로로 복사
+// 등록되지 않은 임시 파일은 버킷의 수명 주기 규칙으로 정리
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadSessionService {
+
+    private final AmazonS3Client amazonS3Client;
+    private final FileManager fileManager;
+
+    @Value("${aws.s3.presigned.expiration-minutes:10}")
+    private long expirationMinutes;
+
+    @Value("${aws.s3.presigned.max-files:10}")
+    private int maxFiles;
+
+    @Value("${aws.s3.presigned.max-file-size-mb:10}")
+    private long maxFileSizeMb;
+
+    @Value("${aws.s3.presigned.commit-threads:8}")
+    private int commitThreads;
+
+    private ExecutorService commitExecutor;
+
+    // 스레드가 모두 사용 중이면 요청 스레드가 직접 확정하므로 대기열 없이 거부되지 않음
+    @PostConstruct
+    public void init() {
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        commitExecutor = new ThreadPoolExecutor(commitThreads, commitThreads, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "UploadCommit-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public List<UploadSessionResponse.UploadDto> issue(Long memberId, List<UploadSessionRequest.FileDto> files) {
+
+        if (files.isEmpty() || files.size() > maxFiles) {
+            throw new CustomException(ErrorCode.NOT_VALID_UPLOAD_REQUEST);
+        }
+
+        Date expiration = new Date(System.currentTimeMillis() + expirationMinutes * 60 * 1_000);
+        List<UploadSessionResponse.UploadDto> uploads = new ArrayList<>();
+
+        for (UploadSessionRequest.FileDto file : files) {
+            String ext = fileManager.extractExtension(file.getFileName()).toLowerCase();
+            String contentType = fileManager.getImageContentType(ext);
+
+            if (contentType == null || file.getFileSize() > maxFileSizeMb * 1024 * 1024) {
+                throw new CustomException(ErrorCode.NOT_VALID_UPLOAD_REQUEST);
+            }
+
+            String key = getUploadPrefix(memberId) + UUID.randomUUID() + "." + ext;
+            GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(AwsService.S3Bucket, key, HttpMethod.PUT)
+                    .withExpiration(expiration)
+                    .withContentType(contentType);
+            request.putCustomRequestHeader(Headers.CONTENT_LENGTH, String.valueOf(file.getFileSize()));
+
+            uploads.add(UploadSessionResponse.UploadDto.builder()
+                    .key(key)
+                    .uploadUrl(amazonS3Client.generatePresignedUrl(request).toString())
+                    .contentType(contentType)
+                    .build());
+        }
+
+        return uploads;
+    }
+
+    public String commit(Long memberId, String key) {
+        return commit(memberId, List.of(key)).get(0);
+    }
+
+    // 업로드된 파일을 검증한 뒤 S3 안에서 공개 경로로 복사하고, 저장할 파일 이름을 키 순서대로 반환
+    // 파일별 S3 요청은 동시에 보내고, 하나라도 실패하면 모두 끝난 뒤 복사에 성공한 파일을 삭제
+    public List<String> commit(Long memberId, List<String> keys) {
+
+        if (keys.size() == 1) {
+            return List.of(commitOne(memberId, keys.get(0)));
+        }
+
+        List<CompletableFuture<String>> futures = keys.stream()
+                .map(key -> CompletableFuture.supplyAsync(() -> commitOne(memberId, key), commitExecutor))
+                .collect(Collectors.toList());
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            deleteQuietly(futures.stream()
+                    .filter(future -> !future.isCompletedExceptionally())
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList()));
+
+            throw (e.getCause() instanceof RuntimeException) ? (RuntimeException) e.getCause() : e;
+        }
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+    }
+
+    private String commitOne(Long memberId, String key) {
+
+        // 다른 회원의 임시 파일이나 임의 경로의 파일은 등록할 수 없음
+        if (!key.startsWith(getUploadPrefix(memberId)) || key.contains("..")) {
+            throw new CustomException(ErrorCode.NOT_VALID_UPLOAD);
+        }
+
+        ObjectMetadata metadata = getMetadataOrThrow(key);
+
+        if (metadata.getContentLength() > maxFileSizeMb * 1024 * 1024
+                || metadata.getContentType() == null || !metadata.getContentType().startsWith("image/")) {
+            amazonS3Client.deleteObject(AwsService.S3Bucket, key);
+            throw new CustomException(ErrorCode.NOT_VALID_UPLOAD);
+        }
+
+        String fileName = key.substring(key.lastIndexOf("/") + 1);
+
+        amazonS3Client.copyObject(new CopyObjectRequest(AwsService.S3Bucket, key, AwsService.S3Bucket, fileName)
+                .withCannedAccessControlList(CannedAccessControlList.PublicRead));
+        amazonS3Client.deleteObject(AwsService.S3Bucket, key);
+
+        return fileName;
+    }
+
+    private ObjectMetadata getMetadataOrThrow(String key) {
+
+        try {
+            return amazonS3Client.getObjectMetadata(AwsService.S3Bucket, key);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                throw new CustomException(ErrorCode.NOT_VALID_UPLOAD);
+            }
+
+            throw e;
+        }
+    }
+
+    private void deleteQuietly(List<String> fileNames) {
+
+        for (String fileName : fileNames) {
+            try {
+                amazonS3Client.deleteObject(AwsService.S3Bucket, fileName);
+            } catch (Exception e) {
+                log.error("s3 committed upload delete failed. fileName = {}", fileName, e);
+            }
+        }
+    }
+
+    private String getUploadPrefix(Long memberId) {
+        return "uploads/" + memberId + "/";
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        commitExecutor.shutdown();
+    }
+}
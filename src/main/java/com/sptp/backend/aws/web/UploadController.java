@@ -0,0 +1,31 @@
+package com.sptp.backend.aws.web;
+
+import com.sptp.backend.aws.service.UploadSessionService;
+import com.sptp.backend.aws.web.dto.UploadSessionRequest;
+import com.sptp.backend.aws.web.dto.UploadSessionResponse;
+import com.sptp.backend.jwt.service.dto.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Valid;
+
+@RestController
+@RequiredArgsConstructor
+public class UploadController {
+
+    private final UploadSessionService uploadSessionService;
+
+    // 이미지 업로드용 pre-signed URL 발급
+    @PostMapping("/uploads")
+    public ResponseEntity<UploadSessionResponse> createUploadSession(@Valid @RequestBody UploadSessionRequest uploadSessionRequest,
+                                                                     @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        return ResponseEntity.ok(UploadSessionResponse.builder()
+                .uploads(uploadSessionService.issue(userDetails.getMember().getId(), uploadSessionRequest.getFiles()))
+                .build());
+    }
+}
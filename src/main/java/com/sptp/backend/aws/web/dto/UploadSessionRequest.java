@@ -0,0 +1,38 @@
+package com.sptp.backend.aws.web.dto;
+
+import lombok.*;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSessionRequest {
+
+    @Valid
+    @NotEmpty(message = "업로드할 파일은 필수입니다.")
+    private List<FileDto> files;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class FileDto {
+
+        @NotBlank(message = "업로드할 파일 이름은 필수입니다.")
+        private String fileName;
+
+        // 바이트 단위. pre-signed URL 에 서명되므로 실제 업로드하는 파일 크기와 같아야 함
+        @NotNull(message = "업로드할 파일 크기는 필수입니다.")
+        @Positive(message = "업로드할 파일 크기는 0보다 커야 합니다.")
+        private Long fileSize;
+    }
+}
@@ -0,0 +1,32 @@
+package com.sptp.backend.aws.web.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSessionResponse {
+
+    private List<UploadDto> uploads;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class UploadDto {
+
+        // 등록 요청에 그대로 담아서 보내는 값
+        private String key;
+
+        // 만료 전까지 이 주소로 파일을 PUT
+        private String uploadUrl;
+
+        // PUT 요청의 Content-Type 헤더로 그대로 보내야 하는 값
+        private String contentType;
+    }
+}
@@ -21,6 +21,10 @@ import java.time.LocalDateTime;
 @SuperBuilder
 public class Bidding extends BaseEntity {
 
+    // 최고가 구간 경계와 구간별 최소 호가 단위
+    private static final long[] INCREMENT_THRESHOLDS = {300_000, 1_000_000, 3_000_000, 5_000_000};
+    private static final long[] INCREMENTS = {20_000, 50_000, 100_000, 200_000, 500_000};
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "bidding_id")
@@ -50,33 +54,35 @@ public class Bidding extends BaseEntity {
         this.price = price;
     }
 
-    private boolean isValidPrice(Long topPrice, Long price) {
+    public static boolean isValidPrice(Long topPrice, Long price) {
 
-        long priceDifference = price - topPrice;
+        return price - topPrice >= getMinimumIncrement(topPrice);
+    }
 
-        if (topPrice < 300_000) {
-            if (priceDifference >= 20_000) {
-                return true;
-            }
-        } else if (topPrice < 1_000_000) {
-            if (priceDifference >= 50_000) {
-                return true;
-            }
-        } else if (topPrice < 3_000_000) {
-            if (priceDifference >= 100_000) {
-                return true;
-            }
-        } else if (topPrice < 5_000_000) {
-            if (priceDifference >= 200_000) {
-                return true;
+    // 최고가 구간별 최소 호가 단위
+    public static long getMinimumIncrement(long topPrice) {
+
+        for (int i = 0; i < INCREMENT_THRESHOLDS.length; i++) {
+            if (topPrice < INCREMENT_THRESHOLDS[i]) {
+                return INCREMENTS[i];
             }
-        } else {
-            if (priceDifference >= 500_000) {
-                return true;
+        }
+
+        return INCREMENTS[INCREMENTS.length - 1];
+    }
+
+    // 이 가격이 유효한 응찰이 되는 최고가의 상한. 최고가 + 최소 호가 단위가 최고가에 따라 증가하므로 top <= 상한이면 유효
+    public static long getMaximumTopPrice(long price) {
+
+        for (int i = INCREMENTS.length - 1; i > 0; i--) {
+            long topPrice = price - INCREMENTS[i];
+
+            if (topPrice >= INCREMENT_THRESHOLDS[i - 1]) {
+                return (i < INCREMENT_THRESHOLDS.length) ? Math.min(topPrice, INCREMENT_THRESHOLDS[i] - 1) : topPrice;
             }
         }
 
-        return false;
+        return Math.min(price - INCREMENTS[0], INCREMENT_THRESHOLDS[0] - 1);
     }
 
     public void setArtWork(ArtWork artWork) {
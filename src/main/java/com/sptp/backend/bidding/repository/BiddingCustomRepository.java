@@ -3,9 +3,14 @@ package com.sptp.backend.bidding.repository;
 import com.querydsl.core.Tuple;
 import com.sptp.backend.member.repository.Member;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface BiddingCustomRepository {
 
     List<Tuple> findByMemberWithMaxBidding(Member member);
+
+    List<Long> findOutbidMemberIds(Long artWorkId);
+
+    long updatePrice(Long artWorkId, Long memberId, Long price, LocalDateTime modifiedDate);
 }
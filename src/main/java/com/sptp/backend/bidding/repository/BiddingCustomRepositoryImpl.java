@@ -1,12 +1,15 @@
 package com.sptp.backend.bidding.repository;
 
 import com.querydsl.core.Tuple;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.sptp.backend.member.repository.Member;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static com.sptp.backend.art_work.repository.QArtWork.*;
 import static com.sptp.backend.bidding.repository.QBidding.*;
 
 @RequiredArgsConstructor
@@ -14,13 +17,52 @@ public class BiddingCustomRepositoryImpl implements BiddingCustomRepository {
 
     private final JPAQueryFactory queryFactory;
 
+    // 회원이 응찰한 작품(경매 회차, 작가 포함)과 회원의 최고 응찰가를 한 번의 쿼리로 조회. 작품 전체 최고가와 판매 상태는 작품 컬럼 사용
     @Override
     public List<Tuple> findByMemberWithMaxBidding(Member member) {
+
+        QBidding myBidding = new QBidding("myBidding");
+
         return queryFactory
-                .select(bidding.artWork, bidding.price.max())
+                .select(artWork,
+                        JPAExpressions
+                                .select(myBidding.price.max())
+                                .from(myBidding)
+                                .where(myBidding.artWork.id.eq(artWork.id),
+                                        myBidding.member.id.eq(member.getId())))
+                .from(artWork)
+                .join(artWork.auction).fetchJoin()
+                .join(artWork.member).fetchJoin()
+                .where(artWork.id.in(
+                        JPAExpressions
+                                .select(bidding.artWork.id)
+                                .from(bidding)
+                                .where(bidding.member.id.eq(member.getId()))))
+                .fetch();
+    }
+
+    // 작품 응찰자 중 현재 최고 응찰자를 제외한 회원 id
+    @Override
+    public List<Long> findOutbidMemberIds(Long artWorkId) {
+
+        return queryFactory
+                .select(bidding.member.id).distinct()
                 .from(bidding)
-                .where(bidding.member.id.eq(member.getId()))
-                .groupBy(bidding.artWork.id)
+                .join(bidding.artWork, artWork)
+                .where(artWork.id.eq(artWorkId),
+                        artWork.topBidderId.isNull().or(bidding.member.id.ne(artWork.topBidderId)))
                 .fetch();
     }
+
+    @Override
+    public long updatePrice(Long artWorkId, Long memberId, Long price, LocalDateTime modifiedDate) {
+
+        return queryFactory
+                .update(bidding)
+                .set(bidding.price, price)
+                .set(bidding.modifiedDate, modifiedDate)
+                .where(bidding.artWork.id.eq(artWorkId),
+                        bidding.member.id.eq(memberId))
+                .execute();
+    }
 }
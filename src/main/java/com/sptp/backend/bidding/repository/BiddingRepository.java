@@ -14,8 +14,6 @@ public interface BiddingRepository extends JpaRepository<Bidding, Long>, Bidding
 
     Optional<Bidding> getFirstByArtWorkOrderByPriceDesc(ArtWork artWork);
 
-    boolean existsByArtWorkId(Long artWorkId);
-
     @EntityGraph(attributePaths = {"member"})
     List<Bidding> findAllByArtWorkOrderByPriceDesc(ArtWork artWork);
 
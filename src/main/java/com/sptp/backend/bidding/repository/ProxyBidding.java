@@ -0,0 +1,41 @@
+package com.sptp.backend.bidding.repository;
+
+import com.sptp.backend.art_work.repository.ArtWork;
+import com.sptp.backend.common.entity.BaseEntity;
+import com.sptp.backend.member.repository.Member;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import javax.persistence.*;
+
+// 회원이 작품에 등록한 자동 응찰 최고 한도
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@Table(uniqueConstraints = {@UniqueConstraint(
+        name = "PROXY_BIDDING_UNIQUE",
+        columnNames = {"art_work_id", "member_id"})})
+public class ProxyBidding extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "proxy_bidding_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    private Member member;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "art_work_id")
+    private ArtWork artWork;
+    private Long maxPrice;
+
+    public void updateMaxPrice(Long maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+}
@@ -0,0 +1,15 @@
+package com.sptp.backend.bidding.repository;
+
+import com.sptp.backend.art_work.repository.ArtWork;
+import com.sptp.backend.member.repository.Member;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProxyBiddingRepository extends JpaRepository<ProxyBidding, Long> {
+
+    Optional<ProxyBidding> findByArtWorkAndMember(ArtWork artWork, Member member);
+
+    List<ProxyBidding> findAllByArtWorkOrderByIdAsc(ArtWork artWork);
+}
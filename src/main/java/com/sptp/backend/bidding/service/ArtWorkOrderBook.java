@@ -0,0 +1,258 @@
+package com.sptp.backend.bidding.service;
+
+import com.sptp.backend.art_work.repository.ArtWork;
+import com.sptp.backend.bidding.repository.Bidding;
+import com.sptp.backend.bidding.repository.ProxyBidding;
+import com.sptp.backend.common.exception.CustomException;
+import com.sptp.backend.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 작품 한 개에 대한 메모리 호가창. 최고가, 최고 응찰자, 회원별 최고 응찰가를 보관
+// 최고가 상태는 불변 스냅샷을 CAS로 교체하므로 같은 작품의 응찰은 락 없이 한 줄로 직렬화됨
+// 자동 응찰은 회원별 최고 한도만 보관하고, 경합이 생기면 최종 결과 가격을 한 번에 계산해 응찰 하나로 반영
+public class ArtWorkOrderBook {
+
+    @Getter
+    private final Long artWorkId;
+
+    @Getter
+    private final Long startPrice;
+
+    private final AtomicReference<Top> top = new AtomicReference<>(Top.EMPTY);
+    private final Map<Long, Long> bestBids = new ConcurrentHashMap<>();
+    private final Map<Long, Proxy> proxies = new ConcurrentHashMap<>();
+    private final AtomicLong proxySequence = new AtomicLong();
+
+    private ArtWorkOrderBook(Long artWorkId, Long startPrice) {
+        this.artWorkId = artWorkId;
+        this.startPrice = startPrice;
+    }
+
+    public static ArtWorkOrderBook of(ArtWork artWork, List<Bidding> biddings) {
+
+        return of(artWork, biddings, Collections.emptyList());
+    }
+
+    public static ArtWorkOrderBook of(ArtWork artWork, List<Bidding> biddings, List<ProxyBidding> proxyBiddings) {
+
+        ArtWorkOrderBook orderBook = new ArtWorkOrderBook(artWork.getId(), artWork.getPrice());
+
+        for (Bidding bidding : biddings) {
+            Long memberId = bidding.getMember().getId();
+            orderBook.bestBids.merge(memberId, bidding.getPrice(), Math::max);
+            orderBook.top.set(orderBook.top.get().raise(memberId, bidding.getPrice()));
+        }
+
+        // 먼저 등록된 자동 응찰이 동일 한도 경합에서 우선하도록 등록 순서대로 적재
+        for (ProxyBidding proxyBidding : proxyBiddings) {
+            orderBook.putProxy(proxyBidding.getMember().getId(), proxyBidding.getMaxPrice());
+        }
+
+        return orderBook;
+    }
+
+    public Acceptance accept(Long memberId, Long price) {
+
+        Top current = top.get();
+
+        if (!isValidPrice(current, price)) {
+            throw new CustomException(ErrorCode.NOT_VALID_BID);
+        }
+
+        // 검증 이후 다른 응찰이 먼저 반영됐다면 새 최고가 기준으로 다시 검증하고, 더 이상 유효하지 않으면 늦은 응찰로 거절
+        while (!top.compareAndSet(current, current.raise(memberId, price))) {
+            current = top.get();
+
+            if (!isValidPrice(current, price)) {
+                throw new CustomException(ErrorCode.STALE_BID);
+            }
+        }
+
+        boolean newBidder = bestBids.putIfAbsent(memberId, price) == null;
+        if (!newBidder) {
+            bestBids.merge(memberId, price, Math::max);
+        }
+
+        return new Acceptance(current.isEmpty(), newBidder);
+    }
+
+    // 자동 응찰 한도 등록. 한도는 현재 최고가 기준으로 응찰 가능한 가격 이상이어야 함
+    public void registerProxy(Long memberId, Long maxPrice) {
+
+        if (!isValidPrice(top.get(), maxPrice)) {
+            throw new CustomException(ErrorCode.NOT_VALID_BID);
+        }
+
+        putProxy(memberId, maxPrice);
+    }
+
+    // 자동 응찰끼리의 경합을 메모리에서 한 번에 계산해 최종 응찰 하나만 반영. 반영할 응찰이 없으면 null
+    public ProxyBid resolveProxies() {
+
+        while (true) {
+            Top current = top.get();
+            ProxyBid proxyBid = computeProxyBid(current);
+
+            if (proxyBid == null) {
+                return null;
+            }
+
+            try {
+                return new ProxyBid(proxyBid.getMemberId(), proxyBid.getPrice(), accept(proxyBid.getMemberId(), proxyBid.getPrice()));
+            } catch (CustomException e) {
+                // 계산 도중 다른 응찰이 먼저 반영된 경우에만 새 최고가 기준으로 다시 계산
+                if (top.get() == current) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    public Long getTopPrice() {
+        return top.get().getPrice();
+    }
+
+    public Long getTopBidderId() {
+        return top.get().getBidderId();
+    }
+
+    public long getBidCount() {
+        return top.get().getCount();
+    }
+
+    public int getBidderCount() {
+        return bestBids.size();
+    }
+
+    public Long getBestBid(Long memberId) {
+        return bestBids.get(memberId);
+    }
+
+    public Long getProxyMaxPrice(Long memberId) {
+
+        Proxy proxy = proxies.get(memberId);
+
+        return (proxy == null) ? null : proxy.getMaxPrice();
+    }
+
+    // 한도를 변경해도 최초 등록 순서는 유지
+    private void putProxy(Long memberId, Long maxPrice) {
+
+        proxies.compute(memberId, (id, old) -> new Proxy(id, maxPrice, (old == null) ? proxySequence.incrementAndGet() : old.getSequence()));
+    }
+
+    // 최고 응찰자는 현재 응찰가와 자동 응찰 한도 중 큰 값까지, 나머지는 유효한 응찰이 가능한 자동 응찰만 경합에 참여
+    // 한도가 가장 높은 회원이 두 번째 한도보다 한 호가 높은 가격(자신의 한도 이내)으로 한 번만 응찰
+    private ProxyBid computeProxyBid(Top current) {
+
+        List<Proxy> candidates = new ArrayList<>();
+        boolean hasChallenger = false;
+
+        if (!current.isEmpty()) {
+            Proxy topProxy = proxies.get(current.getBidderId());
+            long ceiling = (topProxy == null) ? current.getPrice() : Math.max(current.getPrice(), topProxy.getMaxPrice());
+            candidates.add(new Proxy(current.getBidderId(), ceiling, 0));
+        }
+
+        for (Proxy proxy : proxies.values()) {
+            if (proxy.getMemberId().equals(current.getBidderId()) || !isValidPrice(current, proxy.getMaxPrice())) {
+                continue;
+            }
+
+            candidates.add(proxy);
+            hasChallenger = true;
+        }
+
+        if (!hasChallenger) {
+            return null;
+        }
+
+        // 한도가 같으면 현재 최고 응찰자, 그 다음으로 먼저 등록한 자동 응찰이 우선
+        candidates.sort(Comparator.comparing(Proxy::getMaxPrice).reversed().thenComparingLong(Proxy::getSequence));
+
+        Proxy winner = candidates.get(0);
+
+        if (candidates.size() == 1) {
+            return new ProxyBid(winner.getMemberId(), startPrice, null);
+        }
+
+        long secondPrice = candidates.get(1).getMaxPrice();
+        long price = Math.min(winner.getMaxPrice(), secondPrice + Bidding.getMinimumIncrement(secondPrice));
+
+        if (!isValidPrice(current, price)) {
+            return null;
+        }
+
+        return new ProxyBid(winner.getMemberId(), price, null);
+    }
+
+    // 작품에 대한 최초 응찰일 경우 시작가 이상, 이후에는 최고가 대비 호가 단위 이상
+    private boolean isValidPrice(Top current, Long price) {
+
+        if (current.isEmpty()) {
+            return price.equals(startPrice) || (price > startPrice && Bidding.isValidPrice(startPrice, price));
+        }
+
+        return Bidding.isValidPrice(current.getPrice(), price);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Top {
+
+        private static final Top EMPTY = new Top(null, null, 0);
+
+        private final Long price;
+        private final Long bidderId;
+        private final long count;
+
+        private boolean isEmpty() {
+            return price == null;
+        }
+
+        private Top raise(Long memberId, Long newPrice) {
+
+            if (price != null && newPrice <= price) {
+                return new Top(price, bidderId, count + 1);
+            }
+
+            return new Top(newPrice, memberId, count + 1);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Proxy {
+
+        private final Long memberId;
+        private final Long maxPrice;
+        private final long sequence;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class ProxyBid {
+
+        private final Long memberId;
+        private final Long price;
+        private final Acceptance acceptance;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Acceptance {
+
+        private final boolean firstBid;
+        private final boolean newBidder;
+    }
+}
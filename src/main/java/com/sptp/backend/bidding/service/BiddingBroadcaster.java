@@ -0,0 +1,117 @@
+package com.sptp.backend.bidding.service;
+
+import com.sptp.backend.art_work.web.dto.response.BiddingStreamResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 응찰 현황을 '/topic/art-works/{id}/bids' 로 전송. 작품별로 초당 최대 N 번만 최신 상태를 묶어서 전송
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BiddingBroadcaster {
+
+    private final SimpMessagingTemplate simpMessagingTemplate;
+
+    private final Map<Long, BiddingStreamResponse> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "BiddingBroadcaster");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 0 이면 묶지 않고 커밋마다 바로 전송
+    @Value("${bidding.stream.max-updates-per-second:5}")
+    private int maxUpdatesPerSecond;
+
+    @PostConstruct
+    public void init() {
+
+        if (maxUpdatesPerSecond < 0) {
+            throw new IllegalStateException("bidding.stream.max-updates-per-second must be 0 or greater. current = " + maxUpdatesPerSecond);
+        }
+    }
+
+    public static String getDestination(Long artWorkId) {
+        return "/topic/art-works/" + artWorkId + "/bids";
+    }
+
+    // 롤백된 응찰이 전송되지 않도록 커밋 이후에 전송 대기열에 추가
+    public void publishAfterCommit(Long artWorkId, Long topPrice, int totalBiddingCount, LocalDateTime endDate) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(artWorkId, topPrice, totalBiddingCount, endDate);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCommit() {
+                publish(artWorkId, topPrice, totalBiddingCount, endDate);
+            }
+        });
+    }
+
+    public void publish(Long artWorkId, Long topPrice, int totalBiddingCount, LocalDateTime endDate) {
+
+        BiddingStreamResponse response = BiddingStreamResponse.builder()
+                .artWorkId(artWorkId)
+                .topPrice(topPrice)
+                .totalBiddingCount(totalBiddingCount)
+                .endDate(endDate)
+                .build();
+
+        // 대기열에 처음 들어온 작품만 전송 예약. 이후 전송 전까지 들어온 응찰은 최신 상태로 합쳐짐
+        AtomicBoolean first = new AtomicBoolean();
+        pending.compute(artWorkId, (id, old) -> {
+            if (old == null) {
+                first.set(true);
+                return response;
+            }
+
+            // 커밋 순서가 뒤바뀌어도 더 높은 최고가가 낮은 값으로 덮어써지지 않도록 유지
+            return (old.getTopPrice() > topPrice) ? old : response;
+        });
+
+        if (first.get()) {
+            long delayMillis = (maxUpdatesPerSecond == 0) ? 0 : 1000L / maxUpdatesPerSecond;
+            scheduler.schedule(() -> flush(artWorkId), delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush(Long artWorkId) {
+
+        BiddingStreamResponse response = pending.remove(artWorkId);
+
+        if (response == null) {
+            return;
+        }
+
+        try {
+            simpMessagingTemplate.convertAndSend(getDestination(artWorkId), BiddingStreamResponse.of(
+                    artWorkId, response.getTopPrice(), response.getTotalBiddingCount(), response.getEndDate()));
+        } catch (Exception e) {
+            log.error("bidding stream send failed. artWorkId = {}", artWorkId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+}
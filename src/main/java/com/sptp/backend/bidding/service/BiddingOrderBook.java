@@ -0,0 +1,59 @@
+package com.sptp.backend.bidding.service;
+
+import com.sptp.backend.art_work.repository.ArtWork;
+import com.sptp.backend.bidding.repository.Bidding;
+import com.sptp.backend.bidding.repository.ProxyBidding;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 진행중인 경매 작품들의 호가창을 작품 id 기준으로 관리
+@Component
+public class BiddingOrderBook {
+
+    private final Map<Long, ArtWorkOrderBook> orderBooks = new ConcurrentHashMap<>();
+
+    public Optional<ArtWorkOrderBook> find(Long artWorkId) {
+
+        return Optional.ofNullable(orderBooks.get(artWorkId));
+    }
+
+    public ArtWorkOrderBook open(ArtWork artWork, List<Bidding> biddings) {
+
+        return open(artWork, biddings, Collections.emptyList());
+    }
+
+    public ArtWorkOrderBook open(ArtWork artWork, List<Bidding> biddings, List<ProxyBidding> proxyBiddings) {
+
+        return orderBooks.computeIfAbsent(artWork.getId(), id -> ArtWorkOrderBook.of(artWork, biddings, proxyBiddings));
+    }
+
+    public void close(Long artWorkId) {
+
+        orderBooks.remove(artWorkId);
+    }
+
+    // 응찰 트랜잭션이 롤백되면 메모리 상태와 DB가 어긋나므로 호가창을 버리고 다음 응찰 때 DB에서 다시 적재
+    public void evictOnRollback(Long artWorkId) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    close(artWorkId);
+                }
+            }
+        });
+    }
+}
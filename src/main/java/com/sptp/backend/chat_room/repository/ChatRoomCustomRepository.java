@@ -0,0 +1,10 @@
+package com.sptp.backend.chat_room.repository;
+
+import com.querydsl.core.Tuple;
+
+import java.util.List;
+
+public interface ChatRoomCustomRepository {
+
+    List<Tuple> findAllWithLastMessageAndUnreadCount(Long memberId);
+}
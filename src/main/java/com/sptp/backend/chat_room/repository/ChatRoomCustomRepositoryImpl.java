@@ -0,0 +1,53 @@
+package com.sptp.backend.chat_room.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sptp.backend.member.repository.QMember;
+import com.sptp.backend.message.repository.QMessage;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+import static com.sptp.backend.art_work.repository.QArtWork.*;
+import static com.sptp.backend.chat_room.repository.QChatRoom.*;
+
+@RequiredArgsConstructor
+public class ChatRoomCustomRepositoryImpl implements ChatRoomCustomRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    // 회원의 채팅방(작품, 참여자 포함)과 마지막 메시지, 읽지 않은 메시지 수를 한 번의 쿼리로 조회
+    // 메시지가 없는 채팅방은 마지막 메시지가 null
+    @Override
+    public List<Tuple> findAllWithLastMessageAndUnreadCount(Long memberId) {
+
+        QMember artist = new QMember("artist");
+        QMember member = new QMember("member");
+        QMessage lastMessage = new QMessage("lastMessage");
+        QMessage latestMessage = new QMessage("latestMessage");
+        QMessage unreadMessage = new QMessage("unreadMessage");
+
+        return queryFactory
+                .select(chatRoom,
+                        lastMessage,
+                        JPAExpressions
+                                .select(unreadMessage.count())
+                                .from(unreadMessage)
+                                .where(unreadMessage.chatRoom.id.eq(chatRoom.id),
+                                        unreadMessage.isRead.isFalse(),
+                                        unreadMessage.sender.id.ne(memberId)))
+                .from(chatRoom)
+                .join(chatRoom.artWork, artWork).fetchJoin()
+                .join(chatRoom.artist, artist).fetchJoin()
+                .join(chatRoom.member, member).fetchJoin()
+                // 마지막 메시지 조건을 조인 조건에 두어 채팅방마다 메시지 한 건만 조인하고, 메시지가 없는 채팅방은 null 로 남김
+                .leftJoin(lastMessage).on(lastMessage.chatRoom.id.eq(chatRoom.id),
+                        lastMessage.id.eq(JPAExpressions
+                                .select(latestMessage.id.max())
+                                .from(latestMessage)
+                                .where(latestMessage.chatRoom.id.eq(chatRoom.id))))
+                .where(chatRoom.member.id.eq(memberId).or(chatRoom.artist.id.eq(memberId)))
+                .fetch();
+    }
+}
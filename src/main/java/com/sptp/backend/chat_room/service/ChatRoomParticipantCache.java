@@ -0,0 +1,71 @@
+package com.sptp.backend.chat_room.service;
+
+import com.sptp.backend.chat_room.repository.ChatRoom;
+import com.sptp.backend.chat_room.repository.ChatRoomRepository;
+import com.sptp.backend.common.exception.CustomException;
+import com.sptp.backend.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 메시지를 보낼 때마다 채팅방을 조회하지 않도록 채팅방 참여자를 캐시. 참여자는 바뀌지 않으므로 채팅방이 삭제될 때만 제거
+// 최근에 사용한 채팅방부터 max-size 개까지만 보관
+@Component
+@RequiredArgsConstructor
+public class ChatRoomParticipantCache {
+
+    private final ChatRoomRepository chatRoomRepository;
+
+    @Value("${chat.participant-cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<Long, Participants> cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Participants> eldest) {
+            return size() > maxSize;
+        }
+    });
+
+    public Participants get(Long chatRoomId) {
+
+        Participants participants = cache.get(chatRoomId);
+
+        if (participants != null) {
+            return participants;
+        }
+
+        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_CHAT_ROOM));
+
+        participants = new Participants(chatRoom.getArtist().getId(), chatRoom.getMember().getId());
+        cache.put(chatRoomId, participants);
+
+        return participants;
+    }
+
+    public void evict(Long chatRoomId) {
+        cache.remove(chatRoomId);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Participants {
+
+        private final Long artistId;
+        private final Long memberId;
+
+        public boolean contains(Long id) {
+            return artistId.equals(id) || memberId.equals(id);
+        }
+
+        public Long getOtherMemberId(Long id) {
+            return memberId.equals(id) ? artistId : memberId;
+        }
+    }
+}
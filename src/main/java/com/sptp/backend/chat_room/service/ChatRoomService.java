@@ -3,9 +3,8 @@ package com.sptp.backend.chat_room.service;
 import com.sptp.backend.art_work.repository.ArtWorkRepository;
 import com.sptp.backend.aws.service.AwsService;
 import com.sptp.backend.aws.service.FileManager;
+import com.sptp.backend.aws.service.ImageVariant;
 import com.sptp.backend.chat_room.repository.ChatRoom;
-import com.sptp.backend.chat_room_connection.repository.ChatRoomConnection;
-import com.sptp.backend.chat_room_connection.repository.ChatRoomConnectionRepository;
 import com.sptp.backend.chat_room.repository.ChatRoomRepository;
 import com.sptp.backend.chat_room.web.dto.ChatRoomDetailResponse;
 import com.sptp.backend.chat_room.web.dto.ChatRoomResponse;
@@ -17,9 +16,11 @@ import com.sptp.backend.message.repository.Message;
 import com.sptp.backend.message.repository.MessageRepository;
 import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.util.Strings;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -34,6 +35,7 @@ public class ChatRoomService {
     private final ArtWorkRepository artWorkRepository;
     private final MessageRepository messageRepository;
     private final FileManager fileManager;
+    private final ChatRoomParticipantCache chatRoomParticipantCache;
 
     public long createChatRoom(Long loginMemberId, Long artistId, Long artWorkId) {
 
@@ -57,58 +59,70 @@ public class ChatRoomService {
         return chatRoomRepository.save(chatRoom).getId();
     }
 
-    public ChatRoomDetailResponse getChatRoomDetail(Long loginMemberId, Long chatRoomId) {
+    // 커서(messageId) 이전 메시지 한 페이지만 조회하고, 페이지의 마지막 메시지까지 한 번의 update 로 읽음 처리
+    public ChatRoomDetailResponse getChatRoomDetail(Long loginMemberId, Long chatRoomId, Long messageId, Pageable pageable) {
 
         ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_CHAT_ROOM));
-        List<Message> messages = messageRepository.findAllByChatRoomOrderByIdAsc(chatRoom);
-        messages.forEach(message -> message.read(loginMemberId));
+        List<Message> messages = messageRepository.findMessageList(chatRoomId, messageId, pageable.getPageSize() + 1);
+
+        boolean hasNext = false;
+
+        // 조회한 결과 개수가 요청한 페이지 사이즈보다 클 경우, next = true
+        if (messages.size() > pageable.getPageSize()) {
+            hasNext = true;
+            messages.remove(pageable.getPageSize());
+        }
+
+        if (!messages.isEmpty()) {
+            messageRepository.updateReadUntil(chatRoomId, loginMemberId, messages.get(0).getId());
+        }
+
+        // 최신순으로 조회한 페이지를 시간순으로 반환
+        Collections.reverse(messages);
 
         return ChatRoomDetailResponse.builder()
                 .chatRoomId(chatRoomId)
                 .artist(ChatRoomDetailResponse.MemberDto.from(chatRoom.getArtist()))
                 .member(ChatRoomDetailResponse.MemberDto.from(chatRoom.getMember()))
+                .nextPage(hasNext)
                 .messages(messages.stream()
                         .map(ChatRoomDetailResponse.MessageDto::from)
                         .collect(Collectors.toList()))
                 .build();
     }
 
+    // 채팅방 수와 관계없이 한 번의 쿼리로 조회
+    @Transactional(readOnly = true)
     public List<ChatRoomResponse> getChatRooms(Long loginMemberId) {
 
-        List<ChatRoom> chatRooms = chatRoomRepository.findAllByMemberIdOrArtistId(loginMemberId, loginMemberId);
-       Member member = memberRepository.findById(loginMemberId)
-               .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_MEMBER));
-
-        return chatRooms.stream().map(chatRoom -> ChatRoomResponse.builder()
-                        .chatRoomId(chatRoom.getId())
-                        .artWorkImage(fileManager.getFullPath(chatRoom.getArtWork().getMainImage()))
-                        .unreadCount(getUnreadCount(chatRoom, member))
-                        .otherMember(getOtherMemberDto(chatRoom.getOtherMember(loginMemberId)))
-                        .lastMessage(getLastMessageDto(chatRoom))
-                        .build())
+        return chatRoomRepository.findAllWithLastMessageAndUnreadCount(loginMemberId).stream()
+                .map(tuple -> toChatRoomResponse(loginMemberId, tuple.get(0, ChatRoom.class), tuple.get(1, Message.class), tuple.get(2, Long.class)))
                 .collect(Collectors.toList());
     }
 
-    private ChatRoomResponse.MessageDto getLastMessageDto(ChatRoom chatRoom) {
-        return messageRepository.findFirstByChatRoomOrderByIdDesc(chatRoom)
-                .map(ChatRoomResponse.MessageDto::from)
-                .orElse(null);
+    private ChatRoomResponse toChatRoomResponse(Long loginMemberId, ChatRoom chatRoom, Message lastMessage, Long unreadCount) {
 
+        return ChatRoomResponse.builder()
+                .chatRoomId(chatRoom.getId())
+                .artWorkImage(fileManager.getFullPath(chatRoom.getArtWork().getMainImage()))
+                .artWorkThumbnailImage(fileManager.getVariantPath(chatRoom.getArtWork().getMainImage(), ImageVariant.SMALL))
+                .unreadCount(unreadCount.intValue())
+                .otherMember(getOtherMemberDto(chatRoom.getOtherMember(loginMemberId)))
+                .lastMessage(lastMessage == null ? null : ChatRoomResponse.MessageDto.from(lastMessage))
+                .build();
     }
 
     private ChatRoomResponse.MemberDto getOtherMemberDto(Member otherMember) {
         return ChatRoomResponse.MemberDto.of(otherMember, fileManager.getFullPath(otherMember.getImage()));
     }
 
-    private Integer getUnreadCount(ChatRoom chatRoom, Member member) {
-        return messageRepository.countByChatRoomAndIsReadIsFalseAndSenderNot(chatRoom, member);
-    }
-
     public void leaveChatRoom(Long chatRoomId) {
 
         if (chatRoomRepository.existsById(chatRoomId)) {
             chatRoomRepository.deleteById(chatRoomId);
         }
+
+        chatRoomParticipantCache.evict(chatRoomId);
     }
 }
@@ -5,6 +5,7 @@ import com.sptp.backend.chat_room.web.dto.*;
 import com.sptp.backend.jwt.service.dto.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.apache.http.HttpHeaders;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -33,12 +34,13 @@ public class ChatRoomController {
                 .build());
     }
 
-    // 채팅방 조회
+    // 채팅방 조회. before 로 받은 메시지 id 이전의 메시지를 size 개씩 조회
     @GetMapping("/{chatRoomId}")
-    public ResponseEntity<ChatRoomDetailResponse> getChatRoomDetail(@PathVariable Long chatRoomId,
+    public ResponseEntity<ChatRoomDetailResponse> getChatRoomDetail(@PathVariable Long chatRoomId, Pageable pageable,
+                                                                    @RequestParam(value = "before", required = false) Long messageId,
                                                                     @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        return ResponseEntity.ok(chatRoomService.getChatRoomDetail(userDetails.getMember().getId(), chatRoomId));
+        return ResponseEntity.ok(chatRoomService.getChatRoomDetail(userDetails.getMember().getId(), chatRoomId, messageId, pageable));
     }
 
     // 채팅방 목록 조회
@@ -15,6 +15,7 @@ public class ChatRoomDetailResponse {
     private Long chatRoomId;
     private MemberDto artist;
     private MemberDto member;
+    private boolean nextPage;
     private List<MessageDto> messages;
 
     @Data
@@ -35,6 +36,7 @@ public class ChatRoomDetailResponse {
     @Data
     @Builder
     public static class MessageDto {
+        private Long messageId;
         private Long senderId;
         private String type;
         private String content;
@@ -44,6 +46,7 @@ public class ChatRoomDetailResponse {
 
         public static MessageDto from(Message message) {
             return MessageDto.builder()
+                    .messageId(message.getId())
                     .senderId(message.getSender().getId())
                     .type(message.getType())
                     .content(message.getContent())
@@ -14,6 +14,7 @@ public class ChatRoomResponse {
 
     private Long chatRoomId;
     private String artWorkImage;
+    private String artWorkThumbnailImage;
     private int unreadCount;
     private MemberDto otherMember;
     private MessageDto lastMessage;
@@ -1,37 +1,139 @@
 package com.sptp.backend.chat_room_connection.service;
 
-import com.sptp.backend.chat_room_connection.repository.ChatRoomConnection;
-import com.sptp.backend.chat_room_connection.repository.ChatRoomConnectionRepository;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 채팅방 접속 상태를 Redis 에 보관. 채팅방별 sorted set 에 '회원 id:세션 id' 를 만료 시각을 점수로 저장
+// 각 서버는 자기 세션의 만료 시각을 주기적으로 연장하므로, 서버가 비정상 종료되면 그 세션은 TTL 이후 접속하지 않은 것으로 처리됨
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class ChatRoomConnectionService {
 
-    private final ChatRoomConnectionRepository chatRoomConnectionRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 이 서버에 연결된 세션. 만료 시각 연장과 연결 종료 시 정리에 사용
+    private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ChatRoomConnectionHeartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${chat.presence.ttl-seconds:90}")
+    private long ttlSeconds;
+
+    @Value("${chat.presence.heartbeat-seconds:30}")
+    private long heartbeatSeconds;
+
+    @PostConstruct
+    public void init() {
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
 
     public void connect(String sessionId, Long chatRoomId, Long memberId) {
 
-        if (chatRoomConnectionRepository.existsBySessionId(sessionId)) {
+        Connection connection = new Connection(chatRoomId, memberId + ":" + sessionId);
+
+        if (connections.putIfAbsent(sessionId, connection) != null) {
             return;
         }
 
-        ChatRoomConnection chatRoomConnection = ChatRoomConnection.builder()
-                .sessionId(sessionId)
-                .chatRoomId(chatRoomId)
-                .memberId(memberId)
-                .build();
+        // 등록에 실패해도 다음 하트비트에서 다시 등록됨
+        try {
+            long now = System.currentTimeMillis();
+            String key = getKey(chatRoomId);
 
-        chatRoomConnectionRepository.save(chatRoomConnection);
+            stringRedisTemplate.opsForZSet().removeRangeByScore(key, 0, now);
+            stringRedisTemplate.opsForZSet().add(key, connection.getValue(), now + ttlSeconds * 1_000);
+            stringRedisTemplate.expire(key, Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.error("chat room connect failed. chatRoomId = {}", chatRoomId, e);
+        }
     }
 
     public void disconnect(String sessionId) {
 
-        if (chatRoomConnectionRepository.existsBySessionId(sessionId)) {
-            chatRoomConnectionRepository.deleteBySessionId(sessionId);
+        Connection connection = connections.remove(sessionId);
+
+        if (connection == null) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.opsForZSet().remove(getKey(connection.getChatRoomId()), connection.getValue());
+        } catch (Exception e) {
+            log.error("chat room disconnect failed. chatRoomId = {}", connection.getChatRoomId(), e);
+        }
+    }
+
+    // 만료되지 않은 세션이 있으면 접속 중. Redis 장애 시에는 접속하지 않은 것으로 보고 알림을 보냄
+    public boolean isConnected(Long chatRoomId, Long memberId) {
+
+        try {
+            Set<String> values = stringRedisTemplate.opsForZSet()
+                    .rangeByScore(getKey(chatRoomId), System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+
+            return values != null && values.stream().anyMatch(value -> value.startsWith(memberId + ":"));
+        } catch (Exception e) {
+            log.error("chat room connection lookup failed. chatRoomId = {}", chatRoomId, e);
+            return false;
+        }
+    }
+
+    void heartbeat() {
+
+        try {
+            long now = System.currentTimeMillis();
+            Set<Long> chatRoomIds = new HashSet<>();
+
+            for (Connection connection : connections.values()) {
+                stringRedisTemplate.opsForZSet().add(getKey(connection.getChatRoomId()), connection.getValue(), now + ttlSeconds * 1_000);
+                chatRoomIds.add(connection.getChatRoomId());
+            }
+
+            // 비정상 종료된 서버가 남긴 세션 정리
+            for (Long chatRoomId : chatRoomIds) {
+                stringRedisTemplate.opsForZSet().removeRangeByScore(getKey(chatRoomId), 0, now);
+                stringRedisTemplate.expire(getKey(chatRoomId), Duration.ofSeconds(ttlSeconds));
+            }
+        } catch (Exception e) {
+            log.error("chat room connection heartbeat failed", e);
         }
     }
+
+    private String getKey(Long chatRoomId) {
+        return "chat-room:" + chatRoomId + ":connections";
+    }
+
+    @PreDestroy
+    public void shutdown() {
+
+        scheduler.shutdownNow();
+        connections.keySet().forEach(this::disconnect);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Connection {
+
+        private final Long chatRoomId;
+        private final String value;
+    }
 }
@@ -0,0 +1,28 @@
+package com.sptp.backend.common.config;
+
+import com.sptp.backend.common.stomp.RedisBrokerRelayInterceptor;
+import com.sptp.backend.common.stomp.RedisBrokerRelayListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+// chat.broker.mode=redis 일 때 다른 서버의 브로커 메시지를 구독
+@Configuration
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+public class RedisBrokerRelayConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisBrokerRelayListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                           RedisBrokerRelayInterceptor redisBrokerRelayInterceptor,
+                                                                           RedisBrokerRelayListener redisBrokerRelayListener) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(redisBrokerRelayListener, new ChannelTopic(redisBrokerRelayInterceptor.getTopic()));
+
+        return container;
+    }
+}
@@ -0,0 +1,64 @@
+package com.sptp.backend.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+// spring.threads.virtual.enabled=true 일 때 톰캣 요청 처리를 요청마다 새 가상 스레드에서 실행 (JDK 21 이상 런타임 필요)
+// Spring Boot 3.2 의 설정 이름을 그대로 사용하므로 업그레이드하면 이 설정 클래스를 지우고 Boot 기본 동작으로 대체
+// 코드는 Java 11 로 컴파일되므로 가상 스레드 실행기는 실행 시점에 리플렉션으로 생성하고, 지원하지 않는 JDK 면 기동을 중단
+//
+// 가상 스레드로 바뀌는 것은 톰캣 요청 스레드뿐. 요청 안에서 실행되는 JDBC, S3, SMTP, OAuth 호출이 대상
+// 알림 리스너는 @Async 대신 아웃박스 레인에서 실행되고, 레인과 스케줄러(경매, 응찰 전송, 채팅 하트비트 등)는 종류별 순서를 지키기 위한 스레드 한 개짜리 실행기이므로 플랫폼 스레드로 유지
+//
+// JDK 21 에서는 synchronized 블록 안에서 블로킹되면 가상 스레드가 캐리어 스레드를 점유(pinning)함
+// 톰캣 9 와 MySQL Connector/J 8 은 소켓 입출력을 synchronized 안에서 수행하므로, 동시에 쿼리를 실행하는 요청 수(Hikari 풀 크기)만큼 캐리어가 묶일 수 있음
+// 캐리어 수(jdk.virtualThreadScheduler.parallelism, 기본값 CPU 코어 수)를 Hikari maximum-pool-size 보다 크게 두고, -Djdk.tracePinnedThreads=short 로 점유 구간을 확인
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private ExecutorService executor;
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+
+        executor = newVirtualThreadPerTaskExecutor("tomcat-virtual-");
+        log.info("tomcat request handling runs on virtual threads");
+
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    // 실행기를 빈으로 등록하면 Executor 빈이 없을 때만 생성되는 Boot 기본 실행기(applicationTaskExecutor)가 빠지므로 직접 종료
+    // 톰캣이 먼저 멈춘 뒤에 호출되고, 실행중인 요청은 각자의 가상 스레드에서 마저 끝남
+    @PreDestroy
+    public void shutdown() {
+
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    // Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefix, 0).factory())
+    static ExecutorService newVirtualThreadPerTaskExecutor(String prefix) {
+
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = Class.forName("java.lang.Thread$Builder$OfVirtual").getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("spring.threads.virtual.enabled requires JDK 21 or later. current = " + Runtime.version(), e);
+        }
+    }
+}
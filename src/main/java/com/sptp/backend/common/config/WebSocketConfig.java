@@ -1,7 +1,9 @@
 package com.sptp.backend.common.config;
 
+import com.sptp.backend.common.stomp.RedisBrokerRelayInterceptor;
 import com.sptp.backend.common.stomp.StompHandler;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
@@ -15,7 +17,7 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompHandler stompHandler;
-//    private final AgentWebSocketHandlerDecoratorFactory agentWebSocketHandlerDecoratorFactory;
+    private final ObjectProvider<RedisBrokerRelayInterceptor> redisBrokerRelayInterceptor;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
@@ -25,6 +27,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // '/queue/**' or '/topic/**' 경로로 송신되었을 때, 스프링 내장의 simplebroker가 메세지 처리
         // queue는 1:1, topic은 1:n 관계 시 관습적으로 사용
         registry.enableSimpleBroker("/queue", "/topic");
+
+        // chat.broker.mode=redis 이면 내장 브로커로 보낸 메시지를 Redis 로 다른 서버에도 전달해서 여러 서버로 확장 가능
+        redisBrokerRelayInterceptor.ifAvailable(interceptor -> registry.configureBrokerChannel().interceptors(interceptor));
     }
 
     @Override
@@ -39,9 +44,4 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(stompHandler);
     }
-
-//    @Override
-//    public void configureWebSocketTransport(WebSocketTransportRegistration registry) {
-//        registry.setDecoratorFactories(agentWebSocketHandlerDecoratorFactory); // 메시지 전송 크기 늘리는 용도
-//    }
 }
@@ -37,6 +37,9 @@ public enum ErrorCode {
 
     //채팅 예외
     NOT_FOUND_CHAT_ROOM(HttpStatus.NOT_FOUND, "존재하지 않는 채팅방입니다."),
+    NOT_CHAT_ROOM_MEMBER(HttpStatus.FORBIDDEN, "채팅방 참여자만 이용할 수 있습니다."),
+    NOT_VALID_CHAT_IMAGE(HttpStatus.BAD_REQUEST, "업로드되지 않은 채팅 이미지입니다."),
+    CHAT_MESSAGE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "메시지 전송이 지연되고 있습니다. 잠시 후 다시 시도해주세요."),
 
     //작품 예외
     SHOULD_EXIST_IMAGE(HttpStatus.BAD_REQUEST, "이미지가 존재하지 않습니다."),
@@ -54,8 +57,16 @@ public enum ErrorCode {
 
     NOT_VALID_AUCTION_PERIOD(HttpStatus.BAD_REQUEST, "경매 기간이 아닙니다."),
     NOT_VALID_BID(HttpStatus.BAD_REQUEST, "유효한 입찰가가 아닙니다. 호가 단위를 확인해주세요."),
+    STALE_BID(HttpStatus.CONFLICT, "다른 응찰이 먼저 반영되었습니다. 현재 최고가를 확인 후 다시 응찰해주세요."),
     NOT_VALID_REQUEST(HttpStatus.BAD_REQUEST, "자신의 작품에는 응찰할 수 없습니다."),
 
+    //알림 예외
+    NOT_NOTIFICATION_OWNER(HttpStatus.FORBIDDEN, "본인의 알림만 구독할 수 있습니다."),
+
+    //파일 업로드 예외
+    NOT_VALID_UPLOAD_REQUEST(HttpStatus.BAD_REQUEST, "업로드할 수 없는 파일입니다."),
+    NOT_VALID_UPLOAD(HttpStatus.BAD_REQUEST, "업로드되지 않았거나 허용되지 않는 파일입니다."),
+
     //경로 예외
     NOT_VALID_URI(HttpStatus.BAD_REQUEST, "유효한 경로로 요청해주세요.");
 
@@ -0,0 +1,71 @@
+package com.sptp.backend.common.stomp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+// chat.broker.mode=redis 일 때 브로커 채널로 들어온 '/queue/**', '/topic/**' 메시지를 Redis pub/sub 으로 다른 서버에 전달
+// 이 서버의 구독자에게는 내장 브로커가 그대로 전송하므로, Redis 장애 시에도 같은 서버의 구독자는 메시지를 받음
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisBrokerRelayInterceptor implements ChannelInterceptor {
+
+    // 다른 서버에서 전달받은 메시지 표시. 다시 전달하지 않음
+    public static final String RELAYED_HEADER = "relayed";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 자신이 보낸 메시지를 구분하기 위한 서버 id
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Getter
+    @Value("${chat.broker.redis.channel:stomp-broker}")
+    private String topic;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+
+        MessageHeaders headers = message.getHeaders();
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || destination == null
+                || !isBrokerDestination(destination)
+                || headers.containsKey(RELAYED_HEADER)
+                || !(message.getPayload() instanceof byte[])) {
+            return message;
+        }
+
+        Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+
+        try {
+            stringRedisTemplate.convertAndSend(topic, objectMapper.writeValueAsString(new RelayedMessage(
+                    nodeId, destination, contentType == null ? null : contentType.toString(), (byte[]) message.getPayload())));
+        } catch (Exception e) {
+            log.error("broker relay publish failed. destination = {}", destination, e);
+        }
+
+        return message;
+    }
+
+    private boolean isBrokerDestination(String destination) {
+        return destination.startsWith("/queue/") || destination.startsWith("/topic/");
+    }
+}
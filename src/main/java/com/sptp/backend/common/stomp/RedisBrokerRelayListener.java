@@ -0,0 +1,56 @@
+package com.sptp.backend.common.stomp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+// 다른 서버가 Redis 로 전달한 메시지를 이 서버의 내장 브로커로 보내 이 서버의 구독자에게 전송
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+public class RedisBrokerRelayListener implements MessageListener {
+
+    private final RedisBrokerRelayInterceptor redisBrokerRelayInterceptor;
+    private final ObjectMapper objectMapper;
+    private final MessageChannel brokerChannel;
+
+    public RedisBrokerRelayListener(RedisBrokerRelayInterceptor redisBrokerRelayInterceptor, ObjectMapper objectMapper,
+                                    @Qualifier("brokerChannel") MessageChannel brokerChannel) {
+        this.redisBrokerRelayInterceptor = redisBrokerRelayInterceptor;
+        this.objectMapper = objectMapper;
+        this.brokerChannel = brokerChannel;
+    }
+
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+
+        try {
+            RelayedMessage relayedMessage = objectMapper.readValue(message.getBody(), RelayedMessage.class);
+
+            // Redis 는 보낸 서버에도 메시지를 전달하지만, 이 서버의 구독자에게는 이미 전송됨
+            if (redisBrokerRelayInterceptor.getNodeId().equals(relayedMessage.getOrigin())) {
+                return;
+            }
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(relayedMessage.getDestination());
+            accessor.setHeader(RedisBrokerRelayInterceptor.RELAYED_HEADER, true);
+
+            if (relayedMessage.getContentType() != null) {
+                accessor.setContentType(MimeTypeUtils.parseMimeType(relayedMessage.getContentType()));
+            }
+
+            brokerChannel.send(MessageBuilder.createMessage(relayedMessage.getPayload(), accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            log.error("broker relay receive failed", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.sptp.backend.common.stomp;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 다른 서버의 브로커로 전달하는 메시지. payload 는 SimpMessagingTemplate 이 변환한 본문 그대로 전달
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelayedMessage {
+
+    private String origin;
+    private String destination;
+    private String contentType;
+    private byte[] payload;
+}
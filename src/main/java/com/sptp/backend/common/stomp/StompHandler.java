@@ -6,6 +6,7 @@ import com.sptp.backend.common.exception.CustomException;
 import com.sptp.backend.common.exception.ErrorCode;
 import com.sptp.backend.jwt.service.dto.CustomUserDetails;
 import com.sptp.backend.jwt.web.JwtTokenProvider;
+import com.sptp.backend.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.logging.log4j.util.Strings;
@@ -36,11 +37,21 @@ public class StompHandler implements ChannelInterceptor {
                 throw new CustomException(ErrorCode.TOKEN_INVALID);
             }
             log.info("StompUser = {}, Authentication = {}", accessor.getUser(), SecurityContextHolder.getContext().getAuthentication());
+        } else if (accessor.getCommand() == StompCommand.SUBSCRIBE
+                && isNotificationDestination(accessor.getDestination())) {
+
+            // 알림 경로는 회원 id 로 추측할 수 있으므로 토큰의 회원과 경로의 회원이 같을 때만 구독 허용
+            Long memberId = Optional.ofNullable(getDestinationId(accessor.getDestination()))
+                    .orElseThrow(() -> new CustomException(ErrorCode.NOT_VALID_URI));
+            Long loginMemberId = getLoginMemberId(accessor.getFirstNativeHeader("Authorization"));
+
+            if (!memberId.equals(loginMemberId)) {
+                throw new CustomException(ErrorCode.NOT_NOTIFICATION_OWNER);
+            }
         } else if (accessor.getCommand() == StompCommand.SUBSCRIBE
                 && "enter".equals(accessor.getFirstNativeHeader("action"))) {
 
-            // TODO 추후 redis 도입 고려
-            Long chatRoomId = Optional.ofNullable(getChatRoomId(accessor.getDestination()))
+            Long chatRoomId = Optional.ofNullable(getDestinationId(accessor.getDestination()))
                     .orElseThrow(() -> new CustomException(ErrorCode.NOT_VALID_URI));
             Long loginMemberId = getLoginMemberId(accessor.getFirstNativeHeader("Authorization"));
 
@@ -53,7 +64,11 @@ public class StompHandler implements ChannelInterceptor {
         return message;
     }
 
-    private Long getChatRoomId(String destination) {
+    private boolean isNotificationDestination(String destination) {
+        return destination != null && destination.startsWith(NotificationService.DESTINATION_PREFIX);
+    }
+
+    private Long getDestinationId(String destination) {
         if (Strings.isBlank(destination)) {
             return null;
         }
@@ -2,6 +2,7 @@ package com.sptp.backend.exhibition.service;
 
 import com.sptp.backend.art_work.repository.ArtWork;
 import com.sptp.backend.art_work.repository.ArtWorkRepository;
+import com.sptp.backend.aws.service.ImageVariant;
 import com.sptp.backend.auction.repository.Auction;
 import com.sptp.backend.auction.repository.AuctionRepository;
 import com.sptp.backend.common.exception.CustomException;
@@ -73,7 +74,7 @@ public class ExhibitionService {
         List<ArtWork> artWorkList = artWorkRepository.findByAuctionIdOrderByCreatedDateDesc(auctionId);
 
         return artWorkList.stream().map(m ->
-                new ExhibitionResponseDto(m.getId(), m.getTitle(), m.getMember().getEducation(), m.getDescription(), m.getGenre(), storageUrl + m.getMainImage(), m.getMember().getId())).collect(Collectors.toList());
+                new ExhibitionResponseDto(m.getId(), m.getTitle(), m.getMember().getEducation(), m.getDescription(), m.getGenre(), storageUrl + m.getMainImage(), ImageVariant.MEDIUM.getUrl(storageUrl, m.getMainImage()), m.getMember().getId())).collect(Collectors.toList());
     }
 
     public ExhibitionResponseDto getExhibitArtWork(Long artWorkId) {
@@ -87,6 +88,7 @@ public class ExhibitionService {
                 .description(artWork.getDescription())
                 .genre(artWork.getGenre())
                 .image(storageUrl + artWork.getMainImage())
+                .thumbnailImage(ImageVariant.MEDIUM.getUrl(storageUrl, artWork.getMainImage()))
                 .artistId(artWork.getMember().getId())
                 .build();
     }
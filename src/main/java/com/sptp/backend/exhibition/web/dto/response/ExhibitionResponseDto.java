@@ -16,5 +16,6 @@ public class ExhibitionResponseDto {
     private String description;
     private String genre;
     private String image;
+    private String thumbnailImage;
     private Long artistId;
 }
@@ -4,24 +4,22 @@ import com.sptp.backend.common.NotificationCode;
 import com.sptp.backend.member.repository.Member;
 import com.sptp.backend.notification.repository.Notification;
 import com.sptp.backend.notification.repository.NotificationRepository;
+import com.sptp.backend.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
-@Async
 @Transactional
 @Component
 @RequiredArgsConstructor
 public class MemberEventListener {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationService notificationService;
 
     // 작가 등록 완료, 1대1 문의 알림
-    @EventListener
     public void handleMemberEvent(MemberEvent memberEvent) {
 
         Member member = memberEvent.getMember();
@@ -41,5 +39,6 @@ public class MemberEventListener {
                 .build();
 
         notificationRepository.save(notification);
+        notificationService.notifyAfterCommit(notification);
     }
 }
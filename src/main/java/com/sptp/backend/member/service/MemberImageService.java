@@ -0,0 +1,93 @@
+package com.sptp.backend.member.service;
+
+import com.nimbusds.oauth2.sdk.util.StringUtils;
+import com.sptp.backend.aws.service.AwsService;
+import com.sptp.backend.aws.service.UploadSessionService;
+import com.sptp.backend.member.web.dto.request.ArtistUpdateRequest;
+import com.sptp.backend.member.web.dto.request.MemberAskRequestDto;
+import com.sptp.backend.member.web.dto.request.MemberUpdateRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// 회원 정보 수정, 작가 인증, 문의 시 클라이언트가 S3에 직접 업로드한 이미지를 DB 트랜잭션 밖에서 확정한 뒤 MemberService 트랜잭션으로 저장
+// 확정하는 동안 DB 커넥션을 잡고 있지 않고, 저장(커밋)에 실패하면 확정한 이미지를 삭제
+@Service
+@RequiredArgsConstructor
+public class MemberImageService {
+
+    private final MemberService memberService;
+    private final AwsService awsService;
+    private final UploadSessionService uploadSessionService;
+
+    public void updateUser(Long loginMemberId, MemberUpdateRequest dto, String imageKey) {
+
+        String imageFileName = commitIfPresent(loginMemberId, imageKey);
+
+        save(toList(imageFileName), () -> memberService.updateUser(loginMemberId, dto, imageFileName));
+    }
+
+    public void updateArtist(Long loginMemberId, ArtistUpdateRequest dto, String imageKey) {
+
+        String imageFileName = commitIfPresent(loginMemberId, imageKey);
+
+        save(toList(imageFileName), () -> memberService.updateArtist(loginMemberId, dto, imageFileName));
+    }
+
+    public void certifyArtist(Long loginMemberId, String imageKey) {
+
+        String imageFileName = commitIfPresent(loginMemberId, imageKey);
+
+        save(toList(imageFileName), () -> memberService.certifyArtist(loginMemberId, imageFileName));
+    }
+
+    public void saveAsk(Long loginMemberId, MemberAskRequestDto dto) {
+
+        List<String> imageFileNames = commitAskImages(loginMemberId, dto);
+
+        save(imageFileNames, () -> memberService.saveAsk(loginMemberId, dto, imageFileNames));
+    }
+
+    public void updateAsk(Long loginMemberId, Long memberAskId, MemberAskRequestDto dto) {
+
+        List<String> imageFileNames = commitAskImages(loginMemberId, dto);
+
+        save(imageFileNames, () -> memberService.updateAsk(loginMemberId, memberAskId, dto, imageFileNames));
+    }
+
+    // 이미지 키가 없으면 이미지를 없애도록 수정한 경우
+    private String commitIfPresent(Long loginMemberId, String imageKey) {
+
+        if (StringUtils.isBlank(imageKey)) {
+            return null;
+        }
+
+        return uploadSessionService.commit(loginMemberId, imageKey);
+    }
+
+    private List<String> commitAskImages(Long loginMemberId, MemberAskRequestDto dto) {
+
+        if (dto.getImage()[0].isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return uploadSessionService.commit(loginMemberId, Arrays.asList(dto.getImage()));
+    }
+
+    private void save(List<String> fileNames, Runnable save) {
+
+        try {
+            save.run();
+        } catch (RuntimeException e) {
+            awsService.deleteImages(fileNames);
+            throw e;
+        }
+    }
+
+    private List<String> toList(String fileName) {
+        return (fileName == null) ? Collections.emptyList() : List.of(fileName);
+    }
+}
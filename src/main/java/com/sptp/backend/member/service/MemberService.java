@@ -4,10 +4,6 @@ import com.nimbusds.oauth2.sdk.util.StringUtils;
 import com.sptp.backend.art_work.repository.ArtWork;
 import com.sptp.backend.art_work.repository.ArtWorkRepository;
 import com.sptp.backend.art_work.repository.ArtWorkStatus;
-import com.sptp.backend.aws.service.AwsService;
-import com.sptp.backend.aws.service.FileManager;
-import com.sptp.backend.bidding.repository.Bidding;
-import com.sptp.backend.bidding.repository.BiddingRepository;
 import com.sptp.backend.common.NotificationCode;
 import com.sptp.backend.member.event.MemberEvent;
 import com.sptp.backend.member.web.dto.request.*;
@@ -39,9 +35,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.util.*;
 import java.util.Collections;
 import java.util.UUID;
@@ -59,15 +53,12 @@ public class MemberService {
     private final JwtService jwtService;
     private final RedisTemplate redisTemplate;
     private final MemberKeywordRepository memberKeywordRepository;
-    private final FileManager fileManager;
-    private final AwsService awsService;
     private final MemberPreferredArtistRepository memberPreferredArtistRepository;
     private final ArtWorkRepository artWorkRepository;
     private final MemberPreferredArtWorkRepository memberPreferredArtWorkRepository;
     private final MemberAskRepository memberAskRepository;
     private final MemberAskImageRepository memberAskImageRepository;
     private final ApplicationEventPublisher eventPublisher;
-    private final BiddingRepository biddingRepository;
     private final int PREFERRED_ARTIST_MAXIMUM = 100;
     private final int PREFERRED_ART_WORK_MAXIMUM = 100;
     private final int LIKE_COUNT_FOR_HOT_LABELED = 5;
@@ -229,23 +220,11 @@ public class MemberService {
     }
 
     @Transactional
-    public void updateUser(Long loginMemberId, MemberUpdateRequest dto, MultipartFile image) throws IOException {
+    public void updateUser(Long loginMemberId, MemberUpdateRequest dto, String imageFileName) {
 
         Member findMember = memberRepository.findById(loginMemberId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_MEMBER));
 
-        // 유저가 이미지를 없애도록 수정한 경우
-        String imageUrl = null;
-        String uuid = UUID.randomUUID().toString();
-
-        // 유저가 이미지를 다른 파일로 수정한 경우
-        if (!image.isEmpty()) {
-            String ext = fileManager.extractExtension(image.getOriginalFilename());
-            imageUrl = uuid + "." + ext;
-
-            awsService.uploadImage(image, uuid);
-        }
-
         if (findMember.isUpdatedEmail(dto.getEmail())) {
             checkDuplicateMemberEmail(dto.getEmail());
         }
@@ -253,27 +232,16 @@ public class MemberService {
             checkDuplicateMemberNickname(dto.getNickname());
         }
 
-        findMember.updateUser(dto, imageUrl);
+        // 이미지 파일 이름이 없으면 유저가 이미지를 없애도록 수정한 경우
+        findMember.updateUser(dto, imageFileName);
     }
 
     @Transactional
-    public void updateArtist(Long loginMemberId, ArtistUpdateRequest dto, MultipartFile image) throws IOException {
+    public void updateArtist(Long loginMemberId, ArtistUpdateRequest dto, String imageFileName) {
 
         Member findMember = memberRepository.findById(loginMemberId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_MEMBER));
 
-        // 작가가 이미지를 없애도록 수정한 경우
-        String imageUrl = null;
-        String uuid = UUID.randomUUID().toString();
-
-        // 작가가 이미지를 다른 파일로 수정한 경우
-        if (!image.isEmpty()) {
-            String ext = fileManager.extractExtension(image.getOriginalFilename());
-            imageUrl = uuid + "." + ext;
-
-            awsService.uploadImage(image, uuid);
-        }
-
         if (findMember.isUpdatedEmail(dto.getEmail())) {
             checkDuplicateMemberEmail(dto.getEmail());
         }
@@ -281,26 +249,17 @@ public class MemberService {
             checkDuplicateMemberNickname(dto.getNickname());
         }
 
-        findMember.updateArtist(dto, imageUrl);
+        // 이미지 파일 이름이 없으면 작가가 이미지를 없애도록 수정한 경우
+        findMember.updateArtist(dto, imageFileName);
     }
 
     @Transactional
-    public void certifyArtist(Long loginMemberId, MultipartFile image) throws IOException {
+    public void certifyArtist(Long loginMemberId, String imageFileName) {
 
         Member findMember = memberRepository.findById(loginMemberId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_MEMBER));
 
-        String imageUrl = null;
-        String uuid = UUID.randomUUID().toString();
-
-        if (!image.isEmpty()) {
-            String ext = fileManager.extractExtension(image.getOriginalFilename());
-            imageUrl = uuid + "." + ext;
-
-            awsService.uploadImage(image, uuid);
-        }
-
-        findMember.certificateArtist(imageUrl);
+        findMember.certificateArtist(imageFileName);
     }
 
     @Transactional(readOnly = true)
@@ -540,13 +499,10 @@ public class MemberService {
 
             boolean checkHot = false;
             boolean checkPick = false;
-            Long price = artWork.getPrice();
+            Long price = artWork.getCurrentPrice();
 
             if (artWork.getLikeCount() >= LIKE_COUNT_FOR_HOT_LABELED) checkHot = true;
             if (memberPreferredArtWorkRepository.existsByMemberAndArtWork(findMember, artWork)) checkPick = true;
-            if (biddingRepository.existsByArtWorkId(artWork.getId())) {
-                price = getTopPrice(artWork);
-            }
 
             preferredArtWorkResponse.add(PreferredArtWorkResponse.builder()
                     .id(artWork.getId())
@@ -564,7 +520,7 @@ public class MemberService {
     }
 
     @Transactional
-    public void saveAsk(Long loginMemberId, MemberAskRequestDto dto) throws IOException {
+    public void saveAsk(Long loginMemberId, MemberAskRequestDto dto, List<String> imageFileNames) {
 
         Member findMember = memberRepository.findById(loginMemberId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_MEMBER));
@@ -577,11 +533,11 @@ public class MemberService {
                 .build();
 
         memberAskRepository.save(memberAsk);
-        saveAskImages(dto.getImage(), memberAsk);
+        saveAskImages(imageFileNames, memberAsk);
     }
 
     @Transactional
-    public void updateAsk(Long loginMemberId, Long memberAskId, MemberAskRequestDto dto) throws IOException {
+    public void updateAsk(Long loginMemberId, Long memberAskId, MemberAskRequestDto dto, List<String> imageFileNames) {
 
         MemberAsk findMemberAsk = memberAskRepository.findById(memberAskId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_ASK));
@@ -598,7 +554,7 @@ public class MemberService {
         }
 
         findMemberAsk.updateMemberAsk(dto);
-        saveAskImages(dto.getImage(), findMemberAsk);
+        saveAskImages(imageFileNames, findMemberAsk);
     }
 
     @Transactional
@@ -615,22 +571,16 @@ public class MemberService {
         memberAskRepository.deleteById(findMemberAsk.getId());
     }
 
-    private void saveAskImages(MultipartFile[] files, MemberAsk memberAsk) throws IOException {
-
-        if (files[0].isEmpty()) return;
+    private void saveAskImages(List<String> imageFileNames, MemberAsk memberAsk) {
 
-        for (MultipartFile file : files) {
-
-            String imageUUID = UUID.randomUUID().toString();
-            String imageEXT = fileManager.extractExtension(file.getOriginalFilename());
+        for (String fileName : imageFileNames) {
 
             MemberAskImage memberAskImage = MemberAskImage.builder()
                     .memberAsk(memberAsk)
-                    .image(imageUUID + "." + imageEXT)
+                    .image(fileName)
                     .build();
 
             memberAskImageRepository.save(memberAskImage);
-            awsService.uploadImage(file, imageUUID);
         }
     }
 
@@ -706,15 +656,4 @@ public class MemberService {
                         .collect(Collectors.toList()))
                 .build();
     }
-
-    private Long getTopPrice(ArtWork artWork) {
-
-        Optional<Bidding> topPriceBiddingOptional = biddingRepository.getFirstByArtWorkOrderByPriceDesc(artWork);
-
-        if (topPriceBiddingOptional.isEmpty()) {
-            return Long.valueOf(artWork.getPrice());
-        }
-
-        return topPriceBiddingOptional.get().getPrice();
-    }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.sptp.backend.member.web.dto.request.*;
 import com.sptp.backend.jwt.service.JwtService;
 import com.sptp.backend.member.web.dto.response.*;
 import com.sptp.backend.member.repository.Member;
+import com.sptp.backend.member.service.MemberImageService;
 import com.sptp.backend.member.service.MemberService;
 import com.sptp.backend.email.service.EmailService;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +14,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.multipart.MultipartFile;
 
 import javax.validation.Valid;
 
@@ -27,6 +27,7 @@ import java.util.Map;
 public class MemberController {
 
     private final MemberService memberService;
+    private final MemberImageService memberImageService;
     private final EmailService emailService;
     private final JwtService jwtService;
 
@@ -155,10 +156,10 @@ public class MemberController {
     // 회원 정보 수정
     @PatchMapping("/members")
     public ResponseEntity<Void> updateUser(@AuthenticationPrincipal CustomUserDetails userDetails,
-                                           @RequestParam(value = "image", required = false) MultipartFile image,
-                                           MemberUpdateRequest memberUpdateRequest) throws IOException {
+                                           @RequestParam(value = "image", required = false) String imageKey,
+                                           MemberUpdateRequest memberUpdateRequest) {
 
-        memberService.updateUser(userDetails.getMember().getId(), memberUpdateRequest, image);
+        memberImageService.updateUser(userDetails.getMember().getId(), memberUpdateRequest, imageKey);
 
         return new ResponseEntity(HttpStatus.OK);
     }
@@ -166,10 +167,10 @@ public class MemberController {
     // 작가 정보 수정
     @PatchMapping("/artists")
     public ResponseEntity<Void> updateArtist(@AuthenticationPrincipal CustomUserDetails userDetails,
-                                             @RequestParam(value = "image", required = false) MultipartFile image,
-                                             ArtistUpdateRequest artistUpdateRequest) throws IOException {
+                                             @RequestParam(value = "image", required = false) String imageKey,
+                                             ArtistUpdateRequest artistUpdateRequest) {
 
-        memberService.updateArtist(userDetails.getMember().getId(), artistUpdateRequest, image);
+        memberImageService.updateArtist(userDetails.getMember().getId(), artistUpdateRequest, imageKey);
 
         return new ResponseEntity(HttpStatus.OK);
     }
@@ -177,9 +178,9 @@ public class MemberController {
     // 작가 인증 파일 보내기
     @PatchMapping("/members/certification")
     public ResponseEntity<Void> certifyArtist(@AuthenticationPrincipal CustomUserDetails userDetails,
-                                              @RequestParam(value = "certificationImage", required = true) MultipartFile image) throws IOException {
+                                              @RequestParam(value = "certificationImage", required = true) String imageKey) {
 
-        memberService.certifyArtist(userDetails.getMember().getId(), image);
+        memberImageService.certifyArtist(userDetails.getMember().getId(), imageKey);
 
         return new ResponseEntity(HttpStatus.OK);
     }
@@ -294,9 +295,9 @@ public class MemberController {
     // 일대일 문의
     @PostMapping("/members/ask")
     public ResponseEntity<Void> saveAsk(@AuthenticationPrincipal CustomUserDetails userDetails,
-                                        MemberAskRequestDto memberAskRequestDto) throws IOException {
+                                        MemberAskRequestDto memberAskRequestDto) {
 
-        memberService.saveAsk(userDetails.getMember().getId(), memberAskRequestDto);
+        memberImageService.saveAsk(userDetails.getMember().getId(), memberAskRequestDto);
 
         return new ResponseEntity<>(HttpStatus.OK);
     }
@@ -305,9 +306,9 @@ public class MemberController {
     @PatchMapping("/members/ask/{askId}")
     public ResponseEntity<Void> updateAsk(@AuthenticationPrincipal CustomUserDetails userDetails,
                                           @PathVariable(value = "askId") Long askId,
-                                          MemberAskRequestDto memberAskRequestDto) throws IOException {
+                                          MemberAskRequestDto memberAskRequestDto) {
 
-        memberService.updateAsk(userDetails.getMember().getId(), askId, memberAskRequestDto);
+        memberImageService.updateAsk(userDetails.getMember().getId(), askId, memberAskRequestDto);
 
         return new ResponseEntity<>(HttpStatus.OK);
     }
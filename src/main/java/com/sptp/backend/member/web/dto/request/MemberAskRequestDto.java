@@ -1,7 +1,6 @@
 package com.sptp.backend.member.web.dto.request;
 
 import lombok.*;
-import org.springframework.web.multipart.MultipartFile;
 
 @Getter
 @Setter
@@ -12,5 +11,6 @@ public class MemberAskRequestDto {
 
     private String title;
     private String content;
-    private MultipartFile[] image;
+    // pre-signed URL 로 업로드한 이미지의 키
+    private String[] image;
 }
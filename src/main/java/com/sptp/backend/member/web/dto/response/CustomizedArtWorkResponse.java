@@ -1,6 +1,7 @@
 package com.sptp.backend.member.web.dto.response;
 
 import com.sptp.backend.art_work.repository.ArtWork;
+import com.sptp.backend.aws.service.ImageVariant;
 import lombok.*;
 
 import java.util.List;
@@ -22,6 +23,7 @@ public class CustomizedArtWorkResponse {
         private String title;
         private String education;
         private String image;
+        private String thumbnailImage;
         private boolean pick;
 
         public static ArtWorkDto from (ArtWork artWork, String awsStorageUrl, boolean pick) {
@@ -30,6 +32,7 @@ public class CustomizedArtWorkResponse {
                     .title(artWork.getTitle())
                     .education(artWork.getMember().getEducation())
                     .image(awsStorageUrl + artWork.getMainImage())
+                    .thumbnailImage(ImageVariant.SMALL.getUrl(awsStorageUrl, artWork.getMainImage()))
                     .pick(pick)
                     .build();
         }
@@ -7,44 +7,41 @@ import com.sptp.backend.common.NotificationCode;
 import com.sptp.backend.common.exception.CustomException;
 import com.sptp.backend.common.exception.ErrorCode;
 import com.sptp.backend.member.repository.Member;
-import com.sptp.backend.message.repository.Message;
 import com.sptp.backend.notification.repository.Notification;
 import com.sptp.backend.notification.repository.NotificationRepository;
+import com.sptp.backend.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Slf4j
-@Async
 @Transactional
 @Component
 @RequiredArgsConstructor
 public class MessageEventListener {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationService notificationService;
     private final ArtWorkRepository artWorkRepository;
 
     // 채팅 알림
-    @EventListener
     public void handleMessageEvent(MessageEvent messageEvent) {
 
         NotificationCode notificationCode = messageEvent.getNotificationCode();
         ChatRoom chatRoom = messageEvent.getChatRoom();
-        Message message = messageEvent.getMessage();
+        Long senderId = messageEvent.getSenderId();
         ArtWork artWork = artWorkRepository.findById(chatRoom.getArtWork().getId())
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_ARTWORK));
 
         // 알림 받을 유저
         Member member = new Member();
-        if (chatRoom.getArtist().getId().equals(message.getSender().getId())) {
+        if (chatRoom.getArtist().getId().equals(senderId)) {
             member = chatRoom.getMember();
         }
-        if (chatRoom.getMember().getId().equals(message.getSender().getId())) {
+        if (chatRoom.getMember().getId().equals(senderId)) {
             member = chatRoom.getArtist();
         }
 
@@ -52,6 +49,7 @@ public class MessageEventListener {
         Optional<Notification> findNotification = notificationRepository.findByChatRoomIdAndMember(chatRoom.getId(), member);
         if (findNotification.isPresent()) {
             findNotification.get().updateRead();
+            notificationService.notifyAfterCommit(findNotification.get());
             return;
         }
 
@@ -70,5 +68,6 @@ public class MessageEventListener {
                 .build();
 
         notificationRepository.save(notification);
+        notificationService.notifyAfterCommit(notification);
     }
 }
\ No newline at end of file
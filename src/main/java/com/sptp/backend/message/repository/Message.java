@@ -38,12 +38,4 @@ public class Message extends BaseEntity {
 
     @Column(length = 600)
     private String content; // type == text -> massage 저장, type == image -> url 저장
-
-    public void read(long memberId) {
-        boolean isMyMessage = sender.getId().equals(memberId);
-
-        if (!isMyMessage) {
-            isRead = true;
-        }
-    }
 }
\ No newline at end of file
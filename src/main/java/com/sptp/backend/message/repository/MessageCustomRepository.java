@@ -0,0 +1,12 @@
+package com.sptp.backend.message.repository;
+
+import java.util.List;
+
+public interface MessageCustomRepository {
+
+    void saveAllInBatch(List<PendingMessage> messages);
+
+    List<Message> findMessageList(Long chatRoomId, Long messageId, int limit);
+
+    long updateReadUntil(Long chatRoomId, Long memberId, Long messageId);
+}
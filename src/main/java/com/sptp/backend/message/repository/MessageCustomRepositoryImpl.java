@@ -0,0 +1,84 @@
+package com.sptp.backend.message.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static com.sptp.backend.member.repository.QMember.member;
+import static com.sptp.backend.message.repository.QMessage.message;
+
+@RequiredArgsConstructor
+public class MessageCustomRepositoryImpl implements MessageCustomRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JPAQueryFactory queryFactory;
+
+    // IDENTITY 전략에서는 JPA 배치 insert 가 동작하지 않으므로 JDBC 배치로 한 번에 저장. 목록 순서대로 id 가 증가함
+    @Override
+    public void saveAllInBatch(List<PendingMessage> messages) {
+
+        jdbcTemplate.batchUpdate(
+                "insert into message (sender_id, chat_room_id, is_read, type, content, created_date, modified_date) " +
+                        "values (?, ?, ?, ?, ?, ?, ?)",
+                messages,
+                BATCH_SIZE,
+                (ps, pendingMessage) -> {
+                    Timestamp createdDate = Timestamp.valueOf(pendingMessage.getCreatedDate());
+
+                    ps.setLong(1, pendingMessage.getSenderId());
+                    ps.setLong(2, pendingMessage.getChatRoomId());
+                    ps.setBoolean(3, pendingMessage.getIsRead());
+                    ps.setString(4, pendingMessage.getType());
+                    ps.setString(5, pendingMessage.getContent());
+                    ps.setTimestamp(6, createdDate);
+                    ps.setTimestamp(7, createdDate);
+                });
+    }
+
+    // 커서(messageId) 이전 메시지를 최신순으로 limit 개 조회
+    @Override
+    public List<Message> findMessageList(Long chatRoomId, Long messageId, int limit) {
+
+        return queryFactory
+                .selectFrom(message)
+                .join(message.sender, member).fetchJoin()
+                .where(
+                        message.chatRoom.id.eq(chatRoomId),
+                        beforeCursor(messageId)
+                )
+                .orderBy(message.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // messageId 까지 상대방이 보낸 메시지를 한 번의 update 로 읽음 처리
+    @Override
+    public long updateReadUntil(Long chatRoomId, Long memberId, Long messageId) {
+
+        return queryFactory
+                .update(message)
+                .set(message.isRead, true)
+                .where(
+                        message.chatRoom.id.eq(chatRoomId),
+                        message.sender.id.ne(memberId),
+                        message.id.loe(messageId),
+                        message.isRead.isFalse()
+                )
+                .execute();
+    }
+
+    private BooleanExpression beforeCursor(Long messageId) {
+
+        if (messageId == null) {
+            return null;
+        }
+
+        return message.id.lt(messageId);
+    }
+}
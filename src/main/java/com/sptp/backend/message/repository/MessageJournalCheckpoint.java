@@ -0,0 +1,22 @@
+package com.sptp.backend.message.repository;
+
+import com.sptp.backend.common.entity.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+// 서버(저널)별로 DB에 저장을 마친 마지막 메시지 seq. 메시지와 같은 트랜잭션에서 갱신
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageJournalCheckpoint extends BaseEntity {
+
+    @Id
+    private String nodeId;
+
+    private long lastSeq;
+}
@@ -0,0 +1,6 @@
+package com.sptp.backend.message.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MessageJournalCheckpointRepository extends JpaRepository<MessageJournalCheckpoint, String> {
+}
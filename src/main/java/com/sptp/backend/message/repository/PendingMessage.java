@@ -0,0 +1,24 @@
+package com.sptp.backend.message.repository;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 전송은 끝났지만 아직 DB에 저장되지 않은 메시지. 저널에 한 줄씩 기록되고 배치로 저장됨
+// seq 는 서버(저널)별로 증가하는 번호로, 저장 순서와 재시작 시 복구 기준으로 사용
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PendingMessage {
+
+    @With
+    private long seq;
+
+    private Long chatRoomId;
+    private Long senderId;
+    private String type;
+    private String content;
+    private Boolean isRead;
+    private LocalDateTime createdDate;
+}
@@ -0,0 +1,226 @@
+package com.sptp.backend.message.schedule;
+
+import com.sptp.backend.common.exception.CustomException;
+import com.sptp.backend.common.exception.ErrorCode;
+import com.sptp.backend.message.repository.PendingMessage;
+import com.sptp.backend.message.service.MessageJournal;
+import com.sptp.backend.message.service.MessageWriteService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 전송한 메시지를 저널에 기록하고 대기열에 넣으면, 하나의 스레드가 대기열 순서대로 모아서 DB에 배치로 저장
+// 저장 순서가 기록 순서와 같으므로 채팅방 안의 메시지 순서가 유지되고, 저장 전에 종료되면 재시작 시 저널에서 복구
+// 순서는 서버(노드) 안에서만 보장됨. 여러 서버가 같은 채팅방 메시지를 받으면 id 는 각 서버가 배치를 저장한 순서로 매겨지므로
+// 서로 다른 서버로 보낸 메시지는 전송 순서와 다르게 저장될 수 있음. 채팅방 단위 순서가 필요하면 같은 채팅방을 한 서버로 라우팅해야 함
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageWriter {
+
+    private final MessageJournal messageJournal;
+    private final MessageWriteService messageWriteService;
+    private final MeterRegistry meterRegistry;
+
+    private final BlockingQueue<PendingMessage> queue = new LinkedBlockingQueue<>();
+
+    private Semaphore capacity;
+    private Thread writer;
+    private volatile boolean running = true;
+    private long lastPersistedSeq;
+    private List<PendingMessage> recovered;
+
+    private Counter persistedCounter;
+    private Counter droppedCounter;
+
+    @Value("${chat.message.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${chat.message.write-behind.batch-size:500}")
+    private int batchSize;
+
+    // 대기열이 가득 찼을 때 자리가 날 때까지 기다리는 시간. 지나면 전송 실패로 응답
+    @Value("${chat.message.write-behind.enqueue-timeout-millis:1000}")
+    private long enqueueTimeoutMillis;
+
+    @Value("${chat.message.write-behind.retry-delay-millis:1000}")
+    private long retryDelayMillis;
+
+    @Value("${chat.message.write-behind.shutdown-timeout-seconds:10}")
+    private long shutdownTimeoutSeconds;
+
+    @PostConstruct
+    public void init() throws IOException {
+
+        capacity = new Semaphore(queueCapacity);
+        persistedCounter = meterRegistry.counter("chat.messages.persisted");
+        droppedCounter = meterRegistry.counter("chat.messages.dropped");
+        meterRegistry.gauge("chat.messages.pending", queue, BlockingQueue::size);
+
+        lastPersistedSeq = messageWriteService.getCheckpoint(messageJournal.getNodeId());
+        recovered = messageJournal.recover(lastPersistedSeq);
+        messageJournal.advanceTo(lastPersistedSeq);
+
+        if (!recovered.isEmpty()) {
+            log.info("[log] 저장하지 못한 메시지 {}건 복구", recovered.size());
+        }
+
+        writer = new Thread(this::run, "MessageWriter");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public PendingMessage append(PendingMessage message) {
+
+        try {
+            if (!capacity.tryAcquire(enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new CustomException(ErrorCode.CHAT_MESSAGE_BUSY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.CHAT_MESSAGE_BUSY);
+        }
+
+        // 저널과 대기열의 순서가 같도록 함께 기록
+        synchronized (this) {
+            try {
+                PendingMessage journaled = messageJournal.append(message);
+                queue.add(journaled);
+                return journaled;
+            } catch (RuntimeException e) {
+                capacity.release();
+                throw e;
+            }
+        }
+    }
+
+    private void run() {
+
+        for (int i = 0; i < recovered.size(); i += batchSize) {
+            persist(recovered.subList(i, Math.min(i + batchSize, recovered.size())));
+        }
+        recovered = null;
+
+        List<PendingMessage> batch = new ArrayList<>();
+
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    PendingMessage first = queue.poll(1, TimeUnit.SECONDS);
+
+                    if (first == null) {
+                        continue;
+                    }
+
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                }
+
+                if (!persist(batch)) {
+                    return;
+                }
+
+                capacity.release(batch.size());
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // 예상하지 못한 예외로 스레드가 종료되면 이후 메시지가 저장되지 않으므로 같은 배치를 다시 시도
+                log.error("message writer failed. retry {} messages", batch.size(), e);
+
+                if (!running || !sleep(retryDelayMillis)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // 저장에 성공할 때까지 재시도. 종료 중에 실패하면 저널에 남겨두고 다음 실행에서 복구
+    private boolean persist(List<PendingMessage> batch) {
+
+        while (true) {
+            List<PendingMessage> messages = batch.stream()
+                    .filter(message -> message.getSeq() > lastPersistedSeq)
+                    .collect(Collectors.toList());
+
+            if (messages.isEmpty()) {
+                return true;
+            }
+
+            // 한 건씩 저장하거나 건너뛰는 중에 실패해도 저장한 메시지 이후부터 같은 방식으로 재시도
+            try {
+                try {
+                    messageWriteService.persist(messageJournal.getNodeId(), messages);
+                    persisted(messages.get(messages.size() - 1).getSeq(), messages.size());
+                } catch (DataIntegrityViolationException e) {
+                    persistEach(messages);
+                }
+
+                return true;
+            } catch (Exception e) {
+                log.error("message write failed. retry {} messages", messages.size(), e);
+
+                if (!running || !sleep(retryDelayMillis)) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    // 삭제된 채팅방의 메시지처럼 저장할 수 없는 메시지만 건너뜀
+    private void persistEach(List<PendingMessage> messages) {
+
+        for (PendingMessage message : messages) {
+            try {
+                messageWriteService.persist(messageJournal.getNodeId(), List.of(message));
+                persisted(message.getSeq(), 1);
+            } catch (DataIntegrityViolationException e) {
+                log.error("message dropped. chatRoomId = {}, seq = {}", message.getChatRoomId(), message.getSeq(), e);
+                messageWriteService.skip(messageJournal.getNodeId(), message);
+                droppedCounter.increment();
+                lastPersistedSeq = message.getSeq();
+            }
+        }
+    }
+
+    private void persisted(long seq, int count) {
+
+        lastPersistedSeq = seq;
+        persistedCounter.increment(count);
+        messageJournal.release(seq);
+    }
+
+    private boolean sleep(long millis) {
+
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(shutdownTimeoutSeconds));
+    }
+}
@@ -0,0 +1,200 @@
+package com.sptp.backend.message.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sptp.backend.message.repository.PendingMessage;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// DB에 저장하기 전의 메시지를 로컬 파일에 순서대로 기록하는 저널. 서버가 비정상 종료되어도 재시작 시 저장하지 못한 메시지를 복구
+// 파일은 'segment-{첫 seq}.log' 단위로 나누고, 모든 메시지가 저장된 파일은 삭제
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageJournal {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${chat.message.journal.dir:message-journal}")
+    private String dir;
+
+    @Value("${chat.message.journal.segment-size-mb:16}")
+    private long segmentSizeMb;
+
+    // 체크포인트를 구분하는 저널 id. 저널 디렉토리와 함께 유지됨
+    @Getter
+    private String nodeId;
+
+    private final TreeMap<Long, Path> segments = new TreeMap<>();
+
+    // 이전 실행에서 기록된 메시지. 복구 후 비움
+    private List<PendingMessage> journaled = new ArrayList<>();
+
+    private long lastSeq;
+    private BufferedWriter writer;
+    private long currentSize;
+
+    @PostConstruct
+    public void init() throws IOException {
+
+        Path directory = Paths.get(dir);
+        Files.createDirectories(directory);
+
+        Path nodeIdFile = directory.resolve("node-id");
+        if (Files.notExists(nodeIdFile)) {
+            Files.writeString(nodeIdFile, UUID.randomUUID().toString());
+        }
+        nodeId = Files.readString(nodeIdFile).trim();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(this::isSegment).collect(Collectors.toList())) {
+                segments.put(getFirstSeq(file), file);
+            }
+        }
+
+        for (Path segment : segments.values()) {
+            journaled.addAll(read(segment));
+        }
+
+        lastSeq = journaled.stream().mapToLong(PendingMessage::getSeq).max().orElse(segments.isEmpty() ? 0 : segments.lastKey() - 1);
+        openSegment(lastSeq + 1);
+    }
+
+    // 체크포인트 이후에 기록된 메시지를 기록 순서대로 반환
+    public synchronized List<PendingMessage> recover(long checkpoint) {
+
+        List<PendingMessage> recovered = journaled.stream()
+                .filter(message -> message.getSeq() > checkpoint)
+                .collect(Collectors.toList());
+
+        journaled = new ArrayList<>();
+
+        return recovered;
+    }
+
+    // 저널 디렉토리를 잃어버려 seq 가 체크포인트보다 작아졌으면, 새 메시지가 저장된 것으로 취급되지 않도록 체크포인트 이후부터 다시 시작
+    public synchronized void advanceTo(long checkpoint) throws IOException {
+
+        if (lastSeq >= checkpoint) {
+            return;
+        }
+
+        log.warn("message journal seq {} is behind checkpoint {}", lastSeq, checkpoint);
+
+        writer.close();
+        lastSeq = checkpoint;
+        openSegment(lastSeq + 1);
+    }
+
+    // seq 를 붙여 기록하고 반환. 프로세스가 종료되어도 남도록 OS 버퍼까지 flush
+    public synchronized PendingMessage append(PendingMessage message) {
+
+        PendingMessage journaledMessage = message.withSeq(lastSeq + 1);
+
+        try {
+            String line = objectMapper.writeValueAsString(journaledMessage) + "\n";
+
+            writer.write(line);
+            writer.flush();
+
+            currentSize += line.getBytes(StandardCharsets.UTF_8).length;
+            lastSeq = journaledMessage.getSeq();
+
+            if (currentSize >= segmentSizeMb * 1024 * 1024) {
+                writer.close();
+                openSegment(lastSeq + 1);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return journaledMessage;
+    }
+
+    // seq 이하의 메시지가 모두 저장되었으면, 그 범위에만 해당하는 파일을 삭제
+    public synchronized void release(long persistedSeq) {
+
+        while (segments.size() > 1) {
+            Map.Entry<Long, Path> oldest = segments.firstEntry();
+            long nextFirstSeq = segments.higherKey(oldest.getKey());
+
+            if (nextFirstSeq - 1 > persistedSeq) {
+                return;
+            }
+
+            try {
+                Files.deleteIfExists(oldest.getValue());
+            } catch (IOException e) {
+                log.error("message journal segment delete failed. segment = {}", oldest.getValue(), e);
+                return;
+            }
+
+            segments.remove(oldest.getKey());
+        }
+    }
+
+    private void openSegment(long firstSeq) throws IOException {
+
+        Path segment = Paths.get(dir).resolve(SEGMENT_PREFIX + firstSeq + SEGMENT_SUFFIX);
+
+        writer = Files.newBufferedWriter(segment, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        currentSize = Files.size(segment);
+        segments.put(firstSeq, segment);
+    }
+
+    private List<PendingMessage> read(Path segment) throws IOException {
+
+        List<PendingMessage> messages = new ArrayList<>();
+
+        for (String line : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+            try {
+                messages.add(objectMapper.readValue(line, PendingMessage.class));
+            } catch (IOException e) {
+                // 기록 도중 종료되어 잘린 마지막 줄
+                log.warn("message journal line skipped. segment = {}", segment);
+            }
+        }
+
+        return messages;
+    }
+
+    private boolean isSegment(Path file) {
+
+        String fileName = file.getFileName().toString();
+        return fileName.startsWith(SEGMENT_PREFIX) && fileName.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private long getFirstSeq(Path segment) {
+
+        String fileName = segment.getFileName().toString();
+        return Long.parseLong(fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
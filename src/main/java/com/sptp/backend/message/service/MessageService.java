@@ -1,23 +1,23 @@
 package com.sptp.backend.message.service;
 
+import com.sptp.backend.aws.service.AwsService;
 import com.sptp.backend.aws.service.FileManager;
-import com.sptp.backend.chat_room.repository.ChatRoom;
-import com.sptp.backend.chat_room_connection.repository.ChatRoomConnectionRepository;
-import com.sptp.backend.chat_room.repository.ChatRoomRepository;
-import com.sptp.backend.common.NotificationCode;
+import com.sptp.backend.chat_room.service.ChatRoomParticipantCache;
+import com.sptp.backend.chat_room_connection.service.ChatRoomConnectionService;
 import com.sptp.backend.common.exception.CustomException;
 import com.sptp.backend.common.exception.ErrorCode;
-import com.sptp.backend.member.repository.Member;
-import com.sptp.backend.member.repository.MemberRepository;
-import com.sptp.backend.message.event.MessageEvent;
-import com.sptp.backend.message.repository.Message;
-import com.sptp.backend.message.repository.MessageRepository;
 import com.sptp.backend.message.repository.MessageType;
+import com.sptp.backend.message.repository.PendingMessage;
+import com.sptp.backend.message.schedule.MessageWriter;
 import com.sptp.backend.message.web.dto.MessageResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
 
 
 @Service
@@ -25,31 +25,16 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class MessageService {
 
-    private final MessageRepository messageRepository;
-    private final ChatRoomRepository chatRoomRepository;
-    private final ChatRoomConnectionRepository chatRoomConnectionRepository;
-    private final MemberRepository memberRepository;
+    private final ChatRoomParticipantCache chatRoomParticipantCache;
+    private final ChatRoomConnectionService chatRoomConnectionService;
+    private final MessageWriter messageWriter;
     private final FileManager fileManager;
-    private final ApplicationEventPublisher eventPublisher;
+    private final AwsService awsService;
 
+    // 저널에 기록하면 전송 완료. DB 저장과 알림 이벤트 발행은 MessageWriter 가 배치로 처리
     public MessageResponse saveMessage(Long senderId, Long chatRoomId, String textMessage) {
 
-        ChatRoom chatRoom = getChatRoomOrThrow(chatRoomId);
-        int connectionCount = chatRoomConnectionRepository.countByChatRoomId(chatRoomId);
-
-        Message message = Message.builder()
-                .sender(getMemberOrThrow(senderId))
-                .chatRoom(chatRoom)
-                .type(MessageType.TEXT.name())
-                .content(textMessage)
-                .isRead(isOtherConnecting(connectionCount)) // 상대방이 접속 상태면 읽음 처리
-                .build();
-
-        messageRepository.save(message);
-
-        if (!isOtherConnecting(connectionCount)) {
-            eventPublisher.publishEvent(new MessageEvent(chatRoom, message, NotificationCode.CHATTING));
-        }
+        append(senderId, chatRoomId, MessageType.TEXT, textMessage);
 
         return MessageResponse.builder()
                 .chatRoomId(chatRoomId)
@@ -58,45 +43,71 @@ public class MessageService {
                 .build();
     }
 
-    private boolean isOtherConnecting(int connectionCount) {
+    // 채팅 이미지는 HTTP 로 먼저 업로드하고, STOMP 메시지에는 발급된 키만 담아서 전송
+    public String uploadImage(Long memberId, Long chatRoomId, MultipartFile image) throws IOException {
 
-        return connectionCount == 2; // 발송자와 상대방이 접속한 경우
-    }
+        getParticipantsOrThrow(memberId, chatRoomId);
 
-    public MessageResponse saveImage(Long senderId, Long chatRoomId, String encodedImage) {
+        // 업로드 세션과 같은 이미지 확장자만 허용하고, 확장자로 정한 Content-Type 으로 저장
+        if (image.getOriginalFilename() == null || image.getContentType() == null || !image.getContentType().startsWith("image/")) {
+            throw new CustomException(ErrorCode.NOT_VALID_UPLOAD_REQUEST);
+        }
 
-        ChatRoom chatRoom = getChatRoomOrThrow(chatRoomId);
-        int connectionCount = chatRoomConnectionRepository.countByChatRoomId(chatRoomId);
-        String storeImageFileName = fileManager.storeImageFile(encodedImage);
+        String ext = fileManager.extractExtension(image.getOriginalFilename()).toLowerCase();
+        String contentType = fileManager.getImageContentType(ext);
 
-        Message message = Message.builder()
-                .sender(getMemberOrThrow(senderId))
-                .chatRoom(getChatRoomOrThrow(chatRoomId))
-                .type(MessageType.IMAGE.name())
-                .content(storeImageFileName)
-                .isRead(isOtherConnecting(connectionCount)) // 상대방이 접속 상태면 읽음 처리
-                .build();
+        if (contentType == null) {
+            throw new CustomException(ErrorCode.NOT_VALID_UPLOAD_REQUEST);
+        }
 
-        messageRepository.save(message);
+        String imageKey = getImageKeyPrefix(chatRoomId) + UUID.randomUUID() + "." + ext;
+        awsService.uploadImage(imageKey, image, contentType);
 
-        if (!isOtherConnecting(connectionCount)) {
-            eventPublisher.publishEvent(new MessageEvent(chatRoom, message, NotificationCode.CHATTING));
+        return imageKey;
+    }
+
+    public MessageResponse saveImage(Long senderId, Long chatRoomId, String imageKey) {
+
+        // 다른 채팅방이나 임의 경로의 파일을 메시지로 보내지 못하도록 이 채팅방에 발급된 키만 허용
+        if (!imageKey.startsWith(getImageKeyPrefix(chatRoomId)) || imageKey.contains("..")) {
+            throw new CustomException(ErrorCode.NOT_VALID_CHAT_IMAGE);
         }
 
+        append(senderId, chatRoomId, MessageType.IMAGE, imageKey);
+
         return MessageResponse.builder()
                 .chatRoomId(chatRoomId)
                 .type(MessageType.IMAGE.name())
-                .content(fileManager.getFullPath(storeImageFileName))
+                .content(fileManager.getFullPath(imageKey))
                 .build();
     }
 
-    private Member getMemberOrThrow(Long memberId) {
-        return memberRepository.findById(memberId)
-                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_MEMBER));
+    private void append(Long senderId, Long chatRoomId, MessageType type, String content) {
+
+        ChatRoomParticipantCache.Participants participants = getParticipantsOrThrow(senderId, chatRoomId);
+
+        messageWriter.append(PendingMessage.builder()
+                .chatRoomId(chatRoomId)
+                .senderId(senderId)
+                .type(type.name())
+                .content(content)
+                .isRead(chatRoomConnectionService.isConnected(chatRoomId, participants.getOtherMemberId(senderId))) // 상대방이 접속 상태면 읽음 처리
+                .createdDate(LocalDateTime.now())
+                .build());
     }
 
-    private ChatRoom getChatRoomOrThrow(Long chatRoomId) {
-        return chatRoomRepository.findById(chatRoomId)
-                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_CHAT_ROOM));
+    private String getImageKeyPrefix(Long chatRoomId) {
+        return "chat-rooms/" + chatRoomId + "/";
+    }
+
+    private ChatRoomParticipantCache.Participants getParticipantsOrThrow(Long memberId, Long chatRoomId) {
+
+        ChatRoomParticipantCache.Participants participants = chatRoomParticipantCache.get(chatRoomId);
+
+        if (!participants.contains(memberId)) {
+            throw new CustomException(ErrorCode.NOT_CHAT_ROOM_MEMBER);
+        }
+
+        return participants;
     }
 }
@@ -0,0 +1,57 @@
+package com.sptp.backend.message.service;
+
+import com.sptp.backend.chat_room.repository.ChatRoomRepository;
+import com.sptp.backend.common.NotificationCode;
+import com.sptp.backend.message.event.MessageEvent;
+import com.sptp.backend.message.repository.MessageJournalCheckpoint;
+import com.sptp.backend.message.repository.MessageJournalCheckpointRepository;
+import com.sptp.backend.message.repository.MessageRepository;
+import com.sptp.backend.message.repository.PendingMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class MessageWriteService {
+
+    private final MessageRepository messageRepository;
+    private final MessageJournalCheckpointRepository messageJournalCheckpointRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public long getCheckpoint(String nodeId) {
+
+        return messageJournalCheckpointRepository.findById(nodeId)
+                .map(MessageJournalCheckpoint::getLastSeq)
+                .orElse(0L);
+    }
+
+    // 메시지, 체크포인트, 알림 이벤트를 한 트랜잭션으로 저장. 재시작 시 체크포인트 이후의 메시지만 다시 저장하므로 중복 저장되지 않음
+    @Transactional
+    public void persist(String nodeId, List<PendingMessage> messages) {
+
+        messageRepository.saveAllInBatch(messages);
+        messageJournalCheckpointRepository.save(new MessageJournalCheckpoint(nodeId, messages.get(messages.size() - 1).getSeq()));
+
+        // 상대방이 접속하지 않은 채팅방마다 알림 이벤트는 한 번만 발행
+        messages.stream()
+                .filter(message -> !message.getIsRead())
+                .map(message -> Arrays.asList(message.getChatRoomId(), message.getSenderId()))
+                .distinct()
+                .forEach(key -> eventPublisher.publishEvent(
+                        new MessageEvent(chatRoomRepository.getReferenceById(key.get(0)), key.get(1), NotificationCode.CHATTING)));
+    }
+
+    // 저장할 수 없는 메시지를 건너뛸 때 체크포인트만 갱신
+    @Transactional
+    public void skip(String nodeId, PendingMessage message) {
+
+        messageJournalCheckpointRepository.save(new MessageJournalCheckpoint(nodeId, message.getSeq()));
+    }
+}
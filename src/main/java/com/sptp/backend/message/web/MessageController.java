@@ -1,5 +1,6 @@
 package com.sptp.backend.message.web;
 
+import com.sptp.backend.jwt.service.dto.CustomUserDetails;
 import com.sptp.backend.message.service.MessageService;
 import com.sptp.backend.message.web.dto.ImageChatRequest;
 import com.sptp.backend.message.web.dto.ImageChatResponse;
@@ -7,11 +8,18 @@ import com.sptp.backend.message.web.dto.MessageRequest;
 import com.sptp.backend.message.web.dto.MessageResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 import javax.validation.Valid;
+import java.io.IOException;
 
 @Slf4j
 @RestController
@@ -31,11 +39,25 @@ public class MessageController {
                 messageResponse);
     }
 
+    // 채팅 이미지 업로드. 응답으로 받은 키를 '/send-image' 로 전송
+    @PostMapping("/chat-rooms/{chatRoomId}/images")
+    public ResponseEntity<ImageChatResponse> uploadChatImage(@PathVariable Long chatRoomId,
+                                                             @RequestParam("image") MultipartFile image,
+                                                             @AuthenticationPrincipal CustomUserDetails userDetails) throws IOException {
+
+        String imageKey = messageService.uploadImage(userDetails.getMember().getId(), chatRoomId, image);
+
+        return ResponseEntity.ok(ImageChatResponse.builder()
+                .chatRoomId(chatRoomId)
+                .imageKey(imageKey)
+                .build());
+    }
+
     @MessageMapping("/send-image")
     public void chatImage(@Valid ImageChatRequest imageChatRequest) {
 
         MessageResponse messageResponse = messageService.saveImage(
-                imageChatRequest.getSenderId(), imageChatRequest.getChatRoomId(), imageChatRequest.getEncodedImage());
+                imageChatRequest.getSenderId(), imageChatRequest.getChatRoomId(), imageChatRequest.getImageKey());
 
         simpMessagingTemplate.convertAndSend("/queue/chat-rooms/" + imageChatRequest.getChatRoomId(),
                 messageResponse);
@@ -18,6 +18,6 @@ public class ImageChatRequest {
     @NotNull(message = "채팅방 고유 번호는 필수입니다.")
     private Long chatRoomId;
 
-    @NotBlank(message = "이미지를 첨부해서 보내주세요.")
-    private String encodedImage;
+    @NotBlank(message = "업로드한 이미지의 키는 필수입니다.")
+    private String imageKey;
 }
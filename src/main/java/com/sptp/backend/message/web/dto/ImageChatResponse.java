@@ -2,9 +2,6 @@ package com.sptp.backend.message.web.dto;
 
 import lombok.*;
 
-import javax.validation.constraints.NotBlank;
-import javax.validation.constraints.NotNull;
-
 @Getter
 @Setter
 @NoArgsConstructor
@@ -14,5 +11,5 @@ public class ImageChatResponse {
 
     private Long chatRoomId;
 
-    private String image;
+    private String imageKey;
 }
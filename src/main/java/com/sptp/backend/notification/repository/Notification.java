@@ -13,6 +13,8 @@ import org.hibernate.annotations.OnDeleteAction;
 import javax.persistence.*;
 
 @Entity
+@Table(indexes = {@Index(name = "NOTIFICATION_MEMBER_MODIFIED_DATE_INDEX", columnList = "member_id, modified_date, notification_id"),
+        @Index(name = "NOTIFICATION_MODIFIED_DATE_INDEX", columnList = "modified_date, notification_id")})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
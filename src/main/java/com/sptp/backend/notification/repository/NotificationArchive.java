@@ -0,0 +1,35 @@
+package com.sptp.backend.notification.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+// 보관 기간이 지나 notification 테이블에서 옮겨진 알림. 회원 탈퇴와 무관하게 남도록 회원 id 만 저장
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationArchive {
+
+    @Id
+    @Column(name = "notification_id")
+    private Long id;
+
+    private Long memberId;
+    private String title;
+    private String message;
+    private String details;
+    private Long data;
+    private Boolean checked;
+    private Long chatRoomId;
+    private LocalDateTime createdDate;
+    private LocalDateTime modifiedDate;
+    private LocalDateTime archivedDate;
+}
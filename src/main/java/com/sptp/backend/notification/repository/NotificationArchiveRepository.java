@@ -0,0 +1,6 @@
+package com.sptp.backend.notification.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NotificationArchiveRepository extends JpaRepository<NotificationArchive, Long> {
+}
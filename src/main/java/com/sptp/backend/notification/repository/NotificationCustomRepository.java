@@ -0,0 +1,23 @@
+package com.sptp.backend.notification.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationCustomRepository {
+
+    List<Notification> saveAllInBatch(List<Notification> notifications);
+
+    List<Notification> upsertAllInBatch(List<Notification> notifications);
+
+    List<Notification> findNotificationList(Long memberId, LocalDateTime modifiedDate, Long notificationId, int limit);
+
+    long updateCheckedInRange(Long memberId, Notification first, Notification last);
+
+    List<Long> findRedundantIds(Long afterId, int limit);
+
+    List<Long> findArchiveTargetIds(LocalDateTime before, int limit);
+
+    void archiveAll(List<Long> notificationIds);
+
+    List<Long> findUncheckedMemberIds(List<Long> notificationIds);
+}
@@ -0,0 +1,250 @@
+package com.sptp.backend.notification.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.sptp.backend.notification.repository.QNotification.*;
+
+@RequiredArgsConstructor
+public class NotificationCustomRepositoryImpl implements NotificationCustomRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JPAQueryFactory queryFactory;
+
+    // IDENTITY 전략에서는 JPA 배치 insert 가 동작하지 않으므로 JDBC 배치로 한 번에 저장
+    @Override
+    public List<Notification> saveAllInBatch(List<Notification> notifications) {
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        insertAll(notifications, Timestamp.valueOf(now));
+
+        return findSaved(notifications, now);
+    }
+
+    // 같은 회원에게 같은 대상(data), 같은 종류(title)의 알림이 이미 있으면 새로 저장하지 않고 읽지 않은 최신 알림으로 갱신
+    @Override
+    @Transactional
+    public List<Notification> upsertAllInBatch(List<Notification> notifications) {
+
+        LocalDateTime savedDate = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Timestamp now = Timestamp.valueOf(savedDate);
+        List<Notification> updates = new ArrayList<>();
+        List<Notification> inserts = new ArrayList<>();
+
+        Map<List<Object>, List<Notification>> groups = notifications.stream()
+                .collect(Collectors.groupingBy(notification -> Arrays.asList(notification.getData(), notification.getTitle()),
+                        LinkedHashMap::new, Collectors.toList()));
+
+        for (List<Notification> group : groups.values()) {
+            Set<Long> existingMemberIds = findExistingMemberIds(group);
+
+            for (Notification notification : group) {
+                if (existingMemberIds.contains(notification.getMember().getId())) {
+                    updates.add(notification);
+                } else {
+                    inserts.add(notification);
+                }
+            }
+        }
+
+        jdbcTemplate.batchUpdate(
+                "update notification set message = ?, details = ?, checked = ?, modified_date = ? " +
+                        "where member_id = ? and data = ? and title = ?",
+                updates,
+                BATCH_SIZE,
+                (ps, notification) -> {
+                    ps.setString(1, notification.getMessage());
+                    ps.setString(2, notification.getDetails());
+                    ps.setBoolean(3, notification.getChecked());
+                    ps.setTimestamp(4, now);
+                    ps.setLong(5, notification.getMember().getId());
+                    ps.setObject(6, notification.getData(), Types.BIGINT);
+                    ps.setString(7, notification.getTitle());
+                });
+
+        insertAll(inserts, now);
+
+        return findSaved(notifications, savedDate);
+    }
+
+    // (modifiedDate, id) 커서 이후의 알림을 최신순으로 조회. 커서가 없으면 가장 최신 알림부터 조회
+    @Override
+    public List<Notification> findNotificationList(Long memberId, LocalDateTime modifiedDate, Long notificationId, int limit) {
+
+        return queryFactory
+                .selectFrom(notification)
+                .where(
+                        notification.member.id.eq(memberId),
+                        beforeCursor(modifiedDate, notificationId)
+                )
+                .orderBy(notification.modifiedDate.desc(), notification.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 조회한 페이지의 첫 알림과 마지막 알림 사이만 한 번의 update 로 읽음 처리
+    // 조회 이후 새로 갱신된 알림은 modifiedDate 가 범위를 벗어나므로 읽음 처리되지 않음
+    @Override
+    public long updateCheckedInRange(Long memberId, Notification first, Notification last) {
+
+        return queryFactory
+                .update(notification)
+                .set(notification.checked, true)
+                .where(
+                        notification.member.id.eq(memberId),
+                        notification.checked.isFalse(),
+                        notification.modifiedDate.lt(first.getModifiedDate())
+                                .or(notification.modifiedDate.eq(first.getModifiedDate()).and(notification.id.loe(first.getId()))),
+                        notification.modifiedDate.gt(last.getModifiedDate())
+                                .or(notification.modifiedDate.eq(last.getModifiedDate()).and(notification.id.goe(last.getId())))
+                )
+                .execute();
+    }
+
+    // 같은 회원, 같은 대상(data), 같은 종류(title)의 알림 중 가장 최근 알림이 아닌 것을 id 순서대로 조회
+    @Override
+    public List<Long> findRedundantIds(Long afterId, int limit) {
+
+        return jdbcTemplate.queryForList(
+                "select n.notification_id from notification n " +
+                        "where n.notification_id > ? and n.data is not null " +
+                        "and exists (select 1 from notification newer " +
+                        "where newer.member_id = n.member_id and newer.data = n.data and newer.title = n.title " +
+                        "and (newer.modified_date > n.modified_date or (newer.modified_date = n.modified_date and newer.notification_id > n.notification_id))) " +
+                        "order by n.notification_id limit ?",
+                Long.class,
+                afterId, limit);
+    }
+
+    // 여러 서버에서 같은 알림을 중복 보관하지 않도록 잠금 조회
+    // (modified_date, notification_id) 인덱스 순서로 읽어 limit 개만 스캔하고 잠금
+    @Override
+    public List<Long> findArchiveTargetIds(LocalDateTime before, int limit) {
+
+        return jdbcTemplate.queryForList(
+                "select notification_id from notification where modified_date < ? order by modified_date, notification_id limit ? for update",
+                Long.class,
+                Timestamp.valueOf(before), limit);
+    }
+
+    @Override
+    public void archiveAll(List<Long> notificationIds) {
+
+        List<Object> params = new ArrayList<>();
+        params.add(Timestamp.valueOf(LocalDateTime.now()));
+        params.addAll(notificationIds);
+
+        jdbcTemplate.update(
+                "insert into notification_archive (notification_id, member_id, title, message, details, data, checked, chat_room_id, created_date, modified_date, archived_date) " +
+                        "select notification_id, member_id, title, message, details, data, checked, chat_room_id, created_date, modified_date, ? " +
+                        "from notification where notification_id in (" + String.join(", ", Collections.nCopies(notificationIds.size(), "?")) + ")",
+                params.toArray());
+    }
+
+    // 삭제할 알림 중 읽지 않은 알림을 가진 회원 id
+    @Override
+    public List<Long> findUncheckedMemberIds(List<Long> notificationIds) {
+
+        return queryFactory
+                .select(notification.member.id)
+                .distinct()
+                .from(notification)
+                .where(notification.id.in(notificationIds),
+                        notification.checked.isFalse())
+                .fetch();
+    }
+
+    private BooleanExpression beforeCursor(LocalDateTime modifiedDate, Long notificationId) {
+
+        if (modifiedDate == null || notificationId == null) {
+            return null;
+        }
+
+        return notification.modifiedDate.lt(modifiedDate)
+                .or(notification.modifiedDate.eq(modifiedDate).and(notification.id.lt(notificationId)));
+    }
+
+    // JDBC 배치는 생성된 id 를 돌려주지 않으므로 저장한 알림을 다시 조회
+    // 이번 배치의 insert, update 는 모두 같은 저장 시각을 기록하므로 회원 id 청크별 한 번의 조회로 찾음
+    private List<Notification> findSaved(List<Notification> notifications, LocalDateTime savedDate) {
+
+        List<Notification> saved = new ArrayList<>();
+        Set<String> titles = notifications.stream()
+                .map(Notification::getTitle)
+                .collect(Collectors.toSet());
+        List<Long> memberIds = notifications.stream()
+                .map(n -> n.getMember().getId())
+                .distinct()
+                .collect(Collectors.toList());
+
+        for (int from = 0; from < memberIds.size(); from += BATCH_SIZE) {
+            List<Long> chunk = memberIds.subList(from, Math.min(from + BATCH_SIZE, memberIds.size()));
+
+            saved.addAll(queryFactory
+                    .selectFrom(notification)
+                    .where(notification.member.id.in(chunk),
+                            notification.title.in(titles),
+                            notification.modifiedDate.eq(savedDate))
+                    .fetch());
+        }
+
+        return saved;
+    }
+
+    // 같은 대상, 같은 종류의 알림을 이미 가지고 있는 회원 id 조회
+    private Set<Long> findExistingMemberIds(List<Notification> group) {
+
+        Set<Long> existingMemberIds = new HashSet<>();
+        Notification first = group.get(0);
+
+        for (int from = 0; from < group.size(); from += BATCH_SIZE) {
+            List<Notification> chunk = group.subList(from, Math.min(from + BATCH_SIZE, group.size()));
+
+            List<Object> params = new ArrayList<>();
+            params.add(first.getData());
+            params.add(first.getTitle());
+            chunk.forEach(notification -> params.add(notification.getMember().getId()));
+
+            existingMemberIds.addAll(jdbcTemplate.queryForList(
+                    "select member_id from notification where data = ? and title = ? and member_id in (" +
+                            String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")",
+                    Long.class,
+                    params.toArray()));
+        }
+
+        return existingMemberIds;
+    }
+
+    private void insertAll(List<Notification> notifications, Timestamp now) {
+
+        jdbcTemplate.batchUpdate(
+                "insert into notification (member_id, title, message, details, data, checked, chat_room_id, created_date, modified_date) " +
+                        "values (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                notifications,
+                BATCH_SIZE,
+                (ps, notification) -> {
+                    ps.setLong(1, notification.getMember().getId());
+                    ps.setString(2, notification.getTitle());
+                    ps.setString(3, notification.getMessage());
+                    ps.setString(4, notification.getDetails());
+                    ps.setObject(5, notification.getData(), Types.BIGINT);
+                    ps.setBoolean(6, notification.getChecked());
+                    ps.setObject(7, notification.getChatRoomId(), Types.BIGINT);
+                    ps.setTimestamp(8, now);
+                    ps.setTimestamp(9, now);
+                });
+    }
+}
@@ -0,0 +1,118 @@
+package com.sptp.backend.notification.schedule;
+
+import com.sptp.backend.notification.service.NotificationCompactionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 주기적으로 중복 알림을 정리하고 보관 기간이 지난 알림을 보관 테이블로 옮기는 작업
+// 배치 사이에 쉬어가며 삭제하므로 정리할 알림이 많아도 알림 테이블을 오래 잠그지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationCompactionJob {
+
+    private final NotificationCompactionService notificationCompactionService;
+    private final MeterRegistry meterRegistry;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "NotificationCompactionJob");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Counter collapsedCounter;
+    private Counter archivedCounter;
+    private Timer compactionTimer;
+
+    @Value("${notification.compaction.enabled:true}")
+    private boolean enabled;
+
+    @Value("${notification.compaction.interval-minutes:60}")
+    private long intervalMinutes;
+
+    @Value("${notification.compaction.batch-size:500}")
+    private int batchSize;
+
+    @Value("${notification.compaction.batch-pause-millis:100}")
+    private long batchPauseMillis;
+
+    @Value("${notification.retention.days:90}")
+    private long retentionDays;
+
+    @PostConstruct
+    public void init() {
+
+        collapsedCounter = meterRegistry.counter("notification.compaction.reclaimed", "type", "collapsed");
+        archivedCounter = meterRegistry.counter("notification.compaction.reclaimed", "type", "archived");
+        compactionTimer = meterRegistry.timer("notification.compaction.duration");
+
+        if (enabled) {
+            scheduler.scheduleWithFixedDelay(this::compact, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+        }
+    }
+
+    public void compact() {
+
+        long startNanos = System.nanoTime();
+        int collapsed = 0;
+        int archived = 0;
+
+        try {
+            NotificationCompactionService.CompactionResult result;
+            Long lastId = 0L;
+
+            do {
+                result = notificationCompactionService.collapse(lastId, batchSize);
+                collapsed += result.getCount();
+                lastId = result.getLastId();
+            } while (hasNextBatch(result));
+
+            LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+
+            do {
+                result = notificationCompactionService.archive(before, batchSize);
+                archived += result.getCount();
+            } while (hasNextBatch(result));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("notification compaction failed", e);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startNanos;
+
+            collapsedCounter.increment(collapsed);
+            archivedCounter.increment(archived);
+            compactionTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+            log.info("[log] 알림 정리 완료. 중복 {}건 삭제, {}건 보관, {}ms 소요", collapsed, archived, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
+
+    // 배치가 가득 찼다면 남은 알림이 있으므로 잠시 쉰 뒤 다음 배치 처리
+    private boolean hasNextBatch(NotificationCompactionService.CompactionResult result) throws InterruptedException {
+
+        if (result.getCount() < batchSize) {
+            return false;
+        }
+
+        Thread.sleep(batchPauseMillis);
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,61 @@
+package com.sptp.backend.notification.service;
+
+import com.sptp.backend.notification.repository.NotificationRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 알림 테이블 정리. 한 번에 batchSize 개씩만 짧은 트랜잭션으로 삭제해 알림 조회, 저장이 오래 막히지 않도록 함
+// 읽지 않은 알림을 삭제하면 해당 회원의 읽지 않은 알림 수 캐시를 커밋 후 무효화
+@Service
+@RequiredArgsConstructor
+public class NotificationCompactionService {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationService notificationService;
+
+    // 같은 회원, 같은 작품, 같은 종류의 알림 중 최신 알림만 남기고 삭제. 다음 배치는 마지막으로 조회한 id 이후부터 조회
+    @Transactional
+    public CompactionResult collapse(Long afterId, int batchSize) {
+
+        List<Long> redundantIds = notificationRepository.findRedundantIds(afterId, batchSize);
+
+        if (redundantIds.isEmpty()) {
+            return new CompactionResult(0, afterId);
+        }
+
+        notificationService.evictUnreadCountsAfterCommit(notificationRepository.findUncheckedMemberIds(redundantIds));
+        notificationRepository.deleteAllByIdInBatch(redundantIds);
+
+        return new CompactionResult(redundantIds.size(), redundantIds.get(redundantIds.size() - 1));
+    }
+
+    // before 이전에 갱신된 알림을 보관 테이블로 옮긴 뒤 삭제
+    @Transactional
+    public CompactionResult archive(LocalDateTime before, int batchSize) {
+
+        List<Long> archiveIds = notificationRepository.findArchiveTargetIds(before, batchSize);
+
+        if (archiveIds.isEmpty()) {
+            return new CompactionResult(0, null);
+        }
+
+        notificationRepository.archiveAll(archiveIds);
+        notificationService.evictUnreadCountsAfterCommit(notificationRepository.findUncheckedMemberIds(archiveIds));
+        notificationRepository.deleteAllByIdInBatch(archiveIds);
+
+        return new CompactionResult(archiveIds.size(), archiveIds.get(archiveIds.size() - 1));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class CompactionResult {
+
+        private final int count;
+        private final Long lastId;
+    }
+}
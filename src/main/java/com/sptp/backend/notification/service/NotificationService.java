@@ -1,20 +1,32 @@
 package com.sptp.backend.notification.service;
 
-import com.sptp.backend.common.exception.CustomException;
-import com.sptp.backend.common.exception.ErrorCode;
 import com.sptp.backend.member.repository.Member;
-import com.sptp.backend.member.repository.MemberRepository;
 import com.sptp.backend.notification.repository.Notification;
 import com.sptp.backend.notification.repository.NotificationRepository;
+import com.sptp.backend.notification.web.dto.response.NotificationListResponse;
 import com.sptp.backend.notification.web.dto.response.NotificationNewResponse;
 import com.sptp.backend.notification.web.dto.response.NotificationResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,42 +35,74 @@ import java.util.stream.Collectors;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
-    private final MemberRepository memberRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SimpMessagingTemplate simpMessagingTemplate;
 
+    private static final String UNREAD_COUNT_KEY_PREFIX = "notification:unread:";
+    // 버전이 다시 이전 값으로 돌아가 오래된 캐시가 조회되지 않도록 버전 키는 만료시키지 않음
+    private static final String UNREAD_COUNT_VERSION_KEY_PREFIX = "notification:unread:version:";
+    public static final String DESTINATION_PREFIX = "/queue/notifications/";
+
+    // 캐시 갱신이 누락되더라도 이 시간이 지나면 DB 기준으로 다시 계산
+    @Value("${notification.unread-count.ttl-minutes:10}")
+    private long unreadCountTtlMinutes;
+
+    public static String getDestination(Long memberId) {
+        return DESTINATION_PREFIX + memberId;
+    }
+
+    // 커서 이후 한 페이지만 조회하고, 조회한 범위만 한 번의 update 로 읽음 처리
     @Transactional
-    public List<NotificationResponse> getNotificationList(Long loginMember){
+    public NotificationListResponse getNotificationList(Long loginMember, LocalDateTime modifiedDate, Long notificationId, Pageable pageable){
 
-        List<Notification> findNotificationList = notificationRepository.findByMemberIdOrderByModifiedDateDesc(loginMember);
+        List<Notification> findNotificationList = notificationRepository.findNotificationList(loginMember, modifiedDate, notificationId, pageable.getPageSize() + 1);
+
+        boolean hasNext = false;
+
+        // 조회한 결과 개수가 요청한 페이지 사이즈보다 클 경우, next = true
+        if (findNotificationList.size() > pageable.getPageSize()) {
+            hasNext = true;
+            findNotificationList.remove(pageable.getPageSize());
+        }
 
         List<NotificationResponse> notificationResponses = findNotificationList.stream()
                 .map(m -> new NotificationResponse(m.getId(), m.getTitle(), m.getMessage(), m.getDetails(), m.getData(), m.getModifiedDate()))
                 .collect(Collectors.toList());
 
-        markAsRead(findNotificationList);
+        if (!findNotificationList.isEmpty()) {
+            long readCount = notificationRepository.updateCheckedInRange(loginMember,
+                    findNotificationList.get(0), findNotificationList.get(findNotificationList.size() - 1));
 
-        return notificationResponses;
-    }
+            // 다른 페이지에 읽지 않은 알림이 남아있을 수 있으므로 캐시를 무효화하고 다음 조회 시 다시 계산
+            if (readCount > 0) {
+                runAfterCommit(() -> evictUnreadCounts(Set.of(loginMember)));
+            }
+        }
 
-    private void markAsRead(List<Notification> notifications) {
-        notifications.forEach(Notification::read);
+        return NotificationListResponse.builder()
+                .nextPage(hasNext)
+                .notifications(notificationResponses)
+                .build();
     }
 
     @Transactional
     public void deleteNotification(Long notificationId) {
 
+        // 읽지 않은 알림을 지우면 읽지 않은 알림 수가 바뀌므로 캐시도 무효화
+        notificationRepository.findById(notificationId)
+                .filter(notification -> !notification.getChecked())
+                .ifPresent(notification -> runAfterCommit(() -> evictUnreadCounts(Set.of(notification.getMember().getId()))));
+
         notificationRepository.deleteById(notificationId);
     }
 
-    @Transactional(readOnly = true)
+    // 인증 시 조회된 회원 정보와 캐시된 읽지 않은 알림 수로 응답하므로 DB를 조회하지 않음
     public NotificationNewResponse getNotificationNew(Member member) {
 
-        Member findMember = memberRepository.findById(member.getId())
-                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_MEMBER));
-
-        Long count = notificationRepository.countByMemberAndChecked(member, false);
+        long count = getUnreadCount(member);
 
         Boolean isArtist = false;
-        if(Objects.equals(findMember.getRoles().get(0), "ROLE_ARTIST")) {
+        if(Objects.equals(member.getRoles().get(0), "ROLE_ARTIST")) {
             isArtist = true;
         }
 
@@ -69,4 +113,115 @@ public class NotificationService {
 
         return notificationNewResponse;
     }
+
+    // 새 알림이 저장된 트랜잭션이 커밋되면 읽지 않은 알림 수 캐시를 무효화하고 회원에게 바로 전송
+    public void notifyAfterCommit(Notification notification) {
+
+        notifyAfterCommit(List.of(notification));
+    }
+
+    public void notifyAfterCommit(List<Notification> notifications) {
+
+        runAfterCommit(() -> notify(notifications));
+    }
+
+    // 알림 정리 등으로 읽지 않은 알림이 삭제된 트랜잭션이 커밋되면 해당 회원의 캐시를 무효화
+    public void evictUnreadCountsAfterCommit(Collection<Long> memberIds) {
+
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        Set<Long> memberIdSet = new HashSet<>(memberIds);
+        runAfterCommit(() -> evictUnreadCounts(memberIdSet));
+    }
+
+    // JDBC 배치로 저장된 알림은 저장소가 다시 조회해서 돌려준 id 와 저장 시각으로 전송해야 함
+    private void notify(List<Notification> notifications) {
+
+        evictUnreadCounts(notifications.stream()
+                .map(notification -> notification.getMember().getId())
+                .collect(Collectors.toSet()));
+
+        for (Notification notification : notifications) {
+            try {
+                simpMessagingTemplate.convertAndSend(getDestination(notification.getMember().getId()), new NotificationResponse(
+                        notification.getId(), notification.getTitle(), notification.getMessage(), notification.getDetails(), notification.getData(), notification.getModifiedDate()));
+            } catch (Exception e) {
+                log.error("notification send failed. memberId = {}", notification.getMember().getId(), e);
+            }
+        }
+    }
+
+    // 캐시에 없을 때만 DB에서 계산해 저장. Redis 장애 시에는 DB 기준으로 응답
+    // 계산한 값은 DB를 읽기 전의 버전 키에 저장하므로, 그 사이 새 알림이 커밋돼 버전이 올라가면 이전 값은 더 이상 조회되지 않음
+    private long getUnreadCount(Member member) {
+
+        String unreadCountKey;
+
+        try {
+            ValueOperations<String, String> valueOperations = stringRedisTemplate.opsForValue();
+            unreadCountKey = getUnreadCountKey(member.getId(), valueOperations.get(getUnreadCountVersionKey(member.getId())));
+            String cached = valueOperations.get(unreadCountKey);
+
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (Exception e) {
+            log.error("unread notification count lookup failed. memberId = {}", member.getId(), e);
+            return notificationRepository.countByMemberAndChecked(member, false);
+        }
+
+        long count = notificationRepository.countByMemberAndChecked(member, false);
+        cacheUnreadCount(unreadCountKey, count);
+
+        return count;
+    }
+
+    // 회원별 버전을 올려 이전 버전으로 캐시된 값을 무효화
+    private void evictUnreadCounts(Set<Long> memberIds) {
+
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringRedisConnection = (StringRedisConnection) connection;
+                memberIds.forEach(memberId -> stringRedisConnection.incr(getUnreadCountVersionKey(memberId)));
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("unread notification count eviction failed. memberIds = {}", memberIds, e);
+        }
+    }
+
+    private void cacheUnreadCount(String unreadCountKey, long count) {
+
+        try {
+            stringRedisTemplate.opsForValue().set(unreadCountKey, String.valueOf(count), Duration.ofMinutes(unreadCountTtlMinutes));
+        } catch (Exception e) {
+            log.error("unread notification count caching failed. key = {}", unreadCountKey, e);
+        }
+    }
+
+    private String getUnreadCountKey(Long memberId, String version) {
+        return UNREAD_COUNT_KEY_PREFIX + memberId + ":" + ((version == null) ? "0" : version);
+    }
+
+    private String getUnreadCountVersionKey(Long memberId) {
+        return UNREAD_COUNT_VERSION_KEY_PREFIX + memberId;
+    }
+
+    private void runAfterCommit(Runnable runnable) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
 }
@@ -0,0 +1,50 @@
+package com.sptp.backend.notification.service;
+
+import com.sptp.backend.bidding.repository.BiddingRepository;
+import com.sptp.backend.common.NotificationCode;
+import com.sptp.backend.member.repository.Member;
+import com.sptp.backend.notification.repository.Notification;
+import com.sptp.backend.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 입찰 경쟁 알림을 작품별로 한 번에 갱신. 알림은 (회원, 작품) 별로 한 건만 유지되므로 저장량이 응찰 수가 아닌 응찰자 수에 비례함
+// 같은 작품의 응찰은 아웃박스에서 notification.still-bid.window-millis 동안 모였다가 한 번만 전달되고(OutboxEventClaimService),
+// 아웃박스 이벤트는 이 갱신이 커밋된 뒤에 삭제되므로 서버가 종료되어도 유실되지 않음
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class StillBidNotificationService {
+
+    private final BiddingRepository biddingRepository;
+    private final NotificationRepository notificationRepository;
+    private final NotificationService notificationService;
+
+    // 전달 시점의 최고 응찰자를 제외한 응찰자 전원에게 알림
+    public void notify(Long artWorkId, String artWorkTitle) {
+
+        List<Notification> notifications = biddingRepository.findOutbidMemberIds(artWorkId).stream()
+                .map(memberId -> createNotification(memberId, artWorkId, artWorkTitle))
+                .collect(Collectors.toList());
+
+        if (!notifications.isEmpty()) {
+            notificationService.notifyAfterCommit(notificationRepository.upsertAllInBatch(notifications));
+        }
+    }
+
+    private Notification createNotification(Long memberId, Long artWorkId, String artWorkTitle) {
+
+        return Notification.builder()
+                .member(Member.builder().id(memberId).build())
+                .title(NotificationCode.STILL_BID.getTitle())
+                .message(artWorkTitle + NotificationCode.STILL_BID.getMessage())
+                .details(NotificationCode.STILL_BID.getDetails())
+                .data(artWorkId)
+                .checked(false)
+                .build();
+    }
+}
@@ -2,19 +2,22 @@ package com.sptp.backend.notification.web;
 
 import com.sptp.backend.jwt.service.dto.CustomUserDetails;
 import com.sptp.backend.notification.service.NotificationService;
+import com.sptp.backend.notification.web.dto.response.NotificationListResponse;
 import com.sptp.backend.notification.web.dto.response.NotificationNewResponse;
-import com.sptp.backend.notification.web.dto.response.NotificationResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,11 +28,13 @@ public class NotificationController {
 
     // 알림 목록 조회
     @GetMapping("/notifications")
-    public ResponseEntity<List<NotificationResponse>> getNotificationList(@AuthenticationPrincipal CustomUserDetails userDetails){
+    public ResponseEntity<NotificationListResponse> getNotificationList(@AuthenticationPrincipal CustomUserDetails userDetails, Pageable pageable,
+                                                                        @RequestParam(value = "modifiedDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime modifiedDate,
+                                                                        @RequestParam(value = "notificationId", required = false) Long notificationId){
 
-        List<NotificationResponse> notificationResponses = notificationService.getNotificationList(userDetails.getMember().getId());
+        NotificationListResponse notificationListResponse = notificationService.getNotificationList(userDetails.getMember().getId(), modifiedDate, notificationId, pageable);
 
-        return ResponseEntity.status(HttpStatus.OK).body(notificationResponses);
+        return ResponseEntity.status(HttpStatus.OK).body(notificationListResponse);
     }
 
     // 알림 삭제
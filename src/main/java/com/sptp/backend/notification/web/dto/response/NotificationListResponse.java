@@ -0,0 +1,16 @@
+package com.sptp.backend.notification.web.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationListResponse {
+
+    private boolean nextPage;
+    private List<NotificationResponse> notifications;
+}
@@ -0,0 +1,71 @@
+package com.sptp.backend.outbox.event;
+
+import com.sptp.backend.art_work.event.ArtWorkEvent;
+import com.sptp.backend.auction.event.AuctionEvent;
+import com.sptp.backend.member.event.MemberEvent;
+import com.sptp.backend.message.event.MessageEvent;
+import com.sptp.backend.outbox.repository.OutboxEvent;
+import com.sptp.backend.outbox.repository.OutboxEventType;
+import com.sptp.backend.outbox.schedule.OutboxEventRelay;
+import com.sptp.backend.outbox.service.OutboxEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 발행된 알림 이벤트를 발행한 트랜잭션 안에서 아웃박스에 저장. 롤백되면 이벤트도 함께 사라지고, 전달은 커밋 이후 릴레이가 처리
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+
+    private final OutboxEventService outboxEventService;
+    private final OutboxEventRelay outboxEventRelay;
+
+    @EventListener
+    public void recordArtWorkEvent(ArtWorkEvent artWorkEvent) {
+
+        record(OutboxEvent.builder()
+                .type(OutboxEventType.ART_WORK)
+                .notificationCode(artWorkEvent.getNotificationCode())
+                .memberId(artWorkEvent.getMember().getId())
+                .artWorkId(artWorkEvent.getArtwork().getId())
+                .price((artWorkEvent.getBidding() == null) ? null : artWorkEvent.getBidding().getPrice())
+                .build());
+    }
+
+    @EventListener
+    public void recordAuctionEvent(AuctionEvent auctionEvent) {
+
+        record(OutboxEvent.builder()
+                .type(OutboxEventType.AUCTION)
+                .notificationCode(auctionEvent.getNotificationCode())
+                .artWorkId(auctionEvent.getArtWork().getId())
+                .build());
+    }
+
+    @EventListener
+    public void recordMessageEvent(MessageEvent messageEvent) {
+
+        record(OutboxEvent.builder()
+                .type(OutboxEventType.MESSAGE)
+                .notificationCode(messageEvent.getNotificationCode())
+                .chatRoomId(messageEvent.getChatRoom().getId())
+                .memberId(messageEvent.getSenderId())
+                .build());
+    }
+
+    @EventListener
+    public void recordMemberEvent(MemberEvent memberEvent) {
+
+        record(OutboxEvent.builder()
+                .type(OutboxEventType.MEMBER)
+                .notificationCode(memberEvent.getNotificationCode())
+                .memberId(memberEvent.getMember().getId())
+                .build());
+    }
+
+    private void record(OutboxEvent outboxEvent) {
+
+        outboxEventService.save(outboxEvent);
+        outboxEventRelay.wakeUpAfterCommit(outboxEvent.getType());
+    }
+}
@@ -0,0 +1,56 @@
+package com.sptp.backend.outbox.repository;
+
+import com.sptp.backend.common.NotificationCode;
+import com.sptp.backend.common.entity.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// 알림 이벤트 아웃박스. 이벤트를 발행한 트랜잭션에서 함께 저장되고, 릴레이가 전달한 뒤 삭제
+// 엔티티 대신 id 와 값만 저장하고 전달 시점에 다시 조회
+@Entity
+@Table(indexes = {@Index(name = "OUTBOX_EVENT_TYPE_INDEX", columnList = "type, failed, outbox_event_id")})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class OutboxEvent extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_event_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxEventType type;
+
+    @Enumerated(EnumType.STRING)
+    private NotificationCode notificationCode;
+
+    private Long memberId;
+    private Long artWorkId;
+    private Long chatRoomId;
+    private Long price;
+
+    @Builder.Default
+    private int attempts = 0;
+
+    @Builder.Default
+    private boolean failed = false;
+
+    // 릴레이가 전달하기 위해 점유한 기한. 기한이 지나면 점유한 서버가 종료된 것으로 보고 다른 릴레이가 다시 가져감
+    private LocalDateTime claimedUntil;
+
+    // 재시도 횟수를 모두 소진한 이벤트는 전달을 포기하고 이후 이벤트가 막히지 않도록 대기열에서 제외
+    public void fail(int maxAttempts) {
+
+        this.attempts++;
+        this.failed = attempts >= maxAttempts;
+        this.claimedUntil = null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.sptp.backend.outbox.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventCustomRepository {
+
+    List<OutboxEvent> findRelayTargets(OutboxEventType type, LocalDateTime now, LocalDateTime stillBidBefore, int limit);
+
+    List<OutboxEvent> findPendingStillBids(List<Long> artWorkIds, LocalDateTime now);
+
+    long updateClaimedUntil(List<Long> ids, LocalDateTime claimedUntil);
+
+    LocalDateTime findOldestPendingCreatedDate(OutboxEventType type);
+}
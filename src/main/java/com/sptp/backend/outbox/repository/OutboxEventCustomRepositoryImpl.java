@@ -0,0 +1,83 @@
+package com.sptp.backend.outbox.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sptp.backend.common.NotificationCode;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.AvailableSettings;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.sptp.backend.outbox.repository.QOutboxEvent.*;
+
+@RequiredArgsConstructor
+public class OutboxEventCustomRepositoryImpl implements OutboxEventCustomRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    // 다른 릴레이가 점유하지 않은 이벤트를 저장된 순서대로 잠금 조회. 다른 릴레이가 잠근 행은 기다리지 않고 건너뜀 (SKIP LOCKED)
+    // 잠금은 점유 기한을 기록하는 짧은 트랜잭션 동안만 유지되고, 전달은 잠금 없이 진행
+    // 입찰 경쟁 알림은 stillBidBefore 이전에 저장된 것만 조회해서 대기 시간 동안 들어온 응찰을 한 번에 전달
+    @Override
+    public List<OutboxEvent> findRelayTargets(OutboxEventType type, LocalDateTime now, LocalDateTime stillBidBefore, int limit) {
+
+        return queryFactory
+                .selectFrom(outboxEvent)
+                .where(outboxEvent.type.eq(type),
+                        outboxEvent.failed.isFalse(),
+                        notClaimed(now),
+                        outboxEvent.notificationCode.ne(NotificationCode.STILL_BID).or(outboxEvent.createdDate.loe(stillBidBefore)))
+                .orderBy(outboxEvent.id.asc())
+                .limit(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(AvailableSettings.JPA_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                .fetch();
+    }
+
+    // 전달할 입찰 경쟁 알림과 같은 작품의 대기중인 입찰 경쟁 알림. 대기 시간이 지나지 않았어도 함께 점유해서 전달한 것으로 처리
+    @Override
+    public List<OutboxEvent> findPendingStillBids(List<Long> artWorkIds, LocalDateTime now) {
+
+        return queryFactory
+                .selectFrom(outboxEvent)
+                .where(outboxEvent.type.eq(OutboxEventType.ART_WORK),
+                        outboxEvent.notificationCode.eq(NotificationCode.STILL_BID),
+                        outboxEvent.artWorkId.in(artWorkIds),
+                        outboxEvent.failed.isFalse(),
+                        notClaimed(now))
+                .orderBy(outboxEvent.id.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(AvailableSettings.JPA_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                .fetch();
+    }
+
+    // claimedUntil 이 null 이면 점유 해제
+    @Override
+    public long updateClaimedUntil(List<Long> ids, LocalDateTime claimedUntil) {
+
+        return queryFactory
+                .update(outboxEvent)
+                .set(outboxEvent.claimedUntil, claimedUntil)
+                .where(outboxEvent.id.in(ids))
+                .execute();
+    }
+
+    private BooleanExpression notClaimed(LocalDateTime now) {
+
+        return outboxEvent.claimedUntil.isNull().or(outboxEvent.claimedUntil.lt(now));
+    }
+
+    @Override
+    public LocalDateTime findOldestPendingCreatedDate(OutboxEventType type) {
+
+        return queryFactory
+                .select(outboxEvent.createdDate.min())
+                .from(outboxEvent)
+                .where(outboxEvent.type.eq(type),
+                        outboxEvent.failed.isFalse())
+                .fetchOne();
+    }
+}
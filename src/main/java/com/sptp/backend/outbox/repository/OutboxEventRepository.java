@@ -0,0 +1,8 @@
+package com.sptp.backend.outbox.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>, OutboxEventCustomRepository {
+
+    long countByTypeAndFailedFalse(OutboxEventType type);
+}
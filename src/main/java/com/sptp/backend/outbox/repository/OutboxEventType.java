@@ -0,0 +1,6 @@
+package com.sptp.backend.outbox.repository;
+
+public enum OutboxEventType {
+
+    ART_WORK, AUCTION, MESSAGE, MEMBER
+}
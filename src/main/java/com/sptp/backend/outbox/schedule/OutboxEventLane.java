@@ -0,0 +1,140 @@
+package com.sptp.backend.outbox.schedule;
+
+import com.sptp.backend.outbox.repository.OutboxEventType;
+import com.sptp.backend.outbox.service.OutboxEventService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 한 종류의 아웃박스 이벤트만 전달하는 레인. 레인마다 스레드가 따로 있어 채팅 알림이 몰려도 낙찰 알림 등 다른 종류는 밀리지 않음
+// 종류별 전달 순서를 지키기 위해 레인당 스레드는 한 개이고, 대기열은 메모리가 아닌 아웃박스 테이블이므로 버려지는 이벤트가 없음
+// 전달 중이거나 재시도 대기중에 들어온 요청은 이미 예정된 실행에 합쳐지고(coalesced) 이벤트는 다음 배치에서 전달
+@Slf4j
+class OutboxEventLane {
+
+    private final OutboxEventType type;
+    private final OutboxEventService outboxEventService;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final long retryDelayMillis;
+
+    private final ScheduledExecutorService scheduler;
+
+    private ScheduledFuture<?> nextTick;
+    private boolean wakeUpRequested;
+    private boolean backingOff;
+
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final Counter relayedCounter;
+    private final Counter failedCounter;
+    private final Counter coalescedCounter;
+    private final Timer latencyTimer;
+
+    OutboxEventLane(OutboxEventType type, OutboxEventService outboxEventService, MeterRegistry meterRegistry,
+                    int batchSize, long pollIntervalMillis, long retryDelayMillis) {
+
+        this.type = type;
+        this.outboxEventService = outboxEventService;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.retryDelayMillis = retryDelayMillis;
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "OutboxEventLane-" + type.name());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        String tag = type.name();
+        this.relayedCounter = meterRegistry.counter("outbox.events.relayed", "type", tag);
+        this.failedCounter = meterRegistry.counter("outbox.events.failed", "type", tag);
+        this.coalescedCounter = meterRegistry.counter("outbox.lane.wakeups.coalesced", "type", tag);
+        this.latencyTimer = meterRegistry.timer("outbox.events.latency", "type", tag);
+        Gauge.builder("outbox.events.pending", outboxEventService, service -> service.countPending(type)).tag("type", tag).register(meterRegistry);
+        Gauge.builder("outbox.events.lag.seconds", outboxEventService, service -> service.getLagSeconds(type)).tag("type", tag).register(meterRegistry);
+        Gauge.builder("outbox.lane.active", activeCount, AtomicInteger::get).tag("type", tag).register(meterRegistry);
+    }
+
+    synchronized void wakeUp() {
+
+        wakeUpRequested = true;
+
+        // 재시도 대기중이면 대기 시간을 지키고, 이미 바로 실행될 예정이면 그 실행에 합쳐짐
+        if (!backingOff && (nextTick == null || nextTick.getDelay(TimeUnit.MILLISECONDS) > 0)) {
+            reschedule(0);
+            return;
+        }
+
+        coalescedCounter.increment();
+    }
+
+    private void tick() {
+
+        long delayMillis = pollIntervalMillis;
+        boolean failed = false;
+
+        activeCount.incrementAndGet();
+        try {
+            clearWakeUp();
+            OutboxEventService.RelayResult result = outboxEventService.relay(type, batchSize);
+
+            relayedCounter.increment(result.getRelayedCount());
+            failedCounter.increment(result.getFailedCount());
+            result.getLatencies().forEach(latencyTimer::record);
+
+            if (result.isBlocked()) {
+                failed = true;
+            } else if (result.getFetchedCount() >= batchSize) {
+                delayMillis = 0; // 남은 이벤트가 있으면 바로 다음 배치 전달
+            }
+        } catch (Exception e) {
+            log.error("outbox relay tick failed. type = {}", type, e);
+            failed = true;
+        } finally {
+            activeCount.decrementAndGet();
+            scheduleNext(delayMillis, failed);
+        }
+    }
+
+    private synchronized void clearWakeUp() {
+        wakeUpRequested = false;
+    }
+
+    // 실패했다면 재시도 대기 시간만큼 쉬고, 전달 도중 새 이벤트가 커밋됐다면 기다리지 않고 바로 다음 배치 전달
+    private synchronized void scheduleNext(long delayMillis, boolean failed) {
+
+        backingOff = failed;
+
+        if (failed) {
+            reschedule(retryDelayMillis);
+            return;
+        }
+
+        reschedule(wakeUpRequested ? 0 : delayMillis);
+    }
+
+    private synchronized void reschedule(long delayMillis) {
+
+        if (scheduler.isShutdown()) {
+            return;
+        }
+
+        if (nextTick != null) {
+            nextTick.cancel(false);
+        }
+
+        nextTick = scheduler.schedule(this::tick, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,86 @@
+package com.sptp.backend.outbox.schedule;
+
+import com.sptp.backend.outbox.repository.OutboxEventType;
+import com.sptp.backend.outbox.service.OutboxEventService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.Map;
+
+// 아웃박스에 쌓인 알림 이벤트를 종류별 레인에서 배치 단위로 전달
+// 이벤트는 DB에 대기하므로 몰리는 시점에도 버려지지 않고, 레인마다 처리 속도에 맞춰 다음 배치를 가져옴
+// 레인 설정은 outbox.relay.lanes.{art-work|auction|message|member}.* 로 지정하고, 없으면 outbox.relay.* 값을 사용
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRelay {
+
+    private final OutboxEventService outboxEventService;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    private final Map<OutboxEventType, OutboxEventLane> lanes = new EnumMap<>(OutboxEventType.class);
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    // 커밋 알림을 받지 못한 다른 서버의 이벤트도 이 주기 안에 전달됨
+    @Value("${outbox.relay.poll-interval-millis:1000}")
+    private long pollIntervalMillis;
+
+    @Value("${outbox.relay.retry-delay-millis:1000}")
+    private long retryDelayMillis;
+
+    @PostConstruct
+    public void init() {
+
+        for (OutboxEventType type : OutboxEventType.values()) {
+            lanes.put(type, new OutboxEventLane(type, outboxEventService, meterRegistry,
+                    getLaneProperty(type, "batch-size", Integer.class, batchSize),
+                    getLaneProperty(type, "poll-interval-millis", Long.class, pollIntervalMillis),
+                    getLaneProperty(type, "retry-delay-millis", Long.class, retryDelayMillis)));
+        }
+
+        lanes.values().forEach(OutboxEventLane::wakeUp);
+    }
+
+    // 이벤트를 저장한 트랜잭션이 커밋되면 해당 종류의 레인에서 바로 전달
+    public void wakeUpAfterCommit(OutboxEventType type) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            wakeUp(type);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCommit() {
+                wakeUp(type);
+            }
+        });
+    }
+
+    public void wakeUp(OutboxEventType type) {
+
+        lanes.get(type).wakeUp();
+    }
+
+    private <T> T getLaneProperty(OutboxEventType type, String name, Class<T> targetType, T defaultValue) {
+
+        String lane = type.name().toLowerCase().replace('_', '-');
+        return environment.getProperty("outbox.relay.lanes." + lane + "." + name, targetType, defaultValue);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lanes.values().forEach(OutboxEventLane::shutdown);
+    }
+}
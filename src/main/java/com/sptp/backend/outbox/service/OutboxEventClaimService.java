@@ -0,0 +1,98 @@
+package com.sptp.backend.outbox.service;
+
+import com.sptp.backend.common.NotificationCode;
+import com.sptp.backend.outbox.repository.OutboxEvent;
+import com.sptp.backend.outbox.repository.OutboxEventRepository;
+import com.sptp.backend.outbox.repository.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+// 릴레이의 점유, 완료, 실패 기록. 각각 짧은 트랜잭션으로 처리해서 전달하는 동안 아웃박스 행을 잠그지 않음
+// 잠금을 오래 잡으면 아웃박스에 이벤트를 저장하는 응찰, 경매 마감, 채팅 트랜잭션이 전달이 끝날 때까지 대기하게 됨
+@Service
+@RequiredArgsConstructor
+public class OutboxEventClaimService {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    // 점유 기한 안에 전달을 마치지 못하면 다른 릴레이가 다시 전달할 수 있으므로 배치 전달 시간보다 길게 설정
+    @Value("${outbox.relay.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${outbox.relay.max-attempts:5}")
+    private int maxAttempts;
+
+    // 작품별로 첫 입찰 경쟁 알림이 저장된 뒤 이 시간 동안 들어온 응찰은 한 번의 알림 갱신으로 합쳐짐
+    @Value("${notification.still-bid.window-millis:3000}")
+    private long stillBidWindowMillis;
+
+    @Transactional
+    public List<OutboxEvent> claim(OutboxEventType type, int batchSize) {
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> outboxEvents = outboxEventRepository.findRelayTargets(type, now, now.minus(stillBidWindowMillis, ChronoUnit.MILLIS), batchSize);
+        outboxEvents = withPendingStillBids(outboxEvents, now);
+
+        if (!outboxEvents.isEmpty()) {
+            outboxEventRepository.updateClaimedUntil(outboxEvents.stream().map(OutboxEvent::getId).collect(Collectors.toList()),
+                    now.plusSeconds(leaseSeconds));
+        }
+
+        return outboxEvents;
+    }
+
+    // 대기 시간이 지난 입찰 경쟁 알림이 있으면 같은 작품의 이후 입찰 경쟁 알림도 함께 점유. 릴레이는 작품별로 마지막 이벤트만 전달
+    private List<OutboxEvent> withPendingStillBids(List<OutboxEvent> outboxEvents, LocalDateTime now) {
+
+        List<Long> artWorkIds = outboxEvents.stream()
+                .filter(outboxEvent -> outboxEvent.getNotificationCode() == NotificationCode.STILL_BID)
+                .map(OutboxEvent::getArtWorkId)
+                .distinct()
+                .collect(Collectors.toList());
+
+        if (artWorkIds.isEmpty()) {
+            return outboxEvents;
+        }
+
+        Map<Long, OutboxEvent> claimed = new TreeMap<>();
+        outboxEvents.forEach(outboxEvent -> claimed.put(outboxEvent.getId(), outboxEvent));
+        outboxEventRepository.findPendingStillBids(artWorkIds, now).forEach(outboxEvent -> claimed.putIfAbsent(outboxEvent.getId(), outboxEvent));
+
+        return new ArrayList<>(claimed.values());
+    }
+
+    // 전달한 이벤트는 삭제하고, 전달하지 못한 이벤트는 다음 배치에서 다시 가져가도록 점유 해제
+    @Transactional
+    public void complete(List<Long> relayedIds, List<Long> releasedIds) {
+
+        if (!relayedIds.isEmpty()) {
+            outboxEventRepository.deleteAllByIdInBatch(relayedIds);
+        }
+
+        if (!releasedIds.isEmpty()) {
+            outboxEventRepository.updateClaimedUntil(releasedIds, null);
+        }
+    }
+
+    // 재시도 횟수를 늘리고 점유 해제. 재시도 횟수를 모두 소진했으면 true
+    @Transactional
+    public boolean fail(Long outboxEventId) {
+
+        return outboxEventRepository.findById(outboxEventId)
+                .map(outboxEvent -> {
+                    outboxEvent.fail(maxAttempts);
+                    return outboxEvent.isFailed();
+                })
+                .orElse(true);
+    }
+}
@@ -0,0 +1,100 @@
+package com.sptp.backend.outbox.service;
+
+import com.sptp.backend.art_work.event.ArtWorkEvent;
+import com.sptp.backend.art_work.event.ArtWorkEventListener;
+import com.sptp.backend.art_work.repository.ArtWork;
+import com.sptp.backend.art_work.repository.ArtWorkRepository;
+import com.sptp.backend.auction.event.AuctionEvent;
+import com.sptp.backend.auction.event.AuctionEventListener;
+import com.sptp.backend.bidding.repository.Bidding;
+import com.sptp.backend.chat_room.repository.ChatRoomRepository;
+import com.sptp.backend.member.event.MemberEvent;
+import com.sptp.backend.member.event.MemberEventListener;
+import com.sptp.backend.member.repository.Member;
+import com.sptp.backend.member.repository.MemberRepository;
+import com.sptp.backend.message.event.MessageEvent;
+import com.sptp.backend.message.event.MessageEventListener;
+import com.sptp.backend.outbox.repository.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+// 아웃박스 이벤트를 원래 이벤트로 복원해 리스너에 전달. 이벤트마다 별도 트랜잭션이므로 실패해도 다른 이벤트에 영향 없음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxEventDispatcher {
+
+    private final MemberRepository memberRepository;
+    private final ArtWorkRepository artWorkRepository;
+    private final ChatRoomRepository chatRoomRepository;
+
+    private final ArtWorkEventListener artWorkEventListener;
+    private final AuctionEventListener auctionEventListener;
+    private final MessageEventListener messageEventListener;
+    private final MemberEventListener memberEventListener;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void dispatch(OutboxEvent outboxEvent) {
+
+        switch (outboxEvent.getType()) {
+            case ART_WORK:
+                dispatchArtWorkEvent(outboxEvent);
+                break;
+            case AUCTION:
+                dispatchAuctionEvent(outboxEvent);
+                break;
+            case MESSAGE:
+                dispatchMessageEvent(outboxEvent);
+                break;
+            case MEMBER:
+                dispatchMemberEvent(outboxEvent);
+                break;
+        }
+    }
+
+    private void dispatchArtWorkEvent(OutboxEvent outboxEvent) {
+
+        Optional<ArtWork> artWork = findOrSkip(artWorkRepository.findById(outboxEvent.getArtWorkId()), outboxEvent);
+        if (artWork.isEmpty()) {
+            return;
+        }
+
+        Member member = memberRepository.getReferenceById(outboxEvent.getMemberId());
+        Bidding bidding = (outboxEvent.getPrice() == null) ? null : Bidding.builder().member(member).artWork(artWork.get()).price(outboxEvent.getPrice()).build();
+
+        artWorkEventListener.handleArtWorkEvent(new ArtWorkEvent(member, artWork.get(), bidding, outboxEvent.getNotificationCode()));
+    }
+
+    private void dispatchAuctionEvent(OutboxEvent outboxEvent) {
+
+        findOrSkip(artWorkRepository.findById(outboxEvent.getArtWorkId()), outboxEvent)
+                .ifPresent(artWork -> auctionEventListener.handleAuctionEvent(new AuctionEvent(artWork, outboxEvent.getNotificationCode())));
+    }
+
+    private void dispatchMessageEvent(OutboxEvent outboxEvent) {
+
+        findOrSkip(chatRoomRepository.findById(outboxEvent.getChatRoomId()), outboxEvent)
+                .ifPresent(chatRoom -> messageEventListener.handleMessageEvent(new MessageEvent(chatRoom, outboxEvent.getMemberId(), outboxEvent.getNotificationCode())));
+    }
+
+    private void dispatchMemberEvent(OutboxEvent outboxEvent) {
+
+        findOrSkip(memberRepository.findById(outboxEvent.getMemberId()), outboxEvent)
+                .ifPresent(member -> memberEventListener.handleMemberEvent(new MemberEvent(member, outboxEvent.getNotificationCode())));
+    }
+
+    // 이벤트 발행 이후 삭제된 대상은 알릴 필요가 없으므로 전달한 것으로 처리
+    private <T> Optional<T> findOrSkip(Optional<T> entity, OutboxEvent outboxEvent) {
+
+        if (entity.isEmpty()) {
+            log.warn("outbox event target not found. skip outboxEventId = {}", outboxEvent.getId());
+        }
+
+        return entity;
+    }
+}
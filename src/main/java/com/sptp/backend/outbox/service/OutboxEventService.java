@@ -0,0 +1,135 @@
+package com.sptp.backend.outbox.service;
+
+import com.sptp.backend.common.NotificationCode;
+import com.sptp.backend.outbox.repository.OutboxEvent;
+import com.sptp.backend.outbox.repository.OutboxEventRepository;
+import com.sptp.backend.outbox.repository.OutboxEventType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxEventService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventClaimService outboxEventClaimService;
+    private final OutboxEventDispatcher outboxEventDispatcher;
+
+    @Transactional
+    public void save(OutboxEvent outboxEvent) {
+
+        outboxEventRepository.save(outboxEvent);
+    }
+
+    // 같은 종류의 이벤트를 저장된 순서대로 최대 batchSize 개 점유해서 전달하고 전달한 이벤트는 삭제
+    // 점유와 완료 기록은 각각 짧은 트랜잭션이고 전달하는 동안에는 잠금도 커넥션도 잡지 않음
+    // 전달에 실패하면 순서가 뒤바뀌지 않도록 이후 이벤트는 점유를 해제하고 다음 주기에 재시도
+    // 서버 내에서는 종류별 순서가 유지되지만, 여러 서버가 같은 종류를 나눠 점유하면 서버 간 전달 순서는 보장하지 않음
+    public RelayResult relay(OutboxEventType type, int batchSize) {
+
+        List<OutboxEvent> outboxEvents = outboxEventClaimService.claim(type, batchSize);
+        Set<Long> coalescedIds = findCoalescedStillBids(outboxEvents);
+        List<Long> relayedIds = new ArrayList<>();
+        List<Long> releasedIds = new ArrayList<>();
+        List<Duration> latencies = new ArrayList<>();
+        int failedCount = 0;
+        boolean blocked = false;
+
+        for (int i = 0; i < outboxEvents.size(); i++) {
+            OutboxEvent outboxEvent = outboxEvents.get(i);
+
+            if (coalescedIds.contains(outboxEvent.getId())) {
+                relayedIds.add(outboxEvent.getId());
+                continue;
+            }
+
+            try {
+                outboxEventDispatcher.dispatch(outboxEvent);
+                relayedIds.add(outboxEvent.getId());
+
+                if (outboxEvent.getCreatedDate() != null) {
+                    latencies.add(Duration.between(outboxEvent.getCreatedDate(), LocalDateTime.now()));
+                }
+            } catch (Exception e) {
+                log.error("outbox event relay failed. outboxEventId = {}, attempts = {}", outboxEvent.getId(), outboxEvent.getAttempts() + 1, e);
+                failedCount++;
+
+                if (!outboxEventClaimService.fail(outboxEvent.getId())) {
+                    blocked = true;
+                    outboxEvents.subList(i + 1, outboxEvents.size()).forEach(remaining -> releasedIds.add(remaining.getId()));
+                    break;
+                }
+            }
+        }
+
+        outboxEventClaimService.complete(relayedIds, releasedIds);
+
+        return new RelayResult(outboxEvents.size(), relayedIds.size(), failedCount, blocked, latencies);
+    }
+
+    // 입찰 경쟁 알림은 전달 시점의 응찰자로 다시 계산되므로 작품별로 배치의 마지막 이벤트만 전달하고 나머지는 전달한 것으로 처리
+    private Set<Long> findCoalescedStillBids(List<OutboxEvent> outboxEvents) {
+
+        Map<Long, Long> lastStillBidIds = new HashMap<>();
+        Set<Long> coalescedIds = new HashSet<>();
+
+        for (OutboxEvent outboxEvent : outboxEvents) {
+            if (outboxEvent.getType() != OutboxEventType.ART_WORK || outboxEvent.getNotificationCode() != NotificationCode.STILL_BID) {
+                continue;
+            }
+
+            Long previousId = lastStillBidIds.put(outboxEvent.getArtWorkId(), outboxEvent.getId());
+
+            if (previousId != null) {
+                coalescedIds.add(previousId);
+            }
+        }
+
+        return coalescedIds;
+    }
+
+    @Transactional(readOnly = true)
+    public long countPending(OutboxEventType type) {
+
+        return outboxEventRepository.countByTypeAndFailedFalse(type);
+    }
+
+    // 가장 오래 대기중인 이벤트의 대기 시간
+    @Transactional(readOnly = true)
+    public long getLagSeconds(OutboxEventType type) {
+
+        LocalDateTime oldestCreatedDate = outboxEventRepository.findOldestPendingCreatedDate(type);
+
+        if (oldestCreatedDate == null) {
+            return 0;
+        }
+
+        return Math.max(0, Duration.between(oldestCreatedDate, LocalDateTime.now()).getSeconds());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class RelayResult {
+
+        private final int fetchedCount;
+        private final int relayedCount;
+        private final int failedCount;
+        private final boolean blocked;
+
+        // 저장부터 전달 완료까지 걸린 시간
+        private final List<Duration> latencies;
+    }
+}
@@ -2,6 +2,7 @@ package com.sptp.backend.search.service;
 
 import com.sptp.backend.art_work.repository.ArtWork;
 import com.sptp.backend.art_work.repository.ArtWorkRepository;
+import com.sptp.backend.aws.service.ImageVariant;
 import com.sptp.backend.common.exception.CustomException;
 import com.sptp.backend.common.exception.ErrorCode;
 import com.sptp.backend.member.repository.Member;
@@ -83,6 +84,7 @@ public class SearchService {
             searchArtWorkResponseList.add(SearchArtWorkResponse.builder()
                     .id(artWork.getId())
                     .image(storageUrl + artWork.getMainImage())
+                    .thumbnailImage(ImageVariant.SMALL.getUrl(storageUrl, artWork.getMainImage()))
                     .artistName(artWork.getMember().getNickname())
                     .title(artWork.getTitle())
                     .education(artWork.getMember().getEducation())
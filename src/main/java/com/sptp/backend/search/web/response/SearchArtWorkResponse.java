@@ -11,6 +11,7 @@ public class SearchArtWorkResponse {
 
     private Long id;
     private String image;
+    private String thumbnailImage;
     private String title;
     private String artistName;
     private String education;
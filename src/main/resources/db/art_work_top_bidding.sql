@@ -0,0 +1,25 @@
+-- 작품 최고 응찰 정보 비정규화 컬럼 추가 (MySQL 8)
+-- ddl-auto 가 none 이므로 배포 전에 한 번 실행
+alter table art_work
+    add column top_price     bigint      null,
+    add column top_bidder_id bigint      null,
+    add column bid_count     integer     not null default 0,
+    add column end_date      datetime(6) null;
+
+-- 기존 응찰 내역으로 최고가와 응찰자 수 채우기. end_date 는 연장 전이므로 null(경매 회차 종료일) 유지
+update art_work a
+    join (select art_work_id, max(price) as top_price, count(distinct member_id) as bid_count
+          from bidding
+          group by art_work_id) b on b.art_work_id = a.art_work_id
+set a.top_price = b.top_price,
+    a.bid_count = b.bid_count;
+
+-- 최고가에 먼저 응찰한 회원을 최고 응찰자로
+update art_work a
+set a.top_bidder_id = (select b.member_id
+                       from bidding b
+                       where b.art_work_id = a.art_work_id
+                         and b.price = a.top_price
+                       order by b.bidding_id
+                       limit 1)
+where a.top_price is not null;
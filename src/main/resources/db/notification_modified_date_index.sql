@@ -0,0 +1,3 @@
+-- 오래된 알림 보관 시 modified_date 순으로 배치만큼만 읽고 잠그기 위한 인덱스 (MySQL 8)
+-- ddl-auto 가 none 이므로 배포 전에 한 번 실행
+create index NOTIFICATION_MODIFIED_DATE_INDEX on notification (modified_date, notification_id);
@@ -0,0 +1,103 @@
+package com.sptp.backend.art_work.repository;
+
+import com.sptp.backend.common.config.DBConfig;
+import com.sptp.backend.common.config.PropertyConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+// 각 스레드가 자신의 트랜잭션으로 같은 작품 행을 갱신하도록 테스트 트랜잭션 없이 실행
+@DataJpaTest
+@Import({DBConfig.class, PropertyConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ArtWorkRepositoryConcurrencyTest {
+
+    @Autowired
+    ArtWorkRepository artWorkRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    TransactionTemplate transactionTemplate;
+    ArtWork artWork;
+    Long startPrice = 100_000L;
+    int threadCount = 16;
+
+    @BeforeEach
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        artWork = artWorkRepository.save(ArtWork.builder()
+                .price(startPrice)
+                .saleStatus(ArtWorkStatus.PROCESSING.getType())
+                .endDate(LocalDateTime.now().plusMinutes(10))
+                .build());
+    }
+
+    @AfterEach
+    void clear() {
+        artWorkRepository.deleteAll();
+    }
+
+    @Test
+    void onlyOneOfConcurrentSameBidsWins() throws InterruptedException {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        Map<Long, Long> updatedByBidder = new ConcurrentHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (long memberId = 1; memberId <= threadCount; memberId++) {
+            long bidderId = memberId;
+
+            executor.submit(() -> {
+                ready.countDown();
+                start.await();
+
+                updatedByBidder.put(bidderId, transactionTemplate.execute(status ->
+                        artWorkRepository.updateTopBidding(artWork.getId(), bidderId, startPrice, true, now)));
+                return null;
+            });
+        }
+
+        //when
+        ready.await();
+        start.countDown();
+        executor.shutdown();
+
+        //then
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        List<Long> winners = updatedByBidder.entrySet().stream()
+                .filter(entry -> entry.getValue() == 1L)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        ArtWork findArtWork = artWorkRepository.findById(artWork.getId()).get();
+
+        assertThat(updatedByBidder).hasSize(threadCount); // 잠금 대기 중 실패한 갱신 없음
+        assertThat(winners).hasSize(1);
+        assertThat(findArtWork.getTopPrice()).isEqualTo(startPrice);
+        assertThat(findArtWork.getTopBidderId()).isEqualTo(winners.get(0));
+        assertThat(findArtWork.getBidCount()).isEqualTo(1);
+    }
+}
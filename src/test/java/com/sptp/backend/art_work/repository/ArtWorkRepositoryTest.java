@@ -0,0 +1,160 @@
+package com.sptp.backend.art_work.repository;
+
+import com.sptp.backend.auction.repository.Auction;
+import com.sptp.backend.auction.repository.AuctionStatus;
+import com.sptp.backend.common.config.DBConfig;
+import com.sptp.backend.common.config.PropertyConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Import({DBConfig.class, PropertyConfig.class})
+class ArtWorkRepositoryTest {
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    ArtWorkRepository artWorkRepository;
+
+    ArtWork artWork;
+    Long startPrice = 100_000L;
+    LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void init() {
+        artWork = ArtWork.builder()
+                .price(startPrice)
+                .saleStatus(ArtWorkStatus.PROCESSING.getType())
+                .endDate(now.plusMinutes(10))
+                .build();
+
+        entityManager.persist(artWork);
+    }
+
+    @Test
+    void updateTopBidding() {
+        //given
+        artWorkRepository.updateTopBidding(artWork.getId(), 1L, startPrice, true, now);
+
+        //when
+        long updated = artWorkRepository.updateTopBidding(artWork.getId(), 2L, startPrice + 20_000L, true, now);
+        entityManager.clear();
+
+        //then
+        ArtWork findArtWork = artWorkRepository.findById(artWork.getId()).get();
+
+        assertThat(updated).isEqualTo(1L);
+        assertThat(findArtWork.getTopPrice()).isEqualTo(startPrice + 20_000L);
+        assertThat(findArtWork.getTopBidderId()).isEqualTo(2L);
+        assertThat(findArtWork.getBidCount()).isEqualTo(2);
+    }
+
+    @Test
+    void notUpdateTopBiddingWhenPriceIsNotHigher() {
+        //given
+        artWorkRepository.updateTopBidding(artWork.getId(), 1L, startPrice + 20_000L, true, now);
+
+        //when
+        long updated = artWorkRepository.updateTopBidding(artWork.getId(), 2L, startPrice + 20_000L, true, now);
+        entityManager.clear();
+
+        //then
+        ArtWork findArtWork = artWorkRepository.findById(artWork.getId()).get();
+
+        assertThat(updated).isZero();
+        assertThat(findArtWork.getTopBidderId()).isEqualTo(1L); // 먼저 반영된 응찰 유지
+        assertThat(findArtWork.getBidCount()).isEqualTo(1);
+    }
+
+    @Test
+    void notUpdateTopBiddingUnderMinimumIncrement() {
+        //given
+        artWorkRepository.updateTopBidding(artWork.getId(), 1L, startPrice, true, now);
+
+        //when
+        long updated = artWorkRepository.updateTopBidding(artWork.getId(), 2L, startPrice + 19_999L, true, now);
+        entityManager.clear();
+
+        //then
+        ArtWork findArtWork = artWorkRepository.findById(artWork.getId()).get();
+
+        assertThat(updated).isZero();
+        assertThat(findArtWork.getTopPrice()).isEqualTo(startPrice);
+        assertThat(findArtWork.getTopBidderId()).isEqualTo(1L);
+    }
+
+    @Test
+    void notUpdateFirstBiddingUnderMinimumIncrement() {
+        //given
+        //when
+        long updated = artWorkRepository.updateTopBidding(artWork.getId(), 1L, startPrice + 1L, true, now);
+
+        //then
+        assertThat(updated).isZero();
+    }
+
+    @Test
+    void notUpdateTopBiddingAfterClosed() {
+        //given
+        artWork.statusToSalesFailed();
+        entityManager.flush();
+
+        //when
+        long updated = artWorkRepository.updateTopBidding(artWork.getId(), 1L, startPrice, true, now);
+
+        //then
+        assertThat(updated).isZero();
+    }
+
+    @Test
+    void notUpdateTopBiddingAfterClosingDate() {
+        //given
+        //when
+        long updated = artWorkRepository.updateTopBidding(artWork.getId(), 1L, startPrice, true, now.plusMinutes(10));
+
+        //then
+        assertThat(updated).isZero();
+    }
+
+    @Test
+    void findExtendedArtWorkAsOpenAfterAuctionEnded() {
+        //given
+        Auction auction = Auction.builder()
+                .turn(1)
+                .startDate(now.minusDays(1))
+                .endDate(now.minusMinutes(1))
+                .status(AuctionStatus.TERMINATED.getType())
+                .build();
+        ArtWork extended = ArtWork.builder()
+                .auction(auction)
+                .price(startPrice)
+                .saleStatus(ArtWorkStatus.PROCESSING.getType())
+                .endDate(now.plusMinutes(3))
+                .build();
+        ArtWork closed = ArtWork.builder()
+                .auction(auction)
+                .price(startPrice)
+                .saleStatus(ArtWorkStatus.PROCESSING.getType())
+                .build();
+
+        entityManager.persist(auction);
+        entityManager.persist(extended);
+        entityManager.persist(closed);
+
+        //when
+        List<ArtWork> openArtWorks = artWorkRepository.findOpenArtWorks(auction.getId(), now);
+
+        //then
+        assertThat(openArtWorks).containsExactly(extended);
+    }
+}
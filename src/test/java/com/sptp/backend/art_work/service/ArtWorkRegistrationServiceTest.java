@@ -0,0 +1,97 @@
+package com.sptp.backend.art_work.service;
+
+import com.sptp.backend.art_work.web.dto.request.ArtWorkSaveRequestDto;
+import com.sptp.backend.aws.service.AwsService;
+import com.sptp.backend.aws.service.FileManager;
+import com.sptp.backend.aws.service.ImageDerivativeService;
+import com.sptp.backend.aws.service.UploadSessionService;
+import com.sptp.backend.common.exception.CustomException;
+import com.sptp.backend.common.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArtWorkRegistrationServiceTest {
+
+    @InjectMocks
+    ArtWorkRegistrationService artWorkRegistrationService;
+
+    @Mock
+    ArtWorkService artWorkService;
+
+    @Mock
+    AwsService awsService;
+
+    @Mock
+    UploadSessionService uploadSessionService;
+
+    @Mock
+    ImageDerivativeService imageDerivativeService;
+
+    @Mock
+    FileManager fileManager;
+
+    ArtWorkSaveRequestDto dto;
+    List<String> keys = List.of("uploads/1/guarantee.png", "uploads/1/main.png", "uploads/1/detail.png");
+    List<String> fileNames = List.of("guarantee.png", "main.png", "detail.png");
+
+    @BeforeEach
+    void init() {
+        dto = new ArtWorkSaveRequestDto();
+        dto.setGuaranteeImage(keys.get(0));
+        dto.setImage(new String[]{keys.get(1), keys.get(2)});
+
+        when(uploadSessionService.commit(1L, keys)).thenReturn(fileNames);
+    }
+
+    @Test
+    void commitAllImagesBeforeSaving() {
+        //given
+        ArgumentCaptor<ArtWorkImageNames> captor = ArgumentCaptor.forClass(ArtWorkImageNames.class);
+        when(artWorkService.saveArtWork(eq(1L), eq(dto), any(ArtWorkImageNames.class))).thenReturn(10L);
+
+        //when
+        Long savedArtWorkId = artWorkRegistrationService.saveArtWork(1L, dto);
+
+        //then
+        InOrder inOrder = inOrder(uploadSessionService, artWorkService, imageDerivativeService);
+        inOrder.verify(uploadSessionService).commit(1L, keys);
+        inOrder.verify(artWorkService).saveArtWork(eq(1L), eq(dto), captor.capture());
+        inOrder.verify(imageDerivativeService).generateAsync(fileNames);
+
+        assertThat(savedArtWorkId).isEqualTo(10L);
+        assertThat(captor.getValue().getGuaranteeImage()).isEqualTo("guarantee.png");
+        assertThat(captor.getValue().getMainImage()).isEqualTo("main.png");
+        assertThat(captor.getValue().getImages()).containsExactly("main.png", "detail.png");
+        verify(awsService, never()).deleteImages(any());
+    }
+
+    @Test
+    void deleteCommittedImagesWhenSaveFails() {
+        //given
+        when(artWorkService.saveArtWork(anyLong(), any(), any()))
+                .thenThrow(new CustomException(ErrorCode.NOT_FOUND_AUCTION_SCHEDULED));
+
+        //when
+        assertThatThrownBy(() -> artWorkRegistrationService.saveArtWork(1L, dto))
+                .isInstanceOf(CustomException.class);
+
+        //then
+        verify(awsService).deleteImages(fileNames);
+        verifyNoInteractions(imageDerivativeService);
+    }
+}
@@ -0,0 +1,193 @@
+package com.sptp.backend.art_work.service;
+
+import com.sptp.backend.art_work.event.ArtWorkEvent;
+import com.sptp.backend.art_work.repository.ArtWork;
+import com.sptp.backend.art_work.repository.ArtWorkRepository;
+import com.sptp.backend.auction.repository.Auction;
+import com.sptp.backend.auction.repository.AuctionStatus;
+import com.sptp.backend.auction.schedule.ArtWorkClosingScheduler;
+import com.sptp.backend.bidding.repository.Bidding;
+import com.sptp.backend.bidding.repository.BiddingRepository;
+import com.sptp.backend.bidding.repository.ProxyBiddingRepository;
+import com.sptp.backend.bidding.service.ArtWorkOrderBook;
+import com.sptp.backend.bidding.service.BiddingBroadcaster;
+import com.sptp.backend.bidding.service.BiddingOrderBook;
+import com.sptp.backend.common.NotificationCode;
+import com.sptp.backend.common.exception.CustomException;
+import com.sptp.backend.common.exception.ErrorCode;
+import com.sptp.backend.member.repository.Member;
+import com.sptp.backend.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArtWorkServiceConcurrencyTest {
+
+    @InjectMocks
+    ArtWorkService artWorkService;
+
+    @Mock
+    ArtWorkRepository artWorkRepository;
+
+    @Mock
+    MemberRepository memberRepository;
+
+    @Mock
+    BiddingRepository biddingRepository;
+
+    @Mock
+    ProxyBiddingRepository proxyBiddingRepository;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    BiddingOrderBook biddingOrderBook = new BiddingOrderBook();
+
+    @Mock
+    BiddingBroadcaster biddingBroadcaster;
+
+    @Mock
+    ArtWorkClosingScheduler artWorkClosingScheduler;
+
+    int artWorkCount = 4;
+    int bidCountPerArtWork = 1_000;
+    int threadCount = 32;
+    long startPrice = 100_000L;
+    long sellerId = 0L;
+
+    Map<Long, AtomicLong> acceptedCount = new ConcurrentHashMap<>();
+    Map<Long, AtomicLong> acceptedTopPrice = new ConcurrentHashMap<>();
+    Map<Long, AtomicLong> stillBidCount = new ConcurrentHashMap<>();
+    AtomicLong unexpectedFailureCount = new AtomicLong();
+
+    @BeforeEach
+    void init() {
+        Auction auction = Auction.builder()
+                .id(1L)
+                .status(AuctionStatus.PROCESSING.getType())
+                .build();
+
+        for (long artWorkId = 1; artWorkId <= artWorkCount; artWorkId++) {
+            ArtWork artWork = ArtWork.builder()
+                    .id(artWorkId)
+                    .member(Member.builder().id(sellerId).build())
+                    .auction(auction)
+                    .price(startPrice)
+                    .biddingList(new ArrayList<>())
+                    .build();
+
+            when(artWorkRepository.findById(artWorkId)).thenReturn(Optional.of(artWork));
+
+            acceptedCount.put(artWorkId, new AtomicLong());
+            acceptedTopPrice.put(artWorkId, new AtomicLong());
+            stillBidCount.put(artWorkId, new AtomicLong());
+        }
+
+        when(memberRepository.findById(anyLong()))
+                .thenAnswer(invocation -> Optional.of(Member.builder().id(invocation.getArgument(0)).build()));
+
+        when(artWorkRepository.updateTopBidding(anyLong(), anyLong(), anyLong(), anyBoolean(), any()))
+                .thenReturn(1L);
+
+        when(biddingRepository.save(any(Bidding.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        when(biddingRepository.updatePrice(anyLong(), anyLong(), anyLong(), any(LocalDateTime.class)))
+                .thenReturn(1L);
+
+        doAnswer(invocation -> {
+            ArtWorkEvent event = invocation.getArgument(0);
+            if (event.getNotificationCode().equals(NotificationCode.STILL_BID)) {
+                stillBidCount.get(event.getArtwork().getId()).incrementAndGet();
+            }
+            return null;
+        }).when(eventPublisher).publishEvent(any(ArtWorkEvent.class));
+    }
+
+    @Test
+    void bidConcurrently() throws InterruptedException {
+        //given
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Runnable> tasks = new ArrayList<>();
+
+        // 작품마다 20명의 응찰자가 각자 읽은 최고가보다 높은 가격으로 동시에 경쟁
+        for (long artWorkId = 1; artWorkId <= artWorkCount; artWorkId++) {
+            for (int i = 0; i < bidCountPerArtWork; i++) {
+                long finalArtWorkId = artWorkId;
+                long memberId = 1 + (i % 20);
+                tasks.add(() -> bid(finalArtWorkId, memberId));
+            }
+        }
+
+        //when
+        tasks.forEach(task -> executorService.submit(() -> {
+            try {
+                ready.await();
+                task.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        ready.countDown();
+        executorService.shutdown();
+
+        //then
+        assertThat(executorService.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(unexpectedFailureCount.get()).isZero();
+
+        for (long artWorkId = 1; artWorkId <= artWorkCount; artWorkId++) {
+            ArtWorkOrderBook orderBook = biddingOrderBook.find(artWorkId).get();
+            long accepted = acceptedCount.get(artWorkId).get();
+
+            assertThat(accepted).isPositive();
+            assertThat(orderBook.getBidCount()).isEqualTo(accepted);
+            assertThat(orderBook.getTopPrice()).isEqualTo(acceptedTopPrice.get(artWorkId).get());
+            assertThat(stillBidCount.get(artWorkId).get()).isEqualTo(accepted - 1); // 최초 응찰은 입찰 경쟁 알림 없음
+        }
+    }
+
+    private void bid(Long artWorkId, Long memberId) {
+
+        Long topPrice = biddingOrderBook.find(artWorkId)
+                .map(ArtWorkOrderBook::getTopPrice)
+                .orElse(null);
+        long price = (topPrice == null) ? startPrice : topPrice + 500_000L; // 모든 구간의 호가 단위를 만족하는 가격
+
+        try {
+            artWorkService.bid(memberId, artWorkId, price);
+            acceptedCount.get(artWorkId).incrementAndGet();
+            acceptedTopPrice.get(artWorkId).accumulateAndGet(price, Math::max);
+        } catch (CustomException e) {
+            if (!e.getErrorCode().equals(ErrorCode.STALE_BID) && !e.getErrorCode().equals(ErrorCode.NOT_VALID_BID)) {
+                unexpectedFailureCount.incrementAndGet();
+            }
+        }
+    }
+}
@@ -1,10 +1,19 @@
 package com.sptp.backend.art_work.service;
 
+import com.sptp.backend.art_work.event.ArtWorkEvent;
 import com.sptp.backend.art_work.repository.ArtWork;
 import com.sptp.backend.art_work.repository.ArtWorkRepository;
+import com.sptp.backend.art_work.repository.ArtWorkStatus;
 import com.sptp.backend.auction.repository.Auction;
+import com.sptp.backend.auction.repository.AuctionStatus;
+import com.sptp.backend.auction.schedule.ArtWorkClosingScheduler;
 import com.sptp.backend.bidding.repository.Bidding;
 import com.sptp.backend.bidding.repository.BiddingRepository;
+import com.sptp.backend.bidding.repository.ProxyBidding;
+import com.sptp.backend.bidding.repository.ProxyBiddingRepository;
+import com.sptp.backend.bidding.service.BiddingBroadcaster;
+import com.sptp.backend.bidding.service.BiddingOrderBook;
+import com.sptp.backend.common.NotificationCode;
 import com.sptp.backend.common.exception.CustomException;
 import com.sptp.backend.common.exception.ErrorCode;
 import com.sptp.backend.member.repository.Member;
@@ -16,20 +25,29 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,9 +65,21 @@ class ArtWorkServiceTest {
     @Mock
     BiddingRepository biddingRepository;
 
+    @Mock
+    ProxyBiddingRepository proxyBiddingRepository;
+
     @Mock
     ApplicationEventPublisher eventPublisher;
 
+    @Spy
+    BiddingOrderBook biddingOrderBook = new BiddingOrderBook();
+
+    @Mock
+    BiddingBroadcaster biddingBroadcaster;
+
+    @Mock
+    ArtWorkClosingScheduler artWorkClosingScheduler;
+
 
     @BeforeEach
     void setUp() {
@@ -63,7 +93,9 @@ class ArtWorkServiceTest {
         long artWorkId = 2L;
         long auctionId = 3L;
         long biddingId = 3L;
+        long sellerId = 4L;
         Member member;
+        Member seller;
         Auction auction;
         ArtWork artWork;
         Bidding bidding;
@@ -77,14 +109,20 @@ class ArtWorkServiceTest {
                     .id(memberId)
                     .build();
 
+            seller = Member.builder()
+                    .id(sellerId)
+                    .build();
+
             auction = Auction.builder()
                     .id(auctionId)
                     .startDate(startDate)
                     .endDate(LocalDateTime.parse("2023-01-19 00:00:00", format))
+                    .status(AuctionStatus.PROCESSING.getType())
                     .build();
 
             artWork = ArtWork.builder()
                     .id(artWorkId)
+                    .member(seller)
                     .auction(auction)
                     .price(startPrice)
                     .biddingList(new ArrayList<>())
@@ -113,6 +151,9 @@ class ArtWorkServiceTest {
             when(memberRepository.findById(anyLong()))
                     .thenReturn(Optional.of(member));
 
+            when(artWorkRepository.updateTopBidding(anyLong(), anyLong(), anyLong(), anyBoolean(), any()))
+                    .thenReturn(1L);
+
             when(biddingRepository.save(any(Bidding.class)))
                     .thenReturn(bidding);
 
@@ -121,6 +162,144 @@ class ArtWorkServiceTest {
             assertThatNoException().isThrownBy(() -> artWorkService.bid(memberId, artWorkId, (long) (startPrice * 2)));
         }
 
+        @Test
+        void successWhenRaisingOwnBidding() {
+            //given
+            long raisedPrice = startPrice + 20_000L;
+
+            when(artWorkRepository.findById(anyLong()))
+                    .thenReturn(Optional.of(artWork));
+
+            when(memberRepository.findById(anyLong()))
+                    .thenReturn(Optional.of(member));
+
+            when(biddingRepository.findAllByArtWorkOrderByPriceDesc(any(ArtWork.class)))
+                    .thenReturn(List.of(bidding));
+
+            when(artWorkRepository.updateTopBidding(anyLong(), anyLong(), anyLong(), anyBoolean(), any()))
+                    .thenReturn(1L);
+
+            when(biddingRepository.updatePrice(anyLong(), anyLong(), anyLong(), any(LocalDateTime.class)))
+                    .thenReturn(1L);
+
+            //when
+            artWorkService.bid(memberId, artWorkId, raisedPrice);
+
+            //then
+            verify(biddingRepository, never()).save(any(Bidding.class));
+            assertThat(biddingOrderBook.find(artWorkId).get().getTopPrice()).isEqualTo(raisedPrice);
+        }
+
+        @Test
+        void counterBidByProxyBiddingInOneStep() {
+            //given
+            long proxyMemberId = 5L;
+            Member proxyMember = Member.builder().id(proxyMemberId).build();
+            ArgumentCaptor<ArtWorkEvent> captor = ArgumentCaptor.forClass(ArtWorkEvent.class);
+
+            when(artWorkRepository.findById(anyLong()))
+                    .thenReturn(Optional.of(artWork));
+
+            when(memberRepository.findById(anyLong()))
+                    .thenReturn(Optional.of(member));
+
+            when(biddingRepository.findAllByArtWorkOrderByPriceDesc(any(ArtWork.class)))
+                    .thenReturn(List.of(Bidding.builder().member(proxyMember).price(startPrice).build()));
+
+            when(proxyBiddingRepository.findAllByArtWorkOrderByIdAsc(any(ArtWork.class)))
+                    .thenReturn(List.of(ProxyBidding.builder().member(proxyMember).maxPrice(500_000L).build()));
+
+            when(memberRepository.getReferenceById(proxyMemberId))
+                    .thenReturn(proxyMember);
+
+            when(artWorkRepository.updateTopBidding(anyLong(), anyLong(), anyLong(), anyBoolean(), any()))
+                    .thenReturn(1L);
+
+            when(biddingRepository.save(any(Bidding.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            when(biddingRepository.updatePrice(anyLong(), anyLong(), anyLong(), any(LocalDateTime.class)))
+                    .thenReturn(1L);
+
+            //when
+            artWorkService.bid(memberId, artWorkId, 200_000L);
+
+            //then
+            verify(eventPublisher, times(3)).publishEvent(captor.capture());
+            verify(biddingBroadcaster).publishAfterCommit(artWorkId, 220_000L, 2, auction.getEndDate());
+
+            assertThat(captor.getAllValues())
+                    .filteredOn(event -> event.getNotificationCode().equals(NotificationCode.STILL_BID))
+                    .singleElement()
+                    .extracting(event -> event.getMember().getId())
+                    .isEqualTo(proxyMemberId);
+            assertThat(biddingOrderBook.find(artWorkId).get().getTopBidderId()).isEqualTo(proxyMemberId);
+        }
+
+        @Test
+        void extendClosingDateWhenBiddingNearEnd() {
+            //given
+            LocalDateTime endDate = LocalDateTime.now().plusMinutes(1);
+
+            ReflectionTestUtils.setField(artWorkService, "softCloseEnabled", true);
+            ReflectionTestUtils.setField(artWorkService, "softCloseWindowMinutes", 5L);
+            ReflectionTestUtils.setField(artWorkService, "softCloseExtensionMinutes", 5L);
+
+            artWork = ArtWork.builder()
+                    .id(artWorkId)
+                    .member(seller)
+                    .auction(Auction.builder().id(auctionId).endDate(endDate).status(AuctionStatus.PROCESSING.getType()).build())
+                    .price(startPrice)
+                    .biddingList(new ArrayList<>())
+                    .build();
+
+            when(artWorkRepository.findById(anyLong()))
+                    .thenReturn(Optional.of(artWork));
+
+            when(memberRepository.findById(anyLong()))
+                    .thenReturn(Optional.of(member));
+
+            when(artWorkRepository.updateTopBidding(anyLong(), anyLong(), anyLong(), anyBoolean(), any()))
+                    .thenReturn(1L);
+
+            when(biddingRepository.save(any(Bidding.class)))
+                    .thenReturn(bidding);
+
+            when(artWorkRepository.extendEndDate(artWorkId, null, endDate.plusMinutes(5)))
+                    .thenReturn(1L);
+
+            //when
+            artWorkService.bid(memberId, artWorkId, startPrice);
+
+            //then
+            verify(artWorkClosingScheduler).scheduleAfterCommit(artWorkId, endDate.plusMinutes(5));
+        }
+
+        @Test
+        void failByClosedExtendedArtWork() {
+            //given
+            artWork = ArtWork.builder()
+                    .id(artWorkId)
+                    .member(seller)
+                    .auction(Auction.builder().id(auctionId).status(AuctionStatus.TERMINATED.getType()).build())
+                    .price(startPrice)
+                    .saleStatus(ArtWorkStatus.PROCESSING.getType())
+                    .endDate(LocalDateTime.now().minusSeconds(1))
+                    .build();
+
+            when(artWorkRepository.findById(anyLong()))
+                    .thenReturn(Optional.of(artWork));
+
+            when(memberRepository.findById(anyLong()))
+                    .thenReturn(Optional.of(member));
+
+            //when
+            //then
+            assertThatThrownBy(() -> artWorkService.bid(memberId, artWorkId, startPrice))
+                    .isInstanceOf(CustomException.class)
+                    .message().isEqualTo(ErrorCode.NOT_VALID_AUCTION_PERIOD.getDetail());
+        }
+
         @Test
         void failByNotFoundArtWork() {
             //given
@@ -145,14 +324,19 @@ class ArtWorkServiceTest {
         }
 
         @ParameterizedTest
-        @ValueSource(strings = {"2023-01-17 23:59:59", "2023-01-19 00:00:01"})
-        void failByNotValidPeriod(String localDateTimeStr) {
+        @ValueSource(strings = {"scheduled", "terminated"})
+        void failByNotValidPeriod(String auctionStatus) {
             //given
-            LocalDateTime localDateTime = LocalDateTime.parse(localDateTimeStr, format);
+            auction = Auction.builder()
+                    .id(auctionId)
+                    .status(auctionStatus)
+                    .build();
 
-            bidding = Bidding.builder()
-                    .artWork(artWork)
-                    .createdDate(localDateTime)
+            artWork = ArtWork.builder()
+                    .id(artWorkId)
+                    .member(seller)
+                    .auction(auction)
+                    .price(startPrice)
                     .build();
 
             when(artWorkRepository.findById(anyLong()))
@@ -161,9 +345,6 @@ class ArtWorkServiceTest {
             when(memberRepository.findById(anyLong()))
                     .thenReturn(Optional.of(member));
 
-            when(biddingRepository.save(any(Bidding.class)))
-                    .thenReturn(bidding);
-
             //when
             //then
             assertThatThrownBy(() -> artWorkService.bid(memberId, artWorkId, Long.valueOf(startPrice)))
@@ -179,6 +360,7 @@ class ArtWorkServiceTest {
 
             artWork = ArtWork.builder()
                     .id(artWorkId)
+                    .member(seller)
                     .auction(auction)
                     .biddingList(new ArrayList<>())
                     .price(topPrice)
@@ -186,7 +368,7 @@ class ArtWorkServiceTest {
 
             bidding = Bidding.builder()
                     .artWork(artWork)
-                    .member(Member.builder().build())
+                    .member(Member.builder().id(5L).build())
                     .createdDate(startDate)
                     .price(bid)
                     .build();
@@ -197,11 +379,8 @@ class ArtWorkServiceTest {
             when(memberRepository.findById(anyLong()))
                     .thenReturn(Optional.of(member));
 
-            when(biddingRepository.save(any(Bidding.class)))
-                    .thenReturn(bidding);
-
-            when(biddingRepository.getFirstByArtWorkOrderByPriceDesc(any(ArtWork.class)))
-                    .thenReturn(Optional.of(bidding));
+            when(biddingRepository.findAllByArtWorkOrderByPriceDesc(any(ArtWork.class)))
+                    .thenReturn(List.of(bidding));
 
             //when
             //then
@@ -214,30 +393,20 @@ class ArtWorkServiceTest {
         void failByNotValidPriceWhenBiddingIsNotCreated() {
             //given
             long topPrice = 299_999L;
-            long bid = 319_998;
 
             artWork = ArtWork.builder()
                     .id(artWorkId)
+                    .member(seller)
                     .auction(auction)
                     .price(topPrice)
                     .build();
 
-            bidding = Bidding.builder()
-                    .artWork(artWork)
-                    .member(Member.builder().build())
-                    .createdDate(startDate)
-                    .price(bid)
-                    .build();
-
             when(artWorkRepository.findById(anyLong()))
                     .thenReturn(Optional.of(artWork));
 
             when(memberRepository.findById(anyLong()))
                     .thenReturn(Optional.of(member));
 
-            when(biddingRepository.findByArtWorkAndMember(any(ArtWork.class), any(Member.class)))
-                    .thenReturn(Optional.of(bidding));
-
             //when
             //then
             assertThatThrownBy(() -> artWorkService.bid(memberId, artWorkId, startPrice))
@@ -0,0 +1,192 @@
+package com.sptp.backend.auction.service;
+
+import com.querydsl.core.Tuple;
+import com.sptp.backend.art_work.repository.ArtWork;
+import com.sptp.backend.art_work.repository.ArtWorkRepository;
+import com.sptp.backend.art_work.repository.QArtWork;
+import com.sptp.backend.auction.repository.Auction;
+import com.sptp.backend.auction.repository.AuctionRepository;
+import com.sptp.backend.auction.repository.AuctionStatus;
+import com.sptp.backend.bidding.service.BiddingOrderBook;
+import com.sptp.backend.common.NotificationCode;
+import com.sptp.backend.notification.repository.Notification;
+import com.sptp.backend.notification.repository.NotificationRepository;
+import com.sptp.backend.notification.service.NotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionServiceTest {
+
+    @InjectMocks
+    AuctionService auctionService;
+
+    @Mock
+    AuctionRepository auctionRepository;
+
+    @Mock
+    ArtWorkRepository artWorkRepository;
+
+    @Mock
+    NotificationRepository notificationRepository;
+
+    @Mock
+    NotificationService notificationService;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    BiddingOrderBook biddingOrderBook = new BiddingOrderBook();
+
+    Auction auction;
+    ArtWork artWork;
+    Integer turn = 1;
+
+    @BeforeEach
+    void init() {
+        auction = Auction.builder()
+                .id(1L)
+                .turn(turn)
+                .status(AuctionStatus.SCHEDULED.getType())
+                .build();
+
+        artWork = ArtWork.builder()
+                .id(1L)
+                .auction(auction)
+                .price(100_000L)
+                .build();
+    }
+
+    @Nested
+    class StartAuctionTest {
+
+        @Test
+        void startAuction() {
+            //given
+            when(auctionRepository.findByTurn(turn)).thenReturn(Optional.of(auction));
+            when(auctionRepository.updateStatus(auction.getId(), AuctionStatus.SCHEDULED, AuctionStatus.PROCESSING))
+                    .thenReturn(1L);
+            when(artWorkRepository.findByAuctionId(auction.getId())).thenReturn(List.of(artWork));
+
+            //when
+            auctionService.startAuction(turn);
+
+            //then
+            verify(artWorkRepository).updateStatusToProcessing(auction.getId());
+            assertThat(biddingOrderBook.find(artWork.getId())).isPresent();
+        }
+
+        @Test
+        void skipWhenAlreadyStartedByOtherServer() {
+            //given
+            when(auctionRepository.findByTurn(turn)).thenReturn(Optional.of(auction));
+            when(auctionRepository.updateStatus(auction.getId(), AuctionStatus.SCHEDULED, AuctionStatus.PROCESSING))
+                    .thenReturn(0L);
+
+            //when
+            auctionService.startAuction(turn);
+
+            //then
+            verify(artWorkRepository, never()).updateStatusToProcessing(anyLong());
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+
+    @Nested
+    class TerminateAuctionTest {
+
+        @Test
+        void terminateAuction() {
+            //given
+            Long sellerId = 10L;
+            Long buyerId = 20L;
+            ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+
+            Tuple sold = mock(Tuple.class);
+            when(sold.get(QArtWork.artWork.id)).thenReturn(1L);
+            when(sold.get(QArtWork.artWork.title)).thenReturn("sold");
+            when(sold.get(QArtWork.artWork.member.id)).thenReturn(sellerId);
+            when(sold.get(QArtWork.artWork.topBidderId)).thenReturn(buyerId);
+
+            Tuple failed = mock(Tuple.class);
+            when(failed.get(QArtWork.artWork.id)).thenReturn(2L);
+            when(failed.get(QArtWork.artWork.title)).thenReturn("failed");
+            when(failed.get(QArtWork.artWork.member.id)).thenReturn(sellerId);
+            when(failed.get(QArtWork.artWork.topBidderId)).thenReturn(null);
+
+            biddingOrderBook.open(ArtWork.builder().id(1L).price(100_000L).build(), Collections.emptyList());
+
+            when(auctionRepository.findByTurn(turn)).thenReturn(Optional.of(auction));
+            when(auctionRepository.updateStatus(auction.getId(), AuctionStatus.PROCESSING, AuctionStatus.TERMINATED))
+                    .thenReturn(1L);
+            when(artWorkRepository.findAuctionResults(eq(auction.getId()), any(LocalDateTime.class))).thenReturn(List.of(sold, failed));
+            when(notificationRepository.saveAllInBatch(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            //when
+            auctionService.terminateAuction(turn);
+
+            //then
+            verify(artWorkRepository).updateStatusToTerminated(List.of(1L, 2L));
+            verify(notificationRepository).saveAllInBatch(captor.capture());
+            verify(notificationService).notifyAfterCommit(captor.getValue());
+            verifyNoInteractions(eventPublisher);
+
+            assertThat(captor.getValue())
+                    .extracting(notification -> notification.getMember().getId(), Notification::getTitle)
+                    .containsExactly(
+                            tuple(sellerId, NotificationCode.SUCCESSFUL_BID.getTitle()),
+                            tuple(buyerId, NotificationCode.SUCCESSFUL_BID.getTitle()),
+                            tuple(sellerId, NotificationCode.FAILED_BID.getTitle()));
+            assertThat(biddingOrderBook.find(1L)).isEmpty();
+        }
+
+        @Test
+        void skipClosingWhenArtWorkIsExtendedAgain() {
+            //given
+            when(artWorkRepository.findArtWorkResults(eq(artWork.getId()), any(LocalDateTime.class)))
+                    .thenReturn(Collections.emptyList());
+
+            //when
+            boolean closed = auctionService.closeArtWork(artWork.getId());
+
+            //then
+            assertThat(closed).isFalse();
+            verifyNoInteractions(notificationRepository);
+        }
+
+        @Test
+        void skipWhenAlreadyTerminatedByOtherServer() {
+            //given
+            when(auctionRepository.findByTurn(turn)).thenReturn(Optional.of(auction));
+            when(auctionRepository.updateStatus(auction.getId(), AuctionStatus.PROCESSING, AuctionStatus.TERMINATED))
+                    .thenReturn(0L);
+
+            //when
+            auctionService.terminateAuction(turn);
+
+            //then
+            verify(artWorkRepository, never()).findAuctionResults(anyLong(), any(LocalDateTime.class));
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.sptp.backend.aws.service;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageDerivativeServiceTest {
+
+    @InjectMocks
+    ImageDerivativeService imageDerivativeService;
+
+    @Mock
+    AmazonS3Client amazonS3Client;
+
+    String fileName = "original.png";
+
+    @BeforeEach
+    void init() throws Exception {
+        ReflectionTestUtils.setField(imageDerivativeService, "jpegQuality", 0.8f);
+        ReflectionTestUtils.setField(imageDerivativeService, "maxPixels", 1_000_000L);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(1000, 500, BufferedImage.TYPE_INT_ARGB), "png", outputStream);
+
+        S3Object original = new S3Object();
+        original.setObjectContent(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        when(amazonS3Client.getObject(AwsService.S3Bucket, fileName)).thenReturn(original);
+    }
+
+    @Test
+    void generateVariantsUnderDeterministicKeys() throws Exception {
+        //given
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        when(amazonS3Client.doesObjectExist(AwsService.S3Bucket, fileName)).thenReturn(true);
+
+        //when
+        imageDerivativeService.generate(fileName);
+
+        //then
+        verify(amazonS3Client, times(2)).putObject(captor.capture());
+        List<PutObjectRequest> requests = captor.getAllValues();
+
+        assertThat(requests)
+                .extracting(PutObjectRequest::getKey)
+                .containsExactly("variants/320/original.jpg", "variants/640/original.jpg");
+        assertThat(ImageIO.read(requests.get(0).getInputStream()).getWidth()).isEqualTo(320);
+        assertThat(ImageIO.read(requests.get(1).getInputStream()).getHeight()).isEqualTo(320);
+        verify(amazonS3Client, never()).deleteObjects(any());
+    }
+
+    @Test
+    void skipImageOverPixelBudget() {
+        //given
+        ReflectionTestUtils.setField(imageDerivativeService, "maxPixels", 100_000L);
+
+        //when
+        imageDerivativeService.generate(fileName);
+
+        //then
+        verify(amazonS3Client, never()).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    void deleteVariantsWhenOriginalIsDeletedMeanwhile() {
+        //given
+        when(amazonS3Client.doesObjectExist(AwsService.S3Bucket, fileName)).thenReturn(false);
+
+        //when
+        imageDerivativeService.generate(fileName);
+
+        //then
+        verify(amazonS3Client).deleteObjects(any());
+    }
+}
@@ -0,0 +1,191 @@
+package com.sptp.backend.aws.service;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.sptp.backend.aws.web.dto.UploadSessionRequest;
+import com.sptp.backend.aws.web.dto.UploadSessionResponse;
+import com.sptp.backend.common.exception.CustomException;
+import com.sptp.backend.common.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URL;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UploadSessionServiceTest {
+
+    @InjectMocks
+    UploadSessionService uploadSessionService;
+
+    @Mock
+    AmazonS3Client amazonS3Client;
+
+    @Spy
+    FileManager fileManager = new FileManager("https://storage/");
+
+    Long memberId = 1L;
+
+    @BeforeEach
+    void init() {
+        ReflectionTestUtils.setField(uploadSessionService, "expirationMinutes", 10L);
+        ReflectionTestUtils.setField(uploadSessionService, "maxFiles", 10);
+        ReflectionTestUtils.setField(uploadSessionService, "maxFileSizeMb", 10L);
+        ReflectionTestUtils.setField(uploadSessionService, "commitThreads", 2);
+        uploadSessionService.init();
+    }
+
+    @AfterEach
+    void close() {
+        uploadSessionService.shutdown();
+    }
+
+    @Test
+    void issuePresignedUrls() throws Exception {
+        //given
+        ArgumentCaptor<GeneratePresignedUrlRequest> captor = ArgumentCaptor.forClass(GeneratePresignedUrlRequest.class);
+        when(amazonS3Client.generatePresignedUrl(any(GeneratePresignedUrlRequest.class)))
+                .thenReturn(new URL("https://s3/presigned"));
+
+        //when
+        List<UploadSessionResponse.UploadDto> uploads = uploadSessionService.issue(memberId, List.of(file("main.PNG", 1024L), file("detail.jpg", 2048L)));
+
+        //then
+        assertThat(uploads).hasSize(2);
+        assertThat(uploads.get(0).getKey()).startsWith("uploads/1/").endsWith(".png");
+        assertThat(uploads.get(1).getKey()).startsWith("uploads/1/").endsWith(".jpg");
+        assertThat(uploads).extracting(UploadSessionResponse.UploadDto::getUploadUrl).containsOnly("https://s3/presigned");
+        assertThat(uploads).extracting(UploadSessionResponse.UploadDto::getContentType).containsExactly("image/png", "image/jpeg");
+
+        verify(amazonS3Client, times(2)).generatePresignedUrl(captor.capture());
+        assertThat(captor.getAllValues().get(0).getContentType()).isEqualTo("image/png");
+        assertThat(captor.getAllValues().get(0).getCustomRequestHeaders()).containsEntry(Headers.CONTENT_LENGTH, "1024");
+    }
+
+    @Test
+    void failIssueByNotImageExtension() {
+        //when
+        //then
+        assertThatThrownBy(() -> uploadSessionService.issue(memberId, List.of(file("script.sh", 1024L))))
+                .isInstanceOf(CustomException.class)
+                .message().isEqualTo(ErrorCode.NOT_VALID_UPLOAD_REQUEST.getDetail());
+        verifyNoInteractions(amazonS3Client);
+    }
+
+    @Test
+    void failIssueByTooLargeFile() {
+        //when
+        //then
+        assertThatThrownBy(() -> uploadSessionService.issue(memberId, List.of(file("main.png", 11L * 1024 * 1024))))
+                .isInstanceOf(CustomException.class)
+                .message().isEqualTo(ErrorCode.NOT_VALID_UPLOAD_REQUEST.getDetail());
+        verifyNoInteractions(amazonS3Client);
+    }
+
+    @Test
+    void commitCopiesToPublicPath() {
+        //given
+        String key = "uploads/1/image.png";
+        ArgumentCaptor<CopyObjectRequest> captor = ArgumentCaptor.forClass(CopyObjectRequest.class);
+        when(amazonS3Client.getObjectMetadata(AwsService.S3Bucket, key)).thenReturn(metadata("image/png", 1024));
+
+        //when
+        String fileName = uploadSessionService.commit(memberId, key);
+
+        //then
+        assertThat(fileName).isEqualTo("image.png");
+        verify(amazonS3Client).copyObject(captor.capture());
+        verify(amazonS3Client).deleteObject(AwsService.S3Bucket, key);
+        assertThat(captor.getValue().getSourceKey()).isEqualTo(key);
+        assertThat(captor.getValue().getDestinationKey()).isEqualTo("image.png");
+    }
+
+    @Test
+    void failCommitByKeyOfOtherMember() {
+        //when
+        //then
+        assertThatThrownBy(() -> uploadSessionService.commit(memberId, "uploads/2/image.png"))
+                .isInstanceOf(CustomException.class)
+                .message().isEqualTo(ErrorCode.NOT_VALID_UPLOAD.getDetail());
+        verifyNoInteractions(amazonS3Client);
+    }
+
+    @Test
+    void failCommitByNotImageContent() {
+        //given
+        String key = "uploads/1/image.png";
+        when(amazonS3Client.getObjectMetadata(AwsService.S3Bucket, key)).thenReturn(metadata("text/html", 1024));
+
+        //when
+        //then
+        assertThatThrownBy(() -> uploadSessionService.commit(memberId, key))
+                .isInstanceOf(CustomException.class)
+                .message().isEqualTo(ErrorCode.NOT_VALID_UPLOAD.getDetail());
+        verify(amazonS3Client).deleteObject(AwsService.S3Bucket, key);
+        verify(amazonS3Client, never()).copyObject(any(CopyObjectRequest.class));
+    }
+
+    @Test
+    void deleteCommittedFilesWhenNextUploadIsMissing() {
+        //given
+        AmazonS3Exception notFound = new AmazonS3Exception("not found");
+        notFound.setStatusCode(404);
+
+        when(amazonS3Client.getObjectMetadata(AwsService.S3Bucket, "uploads/1/first.png")).thenReturn(metadata("image/png", 1024));
+        when(amazonS3Client.getObjectMetadata(AwsService.S3Bucket, "uploads/1/second.png")).thenThrow(notFound);
+
+        //when
+        //then
+        assertThatThrownBy(() -> uploadSessionService.commit(memberId, List.of("uploads/1/first.png", "uploads/1/second.png")))
+                .isInstanceOf(CustomException.class)
+                .message().isEqualTo(ErrorCode.NOT_VALID_UPLOAD.getDetail());
+        verify(amazonS3Client).deleteObject(AwsService.S3Bucket, "first.png");
+    }
+
+    @Test
+    void commitAllKeysInKeyOrder() {
+        //given
+        List<String> keys = List.of("uploads/1/first.png", "uploads/1/second.png", "uploads/1/third.png");
+        keys.forEach(key -> when(amazonS3Client.getObjectMetadata(AwsService.S3Bucket, key)).thenReturn(metadata("image/png", 1024)));
+
+        //when
+        List<String> fileNames = uploadSessionService.commit(memberId, keys);
+
+        //then
+        assertThat(fileNames).containsExactly("first.png", "second.png", "third.png");
+        verify(amazonS3Client, times(3)).copyObject(any(CopyObjectRequest.class));
+    }
+
+    private ObjectMetadata metadata(String contentType, long contentLength) {
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setContentLength(contentLength);
+
+        return metadata;
+    }
+
+    private UploadSessionRequest.FileDto file(String fileName, Long fileSize) {
+
+        return UploadSessionRequest.FileDto.builder()
+                .fileName(fileName)
+                .fileSize(fileSize)
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.sptp.backend.bidding.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sptp.backend.art_work.repository.ArtWork;
+import com.sptp.backend.auction.repository.Auction;
+import com.sptp.backend.common.config.DBConfig;
+import com.sptp.backend.common.config.PropertyConfig;
+import com.sptp.backend.member.repository.Member;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static com.sptp.backend.bidding.repository.QBidding.*;
+import static org.assertj.core.api.Assertions.*;
+
+@Slf4j
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({DBConfig.class, PropertyConfig.class})
+class BiddingRepositoryTest {
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    JPAQueryFactory queryFactory;
+
+    @Autowired
+    BiddingRepository biddingRepository;
+
+    Member member;
+    Member otherMember;
+    int artWorkCount = 500;
+    Long startPrice = 100_000L;
+
+    @BeforeEach
+    void init() {
+        member = Member.builder().nickname("collector").build();
+        otherMember = Member.builder().nickname("other").build();
+        Member artist = Member.builder().nickname("artist").build();
+        Auction auction = Auction.builder().turn(1).build();
+
+        entityManager.persist(member);
+        entityManager.persist(otherMember);
+        entityManager.persist(artist);
+        entityManager.persist(auction);
+
+        for (int i = 0; i < artWorkCount; i++) {
+
+            // 짝수 작품은 다른 회원이 더 높은 가격으로 응찰
+            long topPrice = (i % 2 == 0) ? startPrice + 20_000L : startPrice;
+
+            ArtWork artWork = ArtWork.builder()
+                    .member(artist)
+                    .auction(auction)
+                    .price(startPrice)
+                    .topPrice(topPrice)
+                    .build();
+
+            entityManager.persist(artWork);
+            entityManager.persist(Bidding.builder().artWork(artWork).member(member).price(startPrice).build());
+
+            if (i % 2 == 0) {
+                entityManager.persist(Bidding.builder().artWork(artWork).member(otherMember).price(topPrice).build());
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findByMemberWithMaxBidding() {
+        //given
+        //when
+        List<Tuple> result = biddingRepository.findByMemberWithMaxBidding(member);
+
+        //then
+        assertThat(result).hasSize(artWorkCount);
+        assertThat(result).allSatisfy(tuple -> assertThat(tuple.get(1, Long.class)).isEqualTo(startPrice));
+        assertThat(result).filteredOn(tuple -> tuple.get(0, ArtWork.class).getTopPrice() > startPrice).hasSize(artWorkCount / 2);
+    }
+
+    // 응찰 500건 회원 기준 기존 N+1 조회 방식과 단일 쿼리 방식의 쿼리 수, 소요 시간 비교
+    @Test
+    void benchmarkFindByMemberWithMaxBidding() {
+        //given
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        //when
+        statistics.clear();
+        long before = System.nanoTime();
+        for (ArtWork artWork : queryFactory
+                .select(bidding.artWork).distinct()
+                .from(bidding)
+                .where(bidding.member.id.eq(member.getId()))
+                .fetch()) {
+            biddingRepository.getFirstByArtWorkOrderByPriceDesc(artWork);
+            artWork.getAuction().getTurn();
+            artWork.getMember().getNickname();
+        }
+        long beforeMillis = (System.nanoTime() - before) / 1_000_000;
+        long beforeQueryCount = statistics.getPrepareStatementCount();
+        entityManager.clear();
+
+        statistics.clear();
+        long after = System.nanoTime();
+        for (Tuple tuple : biddingRepository.findByMemberWithMaxBidding(member)) {
+            ArtWork artWork = tuple.get(0, ArtWork.class);
+            artWork.getTopPrice();
+            artWork.getAuction().getTurn();
+            artWork.getMember().getNickname();
+        }
+        long afterMillis = (System.nanoTime() - after) / 1_000_000;
+        long afterQueryCount = statistics.getPrepareStatementCount();
+
+        //then
+        log.info("getMyBidding {} artworks - before: {} queries, {} ms / after: {} queries, {} ms",
+                artWorkCount, beforeQueryCount, beforeMillis, afterQueryCount, afterMillis);
+
+        assertThat(beforeQueryCount).isGreaterThan(artWorkCount);
+        assertThat(afterQueryCount).isEqualTo(1);
+    }
+}
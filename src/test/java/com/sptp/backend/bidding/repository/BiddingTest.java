@@ -117,5 +117,16 @@ class BiddingTest {
                     .isInstanceOf(CustomException.class)
                     .message().isEqualTo(ErrorCode.NOT_VALID_BID.getDetail());
         }
+
+        @ParameterizedTest
+        @CsvSource({"299_999,319_999", "300_000,350_000", "999_999,1_049_999", "1_000_000,1_100_000",
+                "2_999_999,3_099_999","3_000_000,3_200_000", "4_999_999,5_199_999", "5_000_000,5_500_000"})
+        void maximumTopPrice(long topPrice, long bid) {
+            //given
+            //when
+            //then
+            assertThat(Bidding.getMaximumTopPrice(bid)).isEqualTo(topPrice);
+            assertThat(Bidding.getMaximumTopPrice(bid - 1)).isLessThan(topPrice);
+        }
     }
-}
\ No newline at end of file
+}
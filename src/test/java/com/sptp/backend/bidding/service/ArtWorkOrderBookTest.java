@@ -0,0 +1,141 @@
+package com.sptp.backend.bidding.service;
+
+import com.sptp.backend.art_work.repository.ArtWork;
+import com.sptp.backend.bidding.repository.Bidding;
+import com.sptp.backend.common.exception.CustomException;
+import com.sptp.backend.common.exception.ErrorCode;
+import com.sptp.backend.member.repository.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ArtWorkOrderBookTest {
+
+    ArtWork artWork;
+    Long startPrice = 100_000L;
+
+    @BeforeEach
+    void init() {
+        artWork = ArtWork.builder()
+                .id(1L)
+                .price(startPrice)
+                .build();
+    }
+
+    @Test
+    void acceptFirstBidAtStartPrice() {
+        //given
+        ArtWorkOrderBook orderBook = ArtWorkOrderBook.of(artWork, Collections.emptyList());
+
+        //when
+        ArtWorkOrderBook.Acceptance acceptance = orderBook.accept(2L, startPrice);
+
+        //then
+        assertThat(acceptance.isFirstBid()).isTrue();
+        assertThat(acceptance.isNewBidder()).isTrue();
+        assertThat(orderBook.getTopPrice()).isEqualTo(startPrice);
+        assertThat(orderBook.getTopBidderId()).isEqualTo(2L);
+    }
+
+    @Test
+    void loadFromBiddings() {
+        //given
+        List<Bidding> biddings = List.of(
+                Bidding.builder().member(Member.builder().id(3L).build()).price(140_000L).build(),
+                Bidding.builder().member(Member.builder().id(2L).build()).price(120_000L).build());
+
+        //when
+        ArtWorkOrderBook orderBook = ArtWorkOrderBook.of(artWork, biddings);
+        ArtWorkOrderBook.Acceptance acceptance = orderBook.accept(2L, 160_000L);
+
+        //then
+        assertThat(acceptance.isFirstBid()).isFalse();
+        assertThat(acceptance.isNewBidder()).isFalse();
+        assertThat(orderBook.getBestBid(2L)).isEqualTo(160_000L);
+        assertThat(orderBook.getTopBidderId()).isEqualTo(2L);
+    }
+
+    @Test
+    void failByNotValidIncrement() {
+        //given
+        ArtWorkOrderBook orderBook = ArtWorkOrderBook.of(artWork, Collections.emptyList());
+        orderBook.accept(2L, startPrice);
+
+        //when
+        //then
+        assertThatThrownBy(() -> orderBook.accept(3L, startPrice + 19_999L))
+                .isInstanceOf(CustomException.class)
+                .message().isEqualTo(ErrorCode.NOT_VALID_BID.getDetail());
+        assertThat(orderBook.getTopPrice()).isEqualTo(startPrice);
+    }
+
+    @Test
+    void resolveCompetingProxiesInOneBid() {
+        //given
+        ArtWorkOrderBook orderBook = ArtWorkOrderBook.of(artWork, Collections.emptyList());
+        orderBook.registerProxy(2L, 500_000L);
+        orderBook.resolveProxies();
+
+        //when
+        orderBook.registerProxy(3L, 300_000L);
+        ArtWorkOrderBook.ProxyBid proxyBid = orderBook.resolveProxies();
+
+        //then
+        assertThat(proxyBid.getMemberId()).isEqualTo(2L);
+        assertThat(proxyBid.getPrice()).isEqualTo(350_000L);
+        assertThat(orderBook.getTopBidderId()).isEqualTo(2L);
+        assertThat(orderBook.getBidCount()).isEqualTo(2);
+        assertThat(orderBook.resolveProxies()).isNull();
+    }
+
+    @Test
+    void counterManualBidWithinProxyMaxPrice() {
+        //given
+        ArtWorkOrderBook orderBook = ArtWorkOrderBook.of(artWork, Collections.emptyList());
+        orderBook.registerProxy(2L, 500_000L);
+        orderBook.resolveProxies();
+        orderBook.accept(3L, 300_000L);
+
+        //when
+        ArtWorkOrderBook.ProxyBid proxyBid = orderBook.resolveProxies();
+
+        //then
+        assertThat(proxyBid.getMemberId()).isEqualTo(2L);
+        assertThat(proxyBid.getPrice()).isEqualTo(350_000L);
+        assertThat(proxyBid.getAcceptance().isFirstBid()).isFalse();
+    }
+
+    @Test
+    void earlierProxyWinsWhenMaxPriceIsSame() {
+        //given
+        ArtWorkOrderBook orderBook = ArtWorkOrderBook.of(artWork, Collections.emptyList());
+        orderBook.registerProxy(2L, 300_000L);
+        orderBook.registerProxy(3L, 300_000L);
+
+        //when
+        ArtWorkOrderBook.ProxyBid proxyBid = orderBook.resolveProxies();
+
+        //then
+        assertThat(proxyBid.getMemberId()).isEqualTo(2L);
+        assertThat(proxyBid.getPrice()).isEqualTo(300_000L);
+        assertThat(orderBook.getBidCount()).isEqualTo(1);
+    }
+
+    @Test
+    void failByProxyMaxPriceBelowNextBid() {
+        //given
+        ArtWorkOrderBook orderBook = ArtWorkOrderBook.of(artWork, Collections.emptyList());
+        orderBook.accept(2L, startPrice);
+
+        //when
+        //then
+        assertThatThrownBy(() -> orderBook.registerProxy(3L, startPrice + 10_000L))
+                .isInstanceOf(CustomException.class)
+                .message().isEqualTo(ErrorCode.NOT_VALID_BID.getDetail());
+        assertThat(orderBook.getProxyMaxPrice(3L)).isNull();
+    }
+}
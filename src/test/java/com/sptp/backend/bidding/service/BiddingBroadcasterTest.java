@@ -0,0 +1,103 @@
+package com.sptp.backend.bidding.service;
+
+import com.sptp.backend.art_work.web.dto.response.BiddingStreamResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BiddingBroadcasterTest {
+
+    @InjectMocks
+    BiddingBroadcaster biddingBroadcaster;
+
+    @Mock
+    SimpMessagingTemplate simpMessagingTemplate;
+
+    Long artWorkId = 1L;
+    LocalDateTime endDate = LocalDateTime.now().plusHours(1);
+
+    @BeforeEach
+    void init() {
+        ReflectionTestUtils.setField(biddingBroadcaster, "maxUpdatesPerSecond", 5);
+    }
+
+    @AfterEach
+    void close() {
+        biddingBroadcaster.shutdown();
+    }
+
+    @Test
+    void coalesceBiddingsInInterval() {
+        //given
+        ArgumentCaptor<BiddingStreamResponse> captor = ArgumentCaptor.forClass(BiddingStreamResponse.class);
+
+        //when
+        for (int i = 1; i <= 100; i++) {
+            biddingBroadcaster.publish(artWorkId, 100_000L + i * 20_000L, i, endDate);
+        }
+
+        //then
+        verify(simpMessagingTemplate, timeout(1000).times(1))
+                .convertAndSend(eq(BiddingBroadcaster.getDestination(artWorkId)), captor.capture());
+
+        assertThat(captor.getValue().getTopPrice()).isEqualTo(100_000L + 100 * 20_000L);
+        assertThat(captor.getValue().getTotalBiddingCount()).isEqualTo(100);
+        assertThat(captor.getValue().getRemainingSeconds()).isPositive();
+    }
+
+    @Test
+    void keepHigherTopPriceWhenCommittedOutOfOrder() {
+        //given
+        ArgumentCaptor<BiddingStreamResponse> captor = ArgumentCaptor.forClass(BiddingStreamResponse.class);
+
+        //when
+        biddingBroadcaster.publish(artWorkId, 140_000L, 2, endDate);
+        biddingBroadcaster.publish(artWorkId, 120_000L, 1, endDate);
+
+        //then
+        verify(simpMessagingTemplate, timeout(1000).times(1))
+                .convertAndSend(eq(BiddingBroadcaster.getDestination(artWorkId)), captor.capture());
+
+        assertThat(captor.getValue().getTopPrice()).isEqualTo(140_000L);
+    }
+
+    @Test
+    void sendEachBiddingWhenCoalescingIsDisabled() {
+        //given
+        ReflectionTestUtils.setField(biddingBroadcaster, "maxUpdatesPerSecond", 0);
+
+        //when
+        biddingBroadcaster.publish(artWorkId, 120_000L, 1, endDate);
+
+        //then
+        verify(simpMessagingTemplate, timeout(1000).times(1))
+                .convertAndSend(eq(BiddingBroadcaster.getDestination(artWorkId)), any(BiddingStreamResponse.class));
+    }
+
+    @Test
+    void failStartupByNegativeMaxUpdatesPerSecond() {
+        //given
+        ReflectionTestUtils.setField(biddingBroadcaster, "maxUpdatesPerSecond", -1);
+
+        //when
+        //then
+        assertThatThrownBy(() -> biddingBroadcaster.init())
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
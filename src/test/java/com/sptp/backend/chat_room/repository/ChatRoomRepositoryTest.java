@@ -0,0 +1,161 @@
+package com.sptp.backend.chat_room.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sptp.backend.art_work.repository.ArtWork;
+import com.sptp.backend.common.config.DBConfig;
+import com.sptp.backend.common.config.PropertyConfig;
+import com.sptp.backend.member.repository.Member;
+import com.sptp.backend.message.repository.Message;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static com.sptp.backend.chat_room.repository.QChatRoom.*;
+import static com.sptp.backend.message.repository.QMessage.*;
+import static org.assertj.core.api.Assertions.*;
+
+@Slf4j
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({DBConfig.class, PropertyConfig.class})
+class ChatRoomRepositoryTest {
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    JPAQueryFactory queryFactory;
+
+    @Autowired
+    ChatRoomRepository chatRoomRepository;
+
+    Member member;
+    Member artist;
+    int chatRoomCount = 500;
+    int readHistoryCount = 20;
+
+    @BeforeEach
+    void init() {
+        member = Member.builder().nickname("collector").build();
+        artist = Member.builder().nickname("artist").build();
+
+        entityManager.persist(member);
+        entityManager.persist(artist);
+
+        for (int i = 0; i < chatRoomCount; i++) {
+            ArtWork artWork = ArtWork.builder().member(artist).build();
+            ChatRoom chatRoom = ChatRoom.builder().member(member).artist(artist).artWork(artWork).build();
+
+            entityManager.persist(artWork);
+            entityManager.persist(chatRoom);
+
+            // 짝수 채팅방에만 메시지가 있고, 읽은 대화 뒤에 작가가 보낸 두 메시지 중 첫 메시지만 읽음
+            if (i % 2 == 0) {
+                for (int j = 0; j < readHistoryCount; j++) {
+                    entityManager.persist(message(chatRoom, (j % 2 == 0) ? member : artist, "대화", true));
+                }
+                entityManager.persist(message(chatRoom, member, "문의", true));
+                entityManager.persist(message(chatRoom, artist, "답변", true));
+                entityManager.persist(message(chatRoom, artist, "마지막", false));
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findAllWithLastMessageAndUnreadCount() {
+        //given
+        //when
+        List<Tuple> result = chatRoomRepository.findAllWithLastMessageAndUnreadCount(member.getId());
+
+        //then
+        assertThat(result).hasSize(chatRoomCount);
+        assertThat(result).filteredOn(tuple -> tuple.get(1, Message.class) == null)
+                .hasSize(chatRoomCount / 2)
+                .allSatisfy(tuple -> assertThat(tuple.get(2, Long.class)).isZero());
+        assertThat(result).filteredOn(tuple -> tuple.get(1, Message.class) != null)
+                .hasSize(chatRoomCount / 2)
+                .allSatisfy(tuple -> {
+                    assertThat(tuple.get(1, Message.class).getContent()).isEqualTo("마지막");
+                    assertThat(tuple.get(2, Long.class)).isEqualTo(1L);
+                });
+    }
+
+    @Test
+    void notCountOwnMessagesAsUnread() {
+        //given
+        //when
+        List<Tuple> result = chatRoomRepository.findAllWithLastMessageAndUnreadCount(artist.getId());
+
+        //then
+        assertThat(result).hasSize(chatRoomCount);
+        assertThat(result).allSatisfy(tuple -> assertThat(tuple.get(2, Long.class)).isZero());
+    }
+
+    // 채팅방 500개(절반은 메시지 23개씩) 회원 기준 기존 채팅방별 조회 방식과 단일 쿼리 방식의 쿼리 수, 소요 시간 비교
+    @Test
+    void benchmarkFindAllWithLastMessageAndUnreadCount() {
+        //given
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        //when
+        statistics.clear();
+        long before = System.nanoTime();
+        for (ChatRoom room : queryFactory
+                .selectFrom(chatRoom)
+                .join(chatRoom.artWork).fetchJoin()
+                .join(chatRoom.artist).fetchJoin()
+                .join(chatRoom.member).fetchJoin()
+                .where(chatRoom.member.id.eq(member.getId()).or(chatRoom.artist.id.eq(member.getId())))
+                .fetch()) {
+            queryFactory.selectFrom(message)
+                    .where(message.chatRoom.eq(room))
+                    .orderBy(message.id.desc())
+                    .fetchFirst();
+            queryFactory.select(message.count())
+                    .from(message)
+                    .where(message.chatRoom.eq(room), message.isRead.isFalse(), message.sender.id.ne(member.getId()))
+                    .fetchOne();
+            room.getOtherMember(member.getId()).getNickname();
+        }
+        long beforeMillis = (System.nanoTime() - before) / 1_000_000;
+        long beforeQueryCount = statistics.getPrepareStatementCount();
+        entityManager.clear();
+
+        statistics.clear();
+        long after = System.nanoTime();
+        for (Tuple tuple : chatRoomRepository.findAllWithLastMessageAndUnreadCount(member.getId())) {
+            ChatRoom room = tuple.get(0, ChatRoom.class);
+            room.getArtWork().getMainImage();
+            room.getOtherMember(member.getId()).getNickname();
+        }
+        long afterMillis = (System.nanoTime() - after) / 1_000_000;
+        long afterQueryCount = statistics.getPrepareStatementCount();
+
+        //then
+        log.info("getChatRooms {} chat rooms - before: {} queries, {} ms / after: {} queries, {} ms",
+                chatRoomCount, beforeQueryCount, beforeMillis, afterQueryCount, afterMillis);
+
+        assertThat(beforeQueryCount).isGreaterThan(chatRoomCount * 2);
+        assertThat(afterQueryCount).isEqualTo(1);
+    }
+
+    private Message message(ChatRoom chatRoom, Member sender, String content, boolean isRead) {
+        return Message.builder()
+                .chatRoom(chatRoom)
+                .sender(sender)
+                .content(content)
+                .isRead(isRead)
+                .build();
+    }
+}
@@ -4,10 +4,13 @@ import com.sptp.backend.art_work.repository.ArtWork;
 import com.sptp.backend.art_work.repository.ArtWorkRepository;
 import com.sptp.backend.chat_room.repository.ChatRoom;
 import com.sptp.backend.chat_room.repository.ChatRoomRepository;
+import com.sptp.backend.chat_room.web.dto.ChatRoomDetailResponse;
 import com.sptp.backend.common.exception.CustomException;
 import com.sptp.backend.common.exception.ErrorCode;
 import com.sptp.backend.member.repository.Member;
 import com.sptp.backend.member.repository.MemberRepository;
+import com.sptp.backend.message.repository.Message;
+import com.sptp.backend.message.repository.MessageRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -15,13 +18,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +48,12 @@ class ChatRoomServiceTest {
     @Mock
     ArtWorkRepository artWorkRepository;
 
+    @Mock
+    ChatRoomParticipantCache chatRoomParticipantCache;
+
+    @Mock
+    MessageRepository messageRepository;
+
     @Nested
     class createChatRoomTest {
 
@@ -169,4 +184,74 @@ class ChatRoomServiceTest {
         }
     }
 
-}
\ No newline at end of file
+    @Nested
+    class getChatRoomDetailTest {
+
+        long artistId = 1L;
+        long memberId = 2L;
+        long chatRoomId = 4L;
+        Member artist;
+        Member member;
+        ChatRoom chatRoom;
+
+        @BeforeEach
+        void init() {
+            artist = Member.builder().id(artistId).nickname("artist").build();
+            member = Member.builder().id(memberId).nickname("member").build();
+
+            chatRoom = ChatRoom.builder()
+                    .id(chatRoomId)
+                    .artist(artist)
+                    .member(member)
+                    .build();
+        }
+
+        @Test
+        void returnPageInSentOrderAndReadUntilLatestMessage() {
+            //given
+            List<Message> messages = new ArrayList<>(List.of(message(30L), message(20L), message(10L)));
+
+            when(chatRoomRepository.findById(chatRoomId))
+                    .thenReturn(Optional.of(chatRoom));
+
+            when(messageRepository.findMessageList(chatRoomId, 40L, 3))
+                    .thenReturn(messages);
+
+            //when
+            ChatRoomDetailResponse response = chatRoomService.getChatRoomDetail(memberId, chatRoomId, 40L, PageRequest.of(0, 2));
+
+            //then
+            assertThat(response.isNextPage()).isTrue();
+            assertThat(response.getMessages()).extracting(ChatRoomDetailResponse.MessageDto::getMessageId)
+                    .containsExactly(20L, 30L);
+            verify(messageRepository).updateReadUntil(chatRoomId, memberId, 30L);
+        }
+
+        @Test
+        void notUpdateReadWhenPageIsEmpty() {
+            //given
+            when(chatRoomRepository.findById(chatRoomId))
+                    .thenReturn(Optional.of(chatRoom));
+
+            when(messageRepository.findMessageList(chatRoomId, null, 3))
+                    .thenReturn(new ArrayList<>());
+
+            //when
+            ChatRoomDetailResponse response = chatRoomService.getChatRoomDetail(memberId, chatRoomId, null, PageRequest.of(0, 2));
+
+            //then
+            assertThat(response.isNextPage()).isFalse();
+            assertThat(response.getMessages()).isEmpty();
+            verify(messageRepository, never()).updateReadUntil(anyLong(), anyLong(), anyLong());
+        }
+
+        private Message message(Long messageId) {
+            return Message.builder()
+                    .id(messageId)
+                    .sender(artist)
+                    .chatRoom(chatRoom)
+                    .content("message")
+                    .build();
+        }
+    }
+}
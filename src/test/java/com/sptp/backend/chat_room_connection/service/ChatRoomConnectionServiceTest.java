@@ -0,0 +1,93 @@
+package com.sptp.backend.chat_room_connection.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomConnectionServiceTest {
+
+    @InjectMocks
+    ChatRoomConnectionService chatRoomConnectionService;
+
+    @Mock
+    StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    ZSetOperations<String, String> zSetOperations;
+
+    Long chatRoomId = 1L;
+    Long memberId = 2L;
+    String key = "chat-room:1:connections";
+
+    @BeforeEach
+    void init() {
+        ReflectionTestUtils.setField(chatRoomConnectionService, "ttlSeconds", 90L);
+    }
+
+    @Test
+    void connectedWhenSessionIsNotExpired() {
+        //given
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeByScore(eq(key), anyDouble(), eq(Double.POSITIVE_INFINITY)))
+                .thenReturn(Set.of(memberId + ":session"));
+
+        //when
+        //then
+        assertThat(chatRoomConnectionService.isConnected(chatRoomId, memberId)).isTrue();
+        assertThat(chatRoomConnectionService.isConnected(chatRoomId, 3L)).isFalse();
+    }
+
+    @Test
+    void notConnectedWhenRedisFails() {
+        //given
+        when(stringRedisTemplate.opsForZSet()).thenThrow(new RuntimeException());
+
+        //when
+        //then
+        assertThat(chatRoomConnectionService.isConnected(chatRoomId, memberId)).isFalse();
+    }
+
+    @Test
+    void removeSessionOnDisconnect() {
+        //given
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        chatRoomConnectionService.connect("session", chatRoomId, memberId);
+
+        //when
+        chatRoomConnectionService.disconnect("session");
+        chatRoomConnectionService.disconnect("session");
+
+        //then
+        verify(zSetOperations).add(eq(key), eq(memberId + ":session"), anyDouble());
+        verify(zSetOperations, times(1)).remove(key, memberId + ":session");
+    }
+
+    @Test
+    void heartbeatExtendsLocalSessionsAndRemovesExpired() {
+        //given
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        chatRoomConnectionService.connect("session", chatRoomId, memberId);
+        clearInvocations(zSetOperations);
+
+        //when
+        chatRoomConnectionService.heartbeat();
+
+        //then
+        verify(zSetOperations).add(eq(key), eq(memberId + ":session"), anyDouble());
+        verify(zSetOperations).removeRangeByScore(eq(key), eq(0.0), anyDouble());
+    }
+}
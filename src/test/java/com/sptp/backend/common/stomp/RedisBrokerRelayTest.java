@@ -0,0 +1,127 @@
+package com.sptp.backend.common.stomp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+// 두 서버(node)가 하나의 Redis 채널을 구독하는 상황을 가짜 pub/sub 으로 구성해서 검증
+class RedisBrokerRelayTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    List<RedisBrokerRelayListener> subscribers = new ArrayList<>();
+
+    Node nodeA;
+    Node nodeB;
+
+    @BeforeEach
+    void init() {
+        nodeA = new Node();
+        nodeB = new Node();
+    }
+
+    @Test
+    void relayMessageToOtherNode() {
+        //given
+        Message<byte[]> message = brokerMessage("/queue/chat-rooms/1", "{\"content\":\"hello\"}");
+
+        //when
+        nodeA.interceptor.preSend(message, nodeA.brokerChannel);
+
+        //then
+        assertThat(nodeA.received).isEmpty(); // 자신이 보낸 메시지는 내장 브로커가 이미 전송
+        assertThat(nodeB.received).hasSize(1);
+
+        Message<?> relayed = nodeB.received.get(0);
+        assertThat(SimpMessageHeaderAccessor.getDestination(relayed.getHeaders())).isEqualTo("/queue/chat-rooms/1");
+        assertThat(new String((byte[]) relayed.getPayload(), StandardCharsets.UTF_8)).isEqualTo("{\"content\":\"hello\"}");
+        assertThat(relayed.getHeaders().get(MessageHeaders.CONTENT_TYPE).toString()).isEqualTo("application/json");
+    }
+
+    @Test
+    void notRelayRelayedMessageAgain() {
+        //given
+        nodeA.interceptor.preSend(brokerMessage("/topic/art-works/1/bids", "{}"), nodeA.brokerChannel);
+        Message<?> relayed = nodeB.received.get(0);
+
+        //when
+        nodeB.interceptor.preSend(relayed, nodeB.brokerChannel);
+
+        //then
+        verify(nodeB.stringRedisTemplate, never()).convertAndSend(anyString(), any());
+    }
+
+    @Test
+    void notRelayNonBrokerDestination() {
+        //when
+        nodeA.interceptor.preSend(brokerMessage("/app/send", "{}"), nodeA.brokerChannel);
+
+        //then
+        verify(nodeA.stringRedisTemplate, never()).convertAndSend(anyString(), any());
+        assertThat(nodeB.received).isEmpty();
+    }
+
+    @Test
+    void deliverLocallyWhenRedisFails() {
+        //given
+        Message<byte[]> message = brokerMessage("/queue/chat-rooms/1", "{}");
+        when(nodeA.stringRedisTemplate.convertAndSend(anyString(), any())).thenThrow(new RuntimeException());
+
+        //when
+        Message<?> result = nodeA.interceptor.preSend(message, nodeA.brokerChannel);
+
+        //then
+        assertThat(result).isSameAs(message);
+    }
+
+    private Message<byte[]> brokerMessage(String destination, String payload) {
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+
+        return MessageBuilder.createMessage(payload.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    // 서버 하나의 릴레이 구성. 내장 브로커 대신 브로커 채널로 들어온 메시지를 기록
+    class Node {
+
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        MessageChannel brokerChannel = mock(MessageChannel.class);
+        List<Message<?>> received = new ArrayList<>();
+        RedisBrokerRelayInterceptor interceptor = new RedisBrokerRelayInterceptor(stringRedisTemplate, objectMapper);
+
+        Node() {
+            ReflectionTestUtils.setField(interceptor, "topic", "stomp-broker");
+
+            // 가짜 Redis pub/sub. 발행한 메시지를 보낸 서버를 포함한 모든 구독 서버에 전달
+            when(stringRedisTemplate.convertAndSend(anyString(), any())).thenAnswer(invocation -> {
+                byte[] body = invocation.getArgument(1, String.class).getBytes(StandardCharsets.UTF_8);
+                subscribers.forEach(subscriber -> subscriber.onMessage(new DefaultMessage("stomp-broker".getBytes(), body), null));
+                return (long) subscribers.size();
+            });
+
+            when(brokerChannel.send(any())).thenAnswer(invocation -> received.add(invocation.getArgument(0)));
+
+            subscribers.add(new RedisBrokerRelayListener(interceptor, objectMapper, brokerChannel));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.sptp.backend.common.stomp;
+
+import com.sptp.backend.chat_room_connection.service.ChatRoomConnectionService;
+import com.sptp.backend.common.exception.CustomException;
+import com.sptp.backend.common.exception.ErrorCode;
+import com.sptp.backend.jwt.service.dto.CustomUserDetails;
+import com.sptp.backend.jwt.web.JwtTokenProvider;
+import com.sptp.backend.member.repository.Member;
+import com.sptp.backend.notification.service.NotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StompHandlerTest {
+
+    @InjectMocks
+    StompHandler stompHandler;
+
+    @Mock
+    JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    ChatRoomConnectionService chatRoomConnectionService;
+
+    @Mock
+    MessageChannel channel;
+
+    String token = "token";
+    Long loginMemberId = 1L;
+
+    @BeforeEach
+    void init() {
+        Member member = Member.builder().id(loginMemberId).roles(List.of("ROLE_USER")).build();
+        CustomUserDetails userDetails = new CustomUserDetails(member);
+
+        when(jwtTokenProvider.validateToken(token)).thenReturn(true);
+        when(jwtTokenProvider.getAuthentication(token)).thenReturn(new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities()));
+    }
+
+    @Test
+    void subscribeOwnNotifications() {
+        //given
+        Message<?> message = createSubscribe(NotificationService.getDestination(loginMemberId));
+
+        //when
+        Message<?> result = stompHandler.preSend(message, channel);
+
+        //then
+        assertThat(result).isSameAs(message);
+    }
+
+    @Test
+    void failSubscribeByOtherMemberNotifications() {
+        //given
+        Message<?> message = createSubscribe(NotificationService.getDestination(2L));
+
+        //when, then
+        assertThatThrownBy(() -> stompHandler.preSend(message, channel))
+                .isInstanceOf(CustomException.class)
+                .message().isEqualTo(ErrorCode.NOT_NOTIFICATION_OWNER.getDetail());
+    }
+
+    private Message<?> createSubscribe(String destination) {
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setNativeHeader("Authorization", token);
+
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,84 @@
+package com.sptp.backend.member.service;
+
+import com.sptp.backend.aws.service.AwsService;
+import com.sptp.backend.aws.service.UploadSessionService;
+import com.sptp.backend.common.exception.CustomException;
+import com.sptp.backend.common.exception.ErrorCode;
+import com.sptp.backend.member.web.dto.request.MemberAskRequestDto;
+import com.sptp.backend.member.web.dto.request.MemberUpdateRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberImageServiceTest {
+
+    @InjectMocks
+    MemberImageService memberImageService;
+
+    @Mock
+    MemberService memberService;
+
+    @Mock
+    AwsService awsService;
+
+    @Mock
+    UploadSessionService uploadSessionService;
+
+    @Test
+    void commitImageBeforeUpdatingMember() {
+        //given
+        MemberUpdateRequest dto = new MemberUpdateRequest();
+        when(uploadSessionService.commit(1L, "uploads/1/profile.png")).thenReturn("profile.png");
+
+        //when
+        memberImageService.updateUser(1L, dto, "uploads/1/profile.png");
+
+        //then
+        InOrder inOrder = inOrder(uploadSessionService, memberService);
+        inOrder.verify(uploadSessionService).commit(1L, "uploads/1/profile.png");
+        inOrder.verify(memberService).updateUser(1L, dto, "profile.png");
+        verifyNoInteractions(awsService);
+    }
+
+    @Test
+    void updateMemberWithoutImage() {
+        //given
+        MemberUpdateRequest dto = new MemberUpdateRequest();
+
+        //when
+        memberImageService.updateUser(1L, dto, null);
+
+        //then
+        verify(memberService).updateUser(1L, dto, null);
+        verify(uploadSessionService, never()).commit(anyLong(), anyString());
+    }
+
+    @Test
+    void deleteCommittedImagesWhenSaveAskFails() {
+        //given
+        MemberAskRequestDto dto = new MemberAskRequestDto();
+        dto.setImage(new String[]{"uploads/1/first.png", "uploads/1/second.png"});
+        List<String> fileNames = List.of("first.png", "second.png");
+
+        when(uploadSessionService.commit(1L, List.of("uploads/1/first.png", "uploads/1/second.png"))).thenReturn(fileNames);
+        doThrow(new CustomException(ErrorCode.NOT_FOUND_MEMBER)).when(memberService).saveAsk(1L, dto, fileNames);
+
+        //when
+        assertThatThrownBy(() -> memberImageService.saveAsk(1L, dto))
+                .isInstanceOf(CustomException.class);
+
+        //then
+        verify(awsService).deleteImages(fileNames);
+    }
+}
@@ -3,9 +3,7 @@ package com.sptp.backend.message.repository;
 import com.sptp.backend.chat_room.repository.ChatRoom;
 import com.sptp.backend.common.config.DBConfig;
 import com.sptp.backend.common.config.PropertyConfig;
-import com.sptp.backend.common.entity.BaseEntity;
 import com.sptp.backend.member.repository.Member;
-import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,12 +12,12 @@ import org.springframework.context.annotation.Import;
 
 import javax.persistence.EntityManager;
 
-import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
-import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
 @Import({DBConfig.class, PropertyConfig.class})
@@ -32,31 +30,116 @@ class MessageRepositoryTest {
     MessageRepository messageRepository;
 
     ChatRoom chatRoom;
+    Member sender;
+    Member receiver;
+    List<Message> savedMessages = new ArrayList<>();
     int messageCount = 5;
 
     @BeforeEach
     void init() {
         chatRoom = ChatRoom.builder().build();
+        sender = Member.builder().nickname("sender").build();
+        receiver = Member.builder().nickname("receiver").build();
 
         entityManager.persist(chatRoom);
+        entityManager.persist(sender);
+        entityManager.persist(receiver);
 
         for (int i = 0; i < messageCount; i++) {
-            entityManager.persist(Message.builder()
+            Message message = Message.builder()
                     .content("테스트 메시지")
+                    .sender(sender)
                     .chatRoom(chatRoom)
-                    .build());
-            ;
+                    .isRead(false)
+                    .build();
+
+            entityManager.persist(message);
+            savedMessages.add(message);
         }
     }
 
     @Test
-    void findAllByChatRoomOrderByCreatedDateAsc() {
+    void findMessageListOrderByIdDesc() {
         //given
         //when
-        List<Message> messages = messageRepository.findAllByChatRoomOrderByIdAsc(chatRoom);
+        List<Message> messages = messageRepository.findMessageList(chatRoom.getId(), null, messageCount);
 
         //then
         assertThat(messages).hasSize(messageCount);
-        assertThat(messages).isSortedAccordingTo(Comparator.comparing(Message::getId)); // id 오름차순 검증
+        assertThat(messages).isSortedAccordingTo(Comparator.comparing(Message::getId).reversed()); // id 내림차순 검증
+    }
+
+    @Test
+    void findMessageListBeforeCursor() {
+        //given
+        Long cursor = savedMessages.get(3).getId();
+
+        //when
+        List<Message> messages = messageRepository.findMessageList(chatRoom.getId(), cursor, 2);
+
+        //then
+        assertThat(messages).extracting(Message::getId)
+                .containsExactly(savedMessages.get(2).getId(), savedMessages.get(1).getId());
+    }
+
+    @Test
+    void updateReadUntil() {
+        //given
+        Long until = savedMessages.get(2).getId();
+
+        //when
+        long readCount = messageRepository.updateReadUntil(chatRoom.getId(), receiver.getId(), until);
+        entityManager.clear();
+
+        //then
+        assertThat(readCount).isEqualTo(3);
+        assertThat(messageRepository.findMessageList(chatRoom.getId(), null, messageCount))
+                .extracting(Message::getIsRead)
+                .containsExactly(false, false, true, true, true);
+    }
+
+    @Test
+    void notUpdateReadOfOwnMessages() {
+        //given
+        Long until = savedMessages.get(messageCount - 1).getId();
+
+        //when
+        long readCount = messageRepository.updateReadUntil(chatRoom.getId(), sender.getId(), until);
+
+        //then
+        assertThat(readCount).isZero();
+    }
+
+    @Test
+    void saveAllInBatch() {
+        //given
+        entityManager.flush();
+
+        List<PendingMessage> pendingMessages = List.of(
+                pendingMessage(1L, "첫 번째 메시지"),
+                pendingMessage(2L, "두 번째 메시지"));
+
+        //when
+        messageRepository.saveAllInBatch(pendingMessages);
+        entityManager.clear();
+
+        //then
+        List<Message> messages = messageRepository.findMessageList(chatRoom.getId(), null, 2);
+        assertThat(messages)
+                .extracting(Message::getContent)
+                .containsExactly("두 번째 메시지", "첫 번째 메시지"); // 목록 순서대로 저장
+    }
+
+    private PendingMessage pendingMessage(long seq, String content) {
+
+        return PendingMessage.builder()
+                .seq(seq)
+                .chatRoomId(chatRoom.getId())
+                .senderId(sender.getId())
+                .type(MessageType.TEXT.name())
+                .content(content)
+                .isRead(false)
+                .createdDate(LocalDateTime.now())
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package com.sptp.backend.message.schedule;
+
+import com.sptp.backend.message.repository.PendingMessage;
+import com.sptp.backend.message.service.MessageJournal;
+import com.sptp.backend.message.service.MessageWriteService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MessageWriterTest {
+
+    @Mock
+    MessageJournal messageJournal;
+
+    @Mock
+    MessageWriteService messageWriteService;
+
+    MessageWriter messageWriter;
+
+    String nodeId = "node";
+
+    @BeforeEach
+    void init() throws Exception {
+        messageWriter = new MessageWriter(messageJournal, messageWriteService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(messageWriter, "queueCapacity", 10);
+        ReflectionTestUtils.setField(messageWriter, "batchSize", 10);
+        ReflectionTestUtils.setField(messageWriter, "enqueueTimeoutMillis", 100L);
+        ReflectionTestUtils.setField(messageWriter, "retryDelayMillis", 10L);
+        ReflectionTestUtils.setField(messageWriter, "shutdownTimeoutSeconds", 2L);
+
+        when(messageJournal.getNodeId()).thenReturn(nodeId);
+        when(messageWriteService.getCheckpoint(nodeId)).thenReturn(0L);
+        when(messageJournal.recover(0L)).thenReturn(List.of());
+        when(messageJournal.append(any(PendingMessage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        messageWriter.init();
+    }
+
+    @AfterEach
+    void close() throws Exception {
+        messageWriter.shutdown();
+    }
+
+    @Test
+    void keepWritingWhenSkipFails() {
+        //given
+        PendingMessage dropped = PendingMessage.builder().seq(1L).chatRoomId(1L).build();
+        PendingMessage next = PendingMessage.builder().seq(2L).chatRoomId(2L).build();
+
+        lenient().doThrow(new DataIntegrityViolationException("deleted chat room")).when(messageWriteService).persist(nodeId, List.of(dropped));
+        doThrow(new RuntimeException()).doNothing().when(messageWriteService).skip(nodeId, dropped);
+
+        //when
+        messageWriter.append(dropped);
+        verify(messageWriteService, timeout(1000).times(2)).skip(nodeId, dropped);
+        messageWriter.append(next);
+
+        //then
+        verify(messageWriteService, timeout(1000)).persist(nodeId, List.of(next));
+    }
+}
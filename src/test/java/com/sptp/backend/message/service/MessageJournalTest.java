@@ -0,0 +1,112 @@
+package com.sptp.backend.message.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sptp.backend.message.repository.PendingMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MessageJournalTest {
+
+    @TempDir
+    Path dir;
+
+    MessageJournal messageJournal;
+
+    @AfterEach
+    void close() throws IOException {
+        messageJournal.close();
+    }
+
+    @Test
+    void recoverMessagesAfterCheckpoint() throws IOException {
+        //given
+        messageJournal = open(16);
+        String nodeId = messageJournal.getNodeId();
+
+        for (int i = 0; i < 3; i++) {
+            messageJournal.append(message("message" + i));
+        }
+        messageJournal.close();
+
+        //when
+        messageJournal = open(16);
+        List<PendingMessage> recovered = messageJournal.recover(1);
+
+        //then
+        assertThat(messageJournal.getNodeId()).isEqualTo(nodeId);
+        assertThat(recovered).extracting(PendingMessage::getSeq).containsExactly(2L, 3L);
+        assertThat(recovered).extracting(PendingMessage::getContent).containsExactly("message1", "message2");
+        assertThat(messageJournal.append(message("message3")).getSeq()).isEqualTo(4L);
+    }
+
+    @Test
+    void releasePersistedSegments() throws IOException {
+        //given
+        messageJournal = open(0); // 메시지마다 새 파일
+
+        for (int i = 0; i < 3; i++) {
+            messageJournal.append(message("message" + i));
+        }
+
+        //when
+        messageJournal.release(2);
+
+        //then
+        assertThat(segments()).containsExactlyInAnyOrder("segment-3.log", "segment-4.log");
+    }
+
+    @Test
+    void advanceToCheckpointWhenJournalIsBehind() throws IOException {
+        //given
+        messageJournal = open(16);
+
+        //when
+        messageJournal.advanceTo(10);
+
+        //then
+        assertThat(messageJournal.append(message("message")).getSeq()).isEqualTo(11L);
+    }
+
+    private MessageJournal open(long segmentSizeMb) throws IOException {
+
+        MessageJournal journal = new MessageJournal(new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(journal, "dir", dir.toString());
+        ReflectionTestUtils.setField(journal, "segmentSizeMb", segmentSizeMb);
+        journal.init();
+
+        return journal;
+    }
+
+    private PendingMessage message(String content) {
+
+        return PendingMessage.builder()
+                .chatRoomId(1L)
+                .senderId(2L)
+                .type("TEXT")
+                .content(content)
+                .isRead(false)
+                .createdDate(LocalDateTime.now())
+                .build();
+    }
+
+    private List<String> segments() throws IOException {
+
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> fileName.startsWith("segment-"))
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -1,29 +1,28 @@
 package com.sptp.backend.message.service;
 
-import com.sptp.backend.art_work.repository.ArtWork;
-import com.sptp.backend.chat_room.repository.ChatRoom;
-import com.sptp.backend.chat_room_connection.repository.ChatRoomConnectionRepository;
-import com.sptp.backend.chat_room.repository.ChatRoomRepository;
+import com.sptp.backend.aws.service.AwsService;
+import com.sptp.backend.aws.service.FileManager;
+import com.sptp.backend.chat_room.service.ChatRoomParticipantCache;
+import com.sptp.backend.chat_room_connection.service.ChatRoomConnectionService;
 import com.sptp.backend.common.exception.CustomException;
 import com.sptp.backend.common.exception.ErrorCode;
-import com.sptp.backend.member.repository.Member;
-import com.sptp.backend.member.repository.MemberRepository;
-import com.sptp.backend.message.repository.Message;
-import com.sptp.backend.message.repository.MessageRepository;
-import com.sptp.backend.message.web.dto.MessageRequest;
+import com.sptp.backend.message.repository.MessageType;
+import com.sptp.backend.message.repository.PendingMessage;
+import com.sptp.backend.message.schedule.MessageWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
-import java.util.Optional;
+import org.springframework.mock.web.MockMultipartFile;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class MessageServiceTest {
@@ -32,102 +31,175 @@ class MessageServiceTest {
     MessageService messageService;
 
     @Mock
-    ChatRoomRepository chatRoomRepository;
+    ChatRoomParticipantCache chatRoomParticipantCache;
 
     @Mock
-    ChatRoomConnectionRepository chatRoomConnectionRepository;
+    ChatRoomConnectionService chatRoomConnectionService;
 
     @Mock
-    MemberRepository memberRepository;
+    MessageWriter messageWriter;
 
     @Mock
-    MessageRepository messageRepository;
+    FileManager fileManager;
 
+    @Mock
+    AwsService awsService;
 
     @Nested
     class saveMessageTest {
         long senderId = 1L;
         long receiverId = 2L;
-        long artWorkId = 3L;
         long chatRoomId = 4L;
-        Member sender;
-        Member receiver;
-        ArtWork artWork;
-        ChatRoom chatRoom;
+        ChatRoomParticipantCache.Participants participants;
 
         @BeforeEach
         void init() {
-            sender = Member.builder()
-                    .id(senderId)
-                    .userId("sender")
-                    .password("12345678")
-                    .build();
-
-            receiver = Member.builder()
-                    .id(receiverId)
-                    .userId("receiver")
-                    .password("12345678")
-                    .build();
-
-            artWork = ArtWork.builder()
-                    .id(artWorkId)
-                    .build();
-
-            chatRoom = ChatRoom.builder()
-                    .id(chatRoomId)
-                    .artist(sender)
-                    .member(receiver)
-                    .artWork(artWork)
-                    .build();
+            participants = new ChatRoomParticipantCache.Participants(senderId, receiverId);
         }
 
         @Test
         void success() {
             //given
-            when(memberRepository.findById(senderId))
-                    .thenReturn(Optional.of(sender));
+            ArgumentCaptor<PendingMessage> captor = ArgumentCaptor.forClass(PendingMessage.class);
 
-            when(chatRoomRepository.findById(chatRoomId))
-                    .thenReturn(Optional.of(chatRoom));
+            when(chatRoomParticipantCache.get(chatRoomId))
+                    .thenReturn(participants);
 
-            when(messageRepository.save(any(Message.class)))
-                    .thenReturn(Message.builder().build());
-
-            when(chatRoomConnectionRepository.countByChatRoomId(chatRoomId))
-                    .thenReturn(2);
+            when(chatRoomConnectionService.isConnected(chatRoomId, receiverId))
+                    .thenReturn(true);
 
             //when
+            messageService.saveMessage(senderId, chatRoomId, "message");
+
             //then
-            assertThatNoException().isThrownBy(() -> messageService.saveMessage(senderId, chatRoomId, "message"));
+            verify(messageWriter).append(captor.capture());
+            assertThat(captor.getValue().getChatRoomId()).isEqualTo(chatRoomId);
+            assertThat(captor.getValue().getSenderId()).isEqualTo(senderId);
+            assertThat(captor.getValue().getType()).isEqualTo(MessageType.TEXT.name());
+            assertThat(captor.getValue().getContent()).isEqualTo("message");
+            assertThat(captor.getValue().getIsRead()).isTrue();
         }
 
         @Test
-        void failByNotFoundMember() {
+        void failByNotChatRoomMember() {
             //given
-            when(memberRepository.findById(senderId))
-                    .thenReturn(Optional.empty());
+            when(chatRoomParticipantCache.get(chatRoomId))
+                    .thenReturn(participants);
 
             //when
             //then
-            assertThatThrownBy(() -> messageService.saveMessage(senderId, chatRoomId, "message"))
+            assertThatThrownBy(() -> messageService.saveMessage(3L, chatRoomId, "message"))
                     .isInstanceOf(CustomException.class)
-                    .message().isEqualTo(ErrorCode.NOT_FOUND_MEMBER.getDetail());
+                    .message().isEqualTo(ErrorCode.NOT_CHAT_ROOM_MEMBER.getDetail());
+            verifyNoInteractions(messageWriter);
         }
 
         @Test
         void failByNotFoundChatRoom() {
             //given
-            when(memberRepository.findById(senderId))
-                    .thenReturn(Optional.of(sender));
-
-            when(chatRoomRepository.findById(chatRoomId))
-                    .thenReturn(Optional.empty());
+            when(chatRoomParticipantCache.get(chatRoomId))
+                    .thenThrow(new CustomException(ErrorCode.NOT_FOUND_CHAT_ROOM));
 
             //when
             //then
             assertThatThrownBy(() -> messageService.saveMessage(senderId, chatRoomId, "message"))
                     .isInstanceOf(CustomException.class)
                     .message().isEqualTo(ErrorCode.NOT_FOUND_CHAT_ROOM.getDetail());
+            verifyNoInteractions(messageWriter);
+        }
+    }
+
+    @Nested
+    class chatImageTest {
+        long artistId = 1L;
+        long memberId = 2L;
+        long chatRoomId = 4L;
+        ChatRoomParticipantCache.Participants participants = new ChatRoomParticipantCache.Participants(artistId, memberId);
+        MockMultipartFile image = new MockMultipartFile("image", "image.png", "image/png", new byte[]{1, 2, 3});
+
+        @Test
+        void uploadImage() throws Exception {
+            //given
+            when(chatRoomParticipantCache.get(chatRoomId)).thenReturn(participants);
+            when(fileManager.extractExtension("image.png")).thenReturn("png");
+            when(fileManager.getImageContentType("png")).thenReturn("image/png");
+
+            //when
+            String imageKey = messageService.uploadImage(memberId, chatRoomId, image);
+
+            //then
+            assertThat(imageKey).startsWith("chat-rooms/" + chatRoomId + "/").endsWith(".png");
+            verify(awsService).uploadImage(imageKey, image, "image/png");
+        }
+
+        @Test
+        void failUploadByNotImageContentType() throws Exception {
+            //given
+            MockMultipartFile html = new MockMultipartFile("image", "image.png", "text/html", new byte[]{1, 2, 3});
+            when(chatRoomParticipantCache.get(chatRoomId)).thenReturn(participants);
+
+            //when
+            //then
+            assertThatThrownBy(() -> messageService.uploadImage(memberId, chatRoomId, html))
+                    .isInstanceOf(CustomException.class)
+                    .message().isEqualTo(ErrorCode.NOT_VALID_UPLOAD_REQUEST.getDetail());
+            verify(awsService, never()).uploadImage(anyString(), any(), anyString());
+        }
+
+        @Test
+        void failUploadByNotAllowedExtension() throws Exception {
+            //given
+            MockMultipartFile svg = new MockMultipartFile("image", "image.svg", "image/svg+xml", new byte[]{1, 2, 3});
+            when(chatRoomParticipantCache.get(chatRoomId)).thenReturn(participants);
+            when(fileManager.extractExtension("image.svg")).thenReturn("svg");
+
+            //when
+            //then
+            assertThatThrownBy(() -> messageService.uploadImage(memberId, chatRoomId, svg))
+                    .isInstanceOf(CustomException.class)
+                    .message().isEqualTo(ErrorCode.NOT_VALID_UPLOAD_REQUEST.getDetail());
+            verify(awsService, never()).uploadImage(anyString(), any(), anyString());
+        }
+
+        @Test
+        void failUploadByNotChatRoomMember() throws Exception {
+            //given
+            when(chatRoomParticipantCache.get(chatRoomId)).thenReturn(participants);
+
+            //when
+            //then
+            assertThatThrownBy(() -> messageService.uploadImage(3L, chatRoomId, image))
+                    .isInstanceOf(CustomException.class)
+                    .message().isEqualTo(ErrorCode.NOT_CHAT_ROOM_MEMBER.getDetail());
+            verify(awsService, never()).uploadImage(anyString(), any(), anyString());
+        }
+
+        @Test
+        void saveImage() {
+            //given
+            String imageKey = "chat-rooms/" + chatRoomId + "/image.png";
+            when(chatRoomParticipantCache.get(chatRoomId)).thenReturn(participants);
+            when(chatRoomConnectionService.isConnected(chatRoomId, artistId)).thenReturn(true);
+            when(fileManager.getFullPath(imageKey)).thenReturn("https://storage/" + imageKey);
+
+            //when
+            messageService.saveImage(memberId, chatRoomId, imageKey);
+
+            //then
+            verify(messageWriter).append(argThat(message -> imageKey.equals(message.getContent())));
+        }
+
+        @Test
+        void failSaveByKeyOfOtherChatRoom() {
+            //given
+            String imageKey = "chat-rooms/5/image.png";
+
+            //when
+            //then
+            assertThatThrownBy(() -> messageService.saveImage(memberId, chatRoomId, imageKey))
+                    .isInstanceOf(CustomException.class)
+                    .message().isEqualTo(ErrorCode.NOT_VALID_CHAT_IMAGE.getDetail());
+            verifyNoInteractions(messageWriter);
         }
     }
-}
\ No newline at end of file
+}
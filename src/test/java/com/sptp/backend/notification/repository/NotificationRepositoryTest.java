@@ -0,0 +1,188 @@
+package com.sptp.backend.notification.repository;
+
+import com.sptp.backend.common.NotificationCode;
+import com.sptp.backend.common.config.DBConfig;
+import com.sptp.backend.common.config.PropertyConfig;
+import com.sptp.backend.member.repository.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Import({DBConfig.class, PropertyConfig.class})
+class NotificationRepositoryTest {
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    NotificationRepository notificationRepository;
+
+    @Autowired
+    NotificationArchiveRepository notificationArchiveRepository;
+
+    Member outbidMember;
+    Member newBidder;
+    Long artWorkId = 1L;
+
+    @BeforeEach
+    void init() {
+        outbidMember = Member.builder().nickname("outbid").build();
+        newBidder = Member.builder().nickname("new").build();
+
+        entityManager.persist(outbidMember);
+        entityManager.persist(newBidder);
+        entityManager.persist(createNotification(outbidMember, true));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void upsertAllInBatch() {
+        //given
+        List<Notification> notifications = List.of(createNotification(outbidMember, false), createNotification(newBidder, false));
+
+        //when
+        notificationRepository.upsertAllInBatch(notifications);
+
+        //then
+        List<Notification> results = notificationRepository.findAll();
+
+        assertThat(results)
+                .extracting(notification -> notification.getMember().getId(), Notification::getChecked)
+                .containsExactlyInAnyOrder(
+                        tuple(outbidMember.getId(), false),
+                        tuple(newBidder.getId(), false));
+    }
+
+    @Test
+    void returnSavedNotificationsWithIdAndModifiedDate() {
+        //given
+        List<Notification> notifications = List.of(createNotification(outbidMember, false), createNotification(newBidder, false));
+
+        //when
+        List<Notification> saved = notificationRepository.upsertAllInBatch(notifications);
+
+        //then
+        assertThat(saved)
+                .extracting(notification -> notification.getMember().getId())
+                .containsExactlyInAnyOrder(outbidMember.getId(), newBidder.getId());
+        assertThat(saved).allSatisfy(notification -> {
+            assertThat(notification.getId()).isNotNull();
+            assertThat(notification.getModifiedDate()).isNotNull();
+        });
+    }
+
+    @Test
+    void returnOnlyNotificationsOfThisBatch() {
+        //given
+        notificationRepository.saveAllInBatch(List.of(createNotification(newBidder, false)));
+
+        //when
+        List<Notification> saved = notificationRepository.saveAllInBatch(List.of(createNotification(newBidder, false)));
+
+        //then
+        assertThat(notificationRepository.findAll()).filteredOn(notification -> notification.getMember().getId().equals(newBidder.getId())).hasSize(2);
+        assertThat(saved).hasSize(1);
+    }
+
+    @Test
+    void findNotificationListByCursorAndReadOnlyThePage() {
+        //given
+        notificationRepository.saveAllInBatch(List.of(
+                createNotification(newBidder, false), createNotification(newBidder, false), createNotification(newBidder, false)));
+
+        //when
+        List<Notification> firstPage = notificationRepository.findNotificationList(newBidder.getId(), null, null, 2);
+        Notification last = firstPage.get(firstPage.size() - 1);
+        long readCount = notificationRepository.updateCheckedInRange(newBidder.getId(), firstPage.get(0), last);
+
+        entityManager.clear();
+        List<Notification> secondPage = notificationRepository.findNotificationList(newBidder.getId(), last.getModifiedDate(), last.getId(), 2);
+
+        //then
+        assertThat(firstPage).hasSize(2);
+        assertThat(firstPage.get(0).getId()).isGreaterThan(last.getId());
+        assertThat(readCount).isEqualTo(2);
+        assertThat(secondPage)
+                .extracting(Notification::getChecked)
+                .containsExactly(false);
+        assertThat(notificationRepository.countByMemberAndChecked(newBidder, false)).isEqualTo(1);
+    }
+
+    @Test
+    void findRedundantIdsExceptLatest() {
+        //given
+        notificationRepository.saveAllInBatch(List.of(
+                createNotification(outbidMember, false), createNotification(outbidMember, false), createNotification(newBidder, false)));
+
+        List<Long> outbidMemberIds = notificationRepository.findAll().stream()
+                .filter(notification -> notification.getMember().getId().equals(outbidMember.getId()))
+                .map(Notification::getId)
+                .sorted()
+                .collect(Collectors.toList());
+
+        //when
+        List<Long> redundantIds = notificationRepository.findRedundantIds(0L, 10);
+
+        //then
+        assertThat(redundantIds).containsExactly(outbidMemberIds.get(0), outbidMemberIds.get(1));
+    }
+
+    @Test
+    void archiveAll() {
+        //given
+        entityManager.createNativeQuery("update notification set modified_date = ?")
+                .setParameter(1, LocalDateTime.now().minusDays(100))
+                .executeUpdate();
+
+        //when
+        List<Long> archiveIds = notificationRepository.findArchiveTargetIds(LocalDateTime.now().minusDays(90), 10);
+        notificationRepository.archiveAll(archiveIds);
+        notificationRepository.deleteAllByIdInBatch(archiveIds);
+
+        //then
+        assertThat(notificationRepository.findAll()).isEmpty();
+        assertThat(notificationArchiveRepository.findAll())
+                .extracting(NotificationArchive::getMemberId, NotificationArchive::getChecked)
+                .containsExactly(tuple(outbidMember.getId(), true));
+    }
+
+    @Test
+    void findUncheckedMemberIdsOfDeleteTargets() {
+        //given
+        notificationRepository.saveAllInBatch(List.of(createNotification(newBidder, false)));
+
+        List<Long> notificationIds = notificationRepository.findAll().stream()
+                .map(Notification::getId)
+                .collect(Collectors.toList());
+
+        //when
+        List<Long> memberIds = notificationRepository.findUncheckedMemberIds(notificationIds);
+
+        //then
+        assertThat(memberIds).containsExactly(newBidder.getId()); // 읽은 알림만 가진 회원은 제외
+    }
+
+    private Notification createNotification(Member member, boolean checked) {
+
+        return Notification.builder()
+                .member(member)
+                .title(NotificationCode.STILL_BID.getTitle())
+                .message("title" + NotificationCode.STILL_BID.getMessage())
+                .details(NotificationCode.STILL_BID.getDetails())
+                .data(artWorkId)
+                .checked(checked)
+                .build();
+    }
+}
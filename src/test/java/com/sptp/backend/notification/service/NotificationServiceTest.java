@@ -0,0 +1,187 @@
+package com.sptp.backend.notification.service;
+
+import com.sptp.backend.member.repository.Member;
+import com.sptp.backend.notification.repository.Notification;
+import com.sptp.backend.notification.repository.NotificationRepository;
+import com.sptp.backend.notification.web.dto.response.NotificationListResponse;
+import com.sptp.backend.notification.web.dto.response.NotificationNewResponse;
+import com.sptp.backend.notification.web.dto.response.NotificationResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    @InjectMocks
+    NotificationService notificationService;
+
+    @Mock
+    NotificationRepository notificationRepository;
+
+    @Mock
+    StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    SimpMessagingTemplate simpMessagingTemplate;
+
+    @Mock
+    ValueOperations<String, String> valueOperations;
+
+    Member member;
+    String versionKey = "notification:unread:version:1";
+    String unreadCountKey = "notification:unread:1:3";
+
+    @BeforeEach
+    void init() {
+        member = Member.builder()
+                .id(1L)
+                .roles(List.of("ROLE_USER"))
+                .build();
+
+        ReflectionTestUtils.setField(notificationService, "unreadCountTtlMinutes", 10L);
+    }
+
+    @Nested
+    class GetNotificationNewTest {
+
+        @Test
+        void answerFromCachedUnreadCount() {
+            //given
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(versionKey)).thenReturn("3");
+            when(valueOperations.get(unreadCountKey)).thenReturn("3");
+
+            //when
+            NotificationNewResponse response = notificationService.getNotificationNew(member);
+
+            //then
+            assertThat(response.getNewNotification()).isTrue();
+            assertThat(response.getIsArtist()).isFalse();
+            verifyNoInteractions(notificationRepository);
+        }
+
+        @Test
+        void countAndCacheWhenNotCached() {
+            //given
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(versionKey)).thenReturn("3");
+            when(valueOperations.get(unreadCountKey)).thenReturn(null);
+            when(notificationRepository.countByMemberAndChecked(member, false)).thenReturn(0L);
+
+            //when
+            NotificationNewResponse response = notificationService.getNotificationNew(member);
+
+            //then
+            assertThat(response.getNewNotification()).isFalse();
+            verify(valueOperations).set(unreadCountKey, "0", Duration.ofMinutes(10));
+        }
+
+        @Test
+        void countFromDbWhenRedisFails() {
+            //given
+            when(stringRedisTemplate.opsForValue()).thenThrow(new RuntimeException());
+            when(notificationRepository.countByMemberAndChecked(member, false)).thenReturn(2L);
+
+            //when
+            NotificationNewResponse response = notificationService.getNotificationNew(member);
+
+            //then
+            assertThat(response.getNewNotification()).isTrue();
+        }
+    }
+
+    @Test
+    void readOnlyFetchedPageInOneUpdate() {
+        //given
+        Notification first = Notification.builder().id(3L).member(member).checked(false).build();
+        Notification second = Notification.builder().id(2L).member(member).checked(false).build();
+        Notification extra = Notification.builder().id(1L).member(member).checked(false).build();
+
+        when(notificationRepository.findNotificationList(1L, null, null, 3))
+                .thenReturn(new ArrayList<>(List.of(first, second, extra)));
+        when(notificationRepository.updateCheckedInRange(1L, first, second)).thenReturn(2L);
+
+        //when
+        NotificationListResponse response = notificationService.getNotificationList(1L, null, null, PageRequest.of(0, 2));
+
+        //then
+        assertThat(response.isNextPage()).isTrue();
+        assertThat(response.getNotifications())
+                .extracting(NotificationResponse::getId)
+                .containsExactly(3L, 2L);
+        verifyUnreadCountVersionIncreased();
+    }
+
+    @Test
+    void evictUnreadCountAndPushNewNotification() {
+        //given
+        Notification notification = Notification.builder()
+                .member(member)
+                .title("title")
+                .message("message")
+                .checked(false)
+                .build();
+
+        //when
+        notificationService.notifyAfterCommit(notification);
+
+        //then
+        verifyUnreadCountVersionIncreased();
+        verify(simpMessagingTemplate).convertAndSend(eq(NotificationService.getDestination(1L)), any(NotificationResponse.class));
+    }
+
+    @Test
+    void evictUnreadCountWhenDeleteUncheckedNotification() {
+        //given
+        Notification notification = Notification.builder()
+                .id(1L)
+                .member(member)
+                .checked(false)
+                .build();
+
+        when(notificationRepository.findById(1L)).thenReturn(Optional.of(notification));
+
+        //when
+        notificationService.deleteNotification(1L);
+
+        //then
+        verify(notificationRepository).deleteById(1L);
+        verifyUnreadCountVersionIncreased();
+    }
+
+    // 파이프라인으로 보낸 명령을 모의 연결에 실행해 회원의 버전 키를 올렸는지 확인
+    @SuppressWarnings("unchecked")
+    private void verifyUnreadCountVersionIncreased() {
+
+        ArgumentCaptor<RedisCallback<Object>> captor = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(stringRedisTemplate).executePipelined(captor.capture());
+
+        StringRedisConnection connection = mock(StringRedisConnection.class);
+        captor.getValue().doInRedis(connection);
+
+        verify(connection).incr(versionKey);
+    }
+}
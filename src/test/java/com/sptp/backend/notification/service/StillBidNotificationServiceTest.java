@@ -0,0 +1,66 @@
+package com.sptp.backend.notification.service;
+
+import com.sptp.backend.bidding.repository.BiddingRepository;
+import com.sptp.backend.notification.repository.Notification;
+import com.sptp.backend.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StillBidNotificationServiceTest {
+
+    @InjectMocks
+    StillBidNotificationService stillBidNotificationService;
+
+    @Mock
+    BiddingRepository biddingRepository;
+
+    @Mock
+    NotificationRepository notificationRepository;
+
+    @Mock
+    NotificationService notificationService;
+
+    Long artWorkId = 1L;
+
+    @Test
+    void notifyOutbidMembers() {
+        //given
+        ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+        when(biddingRepository.findOutbidMemberIds(artWorkId)).thenReturn(List.of(2L, 3L));
+        when(notificationRepository.upsertAllInBatch(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        //when
+        stillBidNotificationService.notify(artWorkId, "title");
+
+        //then
+        verify(notificationRepository).upsertAllInBatch(captor.capture());
+        verify(notificationService).notifyAfterCommit(captor.getValue());
+
+        assertThat(captor.getValue())
+                .extracting(notification -> notification.getMember().getId())
+                .containsExactly(2L, 3L);
+    }
+
+    @Test
+    void notNotifyWithoutOutbidMembers() {
+        //given
+        when(biddingRepository.findOutbidMemberIds(artWorkId)).thenReturn(List.of());
+
+        //when
+        stillBidNotificationService.notify(artWorkId, "title");
+
+        //then
+        verify(notificationRepository, never()).upsertAllInBatch(any());
+    }
+}
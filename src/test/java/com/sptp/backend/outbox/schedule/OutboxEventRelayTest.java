@@ -0,0 +1,71 @@
+package com.sptp.backend.outbox.schedule;
+
+import com.sptp.backend.outbox.repository.OutboxEventType;
+import com.sptp.backend.outbox.service.OutboxEventService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventRelayTest {
+
+    @Mock
+    OutboxEventService outboxEventService;
+
+    OutboxEventRelay outboxEventRelay;
+    CountDownLatch messageLaneReleased = new CountDownLatch(1);
+
+    @BeforeEach
+    void init() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("outbox.relay.lanes.auction.batch-size", "10");
+
+        outboxEventRelay = new OutboxEventRelay(outboxEventService, new SimpleMeterRegistry(), environment);
+        ReflectionTestUtils.setField(outboxEventRelay, "batchSize", 100);
+        ReflectionTestUtils.setField(outboxEventRelay, "pollIntervalMillis", 60_000L);
+        ReflectionTestUtils.setField(outboxEventRelay, "retryDelayMillis", 1_000L);
+    }
+
+    @AfterEach
+    void close() {
+        messageLaneReleased.countDown();
+        outboxEventRelay.shutdown();
+    }
+
+    @Test
+    void relayOtherTypesWhileMessageLaneIsBusy() {
+        //given
+        lenient().when(outboxEventService.relay(any(OutboxEventType.class), anyInt())).thenReturn(emptyResult());
+        when(outboxEventService.relay(eq(OutboxEventType.MESSAGE), anyInt())).thenAnswer(invocation -> {
+            messageLaneReleased.await();
+            return emptyResult();
+        });
+
+        //when
+        outboxEventRelay.init();
+
+        //then
+        verify(outboxEventService, timeout(1000)).relay(OutboxEventType.MESSAGE, 100);
+        verify(outboxEventService, timeout(1000)).relay(OutboxEventType.AUCTION, 10);
+        verify(outboxEventService, timeout(1000)).relay(OutboxEventType.ART_WORK, 100);
+        verify(outboxEventService, timeout(1000)).relay(OutboxEventType.MEMBER, 100);
+    }
+
+    private OutboxEventService.RelayResult emptyResult() {
+        return new OutboxEventService.RelayResult(0, 0, 0, false, Collections.emptyList());
+    }
+}
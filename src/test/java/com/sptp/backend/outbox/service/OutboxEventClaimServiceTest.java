@@ -0,0 +1,98 @@
+package com.sptp.backend.outbox.service;
+
+import com.sptp.backend.common.NotificationCode;
+import com.sptp.backend.outbox.repository.OutboxEvent;
+import com.sptp.backend.outbox.repository.OutboxEventRepository;
+import com.sptp.backend.outbox.repository.OutboxEventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventClaimServiceTest {
+
+    @InjectMocks
+    OutboxEventClaimService outboxEventClaimService;
+
+    @Mock
+    OutboxEventRepository outboxEventRepository;
+
+    int batchSize = 100;
+
+    @BeforeEach
+    void init() {
+        ReflectionTestUtils.setField(outboxEventClaimService, "leaseSeconds", 60L);
+        ReflectionTestUtils.setField(outboxEventClaimService, "stillBidWindowMillis", 3000L);
+    }
+
+    @Test
+    void claimOnlyStillBidsOlderThanWindow() {
+        //given
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> stillBidBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(outboxEventRepository.findRelayTargets(eq(OutboxEventType.ART_WORK), now.capture(), stillBidBefore.capture(), eq(batchSize)))
+                .thenReturn(List.of());
+
+        //when
+        outboxEventClaimService.claim(OutboxEventType.ART_WORK, batchSize);
+
+        //then
+        assertThat(Duration.between(stillBidBefore.getValue(), now.getValue())).isEqualTo(Duration.ofMillis(3000));
+        verify(outboxEventRepository, never()).updateClaimedUntil(any(), any());
+    }
+
+    @Test
+    void claimLaterStillBidsOfSameArtWorkTogether() {
+        //given
+        OutboxEvent expired = createStillBidEvent(1L, 10L);
+        OutboxEvent other = createOutboxEvent(2L);
+        OutboxEvent recent = createStillBidEvent(3L, 10L);
+
+        when(outboxEventRepository.findRelayTargets(eq(OutboxEventType.ART_WORK), any(), any(), anyInt())).thenReturn(List.of(expired, other));
+        when(outboxEventRepository.findPendingStillBids(eq(List.of(10L)), any())).thenReturn(List.of(expired, recent));
+
+        //when
+        List<OutboxEvent> claimed = outboxEventClaimService.claim(OutboxEventType.ART_WORK, batchSize);
+
+        //then
+        assertThat(claimed).extracting(OutboxEvent::getId).containsExactly(1L, 2L, 3L);
+        verify(outboxEventRepository).updateClaimedUntil(eq(List.of(1L, 2L, 3L)), any());
+    }
+
+    private OutboxEvent createStillBidEvent(Long id, Long artWorkId) {
+
+        return OutboxEvent.builder()
+                .id(id)
+                .type(OutboxEventType.ART_WORK)
+                .notificationCode(NotificationCode.STILL_BID)
+                .memberId(1L)
+                .artWorkId(artWorkId)
+                .build();
+    }
+
+    private OutboxEvent createOutboxEvent(Long id) {
+
+        return OutboxEvent.builder()
+                .id(id)
+                .type(OutboxEventType.ART_WORK)
+                .notificationCode(NotificationCode.SUGGEST_BID)
+                .memberId(1L)
+                .artWorkId(20L)
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.sptp.backend.outbox.service;
+
+import com.sptp.backend.common.NotificationCode;
+import com.sptp.backend.outbox.repository.OutboxEvent;
+import com.sptp.backend.outbox.repository.OutboxEventType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventServiceTest {
+
+    @InjectMocks
+    OutboxEventService outboxEventService;
+
+    @Mock
+    OutboxEventClaimService outboxEventClaimService;
+
+    @Mock
+    OutboxEventDispatcher outboxEventDispatcher;
+
+    int batchSize = 100;
+
+    @Test
+    void relayInOrderAndDelete() {
+        //given
+        OutboxEvent first = createOutboxEvent(1L);
+        OutboxEvent second = createOutboxEvent(2L);
+
+        when(outboxEventClaimService.claim(OutboxEventType.MEMBER, batchSize)).thenReturn(List.of(first, second));
+
+        //when
+        OutboxEventService.RelayResult result = outboxEventService.relay(OutboxEventType.MEMBER, batchSize);
+
+        //then
+        verify(outboxEventDispatcher).dispatch(first);
+        verify(outboxEventDispatcher).dispatch(second);
+        verify(outboxEventClaimService).complete(List.of(1L, 2L), List.of());
+        assertThat(result.getRelayedCount()).isEqualTo(2);
+        assertThat(result.isBlocked()).isFalse();
+    }
+
+    @Test
+    void stopAtFailedEventToKeepOrder() {
+        //given
+        OutboxEvent first = createOutboxEvent(1L);
+        OutboxEvent second = createOutboxEvent(2L);
+
+        when(outboxEventClaimService.claim(OutboxEventType.MEMBER, batchSize)).thenReturn(List.of(first, second));
+        doThrow(new RuntimeException()).when(outboxEventDispatcher).dispatch(first);
+        when(outboxEventClaimService.fail(1L)).thenReturn(false);
+
+        //when
+        OutboxEventService.RelayResult result = outboxEventService.relay(OutboxEventType.MEMBER, batchSize);
+
+        //then
+        verify(outboxEventDispatcher, never()).dispatch(second);
+        verify(outboxEventClaimService).complete(List.of(), List.of(2L));
+        assertThat(result.isBlocked()).isTrue();
+    }
+
+    @Test
+    void skipEventAfterMaxAttempts() {
+        //given
+        OutboxEvent first = createOutboxEvent(1L);
+        OutboxEvent second = createOutboxEvent(2L);
+
+        when(outboxEventClaimService.claim(OutboxEventType.MEMBER, batchSize)).thenReturn(List.of(first, second));
+        doThrow(new RuntimeException()).when(outboxEventDispatcher).dispatch(first);
+        when(outboxEventClaimService.fail(1L)).thenReturn(true);
+
+        //when
+        OutboxEventService.RelayResult result = outboxEventService.relay(OutboxEventType.MEMBER, batchSize);
+
+        //then
+        verify(outboxEventClaimService).complete(List.of(2L), List.of());
+        assertThat(result.getFailedCount()).isEqualTo(1);
+        assertThat(result.isBlocked()).isFalse();
+    }
+
+    @Test
+    void coalesceStillBidsByArtWork() {
+        //given
+        OutboxEvent first = createStillBidEvent(1L, 10L);
+        OutboxEvent second = createStillBidEvent(2L, 20L);
+        OutboxEvent third = createStillBidEvent(3L, 10L);
+
+        when(outboxEventClaimService.claim(OutboxEventType.ART_WORK, batchSize)).thenReturn(List.of(first, second, third));
+
+        //when
+        OutboxEventService.RelayResult result = outboxEventService.relay(OutboxEventType.ART_WORK, batchSize);
+
+        //then
+        verify(outboxEventDispatcher, never()).dispatch(first);
+        verify(outboxEventDispatcher).dispatch(second);
+        verify(outboxEventDispatcher).dispatch(third);
+        verify(outboxEventClaimService).complete(List.of(1L, 2L, 3L), List.of());
+        assertThat(result.getRelayedCount()).isEqualTo(3);
+    }
+
+    private OutboxEvent createOutboxEvent(Long id) {
+
+        return OutboxEvent.builder()
+                .id(id)
+                .type(OutboxEventType.MEMBER)
+                .notificationCode(NotificationCode.MEMBER_TO_ARTIST)
+                .memberId(1L)
+                .build();
+    }
+
+    private OutboxEvent createStillBidEvent(Long id, Long artWorkId) {
+
+        return OutboxEvent.builder()
+                .id(id)
+                .type(OutboxEventType.ART_WORK)
+                .notificationCode(NotificationCode.STILL_BID)
+                .memberId(1L)
+                .artWorkId(artWorkId)
+                .build();
+    }
+}